@@ -0,0 +1,95 @@
+package com.magno.admin.catalogo.application;
+
+import com.magno.admin.catalogo.application.metrics.Counter;
+import com.magno.admin.catalogo.application.metrics.LatencyRecorder;
+import com.magno.admin.catalogo.application.metrics.MetricsRegistry;
+import com.magno.admin.catalogo.application.metrics.ValidationFailureCounters;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.exceptions.DomainException;
+import com.magno.admin.catalogo.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+
+/**
+ * Records the latency and failures of every execution of a use case, under {@code usecase.<name>.*}, and counts the
+ * validation errors it reports, either thrown in a {@link DomainException} or returned in a {@link BatchResult}.
+ * Conflicts and missing categories are not validation errors; they go to {@code usecase.<name>.conflicts} and
+ * {@code usecase.<name>.not_found}, whether thrown or reported per batch item.
+ */
+public class InstrumentedUseCase<IN, OUT> extends UseCase<IN, OUT> {
+
+    private final UseCase<IN, OUT> delegate;
+    private final LatencyRecorder latency;
+    private final Counter failures;
+    private final Counter conflicts;
+    private final Counter notFound;
+    private final ValidationFailureCounters validationFailures;
+
+    public InstrumentedUseCase(
+            final UseCase<IN, OUT> delegate,
+            final MetricsRegistry registry,
+            final ValidationFailureCounters validationFailures
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.validationFailures = Objects.requireNonNull(validationFailures);
+
+        final var name = "usecase." + nameOf(delegate.getClass());
+        this.latency = registry.latency(name + ".latency");
+        this.failures = registry.counter(name + ".failures");
+        this.conflicts = registry.counter(name + ".conflicts");
+        this.notFound = registry.counter(name + ".not_found");
+    }
+
+    public static <IN, OUT> InstrumentedUseCase<IN, OUT> of(final UseCase<IN, OUT> delegate, final MetricsRegistry registry) {
+        return new InstrumentedUseCase<>(delegate, registry, new ValidationFailureCounters(registry));
+    }
+
+    @Override
+    public OUT execute(final IN anIn) {
+        final var start = System.nanoTime();
+        try {
+            final var output = this.delegate.execute(anIn);
+            if (output instanceof BatchResult<?> result) {
+                count(result);
+            }
+            return output;
+        } catch (final ConflictException ex) {
+            this.failures.increment();
+            this.conflicts.increment();
+            throw ex;
+        } catch (final NotFoundException ex) {
+            this.failures.increment();
+            this.notFound.increment();
+            throw ex;
+        } catch (final DomainException ex) {
+            this.failures.increment();
+            this.validationFailures.count(ex.getErrors());
+            throw ex;
+        } catch (final RuntimeException | Error ex) {
+            this.failures.increment();
+            throw ex;
+        } finally {
+            this.latency.recordSince(start);
+        }
+    }
+
+    private void count(final BatchResult<?> result) {
+        final var items = result.items();
+        for (int i = 0; i < items.size(); i++) {
+            final var item = items.get(i);
+            switch (item.status()) {
+                case INVALID -> this.validationFailures.count(item.errors());
+                case CONFLICT -> this.conflicts.increment();
+                case NOT_FOUND -> this.notFound.increment();
+                default -> {
+                }
+            }
+        }
+    }
+
+    static String nameOf(final Class<?> aUseCase) {
+        final var simpleName = aUseCase.getSimpleName();
+        return simpleName.isEmpty() ? aUseCase.getName().substring(aUseCase.getName().lastIndexOf('.') + 1) : simpleName;
+    }
+}
@@ -1,10 +1,6 @@
 package com.magno.admin.catalogo.application;
 
+public abstract class UseCase<IN, OUT> {
 
-import com.magno.admin.catalogo.domain.category.Category;
-
-public class UseCase {
-    public Category execute(String name, String description, boolean isActive) {
-        return Category.newCategory(name, description, isActive);
-    }
-}
\ No newline at end of file
+    public abstract OUT execute(IN anIn);
+}
@@ -0,0 +1,253 @@
+package com.magno.admin.catalogo.application;
+
+import com.magno.admin.catalogo.application.metrics.Counter;
+import com.magno.admin.catalogo.application.metrics.LatencyRecorder;
+import com.magno.admin.catalogo.application.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs use cases concurrently, one thread per execution. Virtual threads are used when the runtime has them, so
+ * executions blocked on gateway I/O do not hold a platform thread; older runtimes fall back to a cached pool.
+ * <p>
+ * Each use case class can get a {@link Policy}: a concurrency limit, enforced with a semaphore so that excess
+ * executions wait for a permit instead of overloading the gateway behind it, and a timeout covering both the wait and
+ * the run. Limits are kept per class, like the metrics, so every instance of a use case shares them and creating
+ * instances per request does not grow the executor.
+ * A timed out execution is interrupted. Given a {@link MetricsRegistry}, the time spent waiting for a permit and the
+ * number of timeouts are recorded under {@code usecase.<name>.*}.
+ */
+public class UseCaseExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Policy defaultPolicy;
+    private final MetricsRegistry metrics;
+    private final Map<Class<?>, Limits> limits = new ConcurrentHashMap<>();
+
+    public UseCaseExecutor() {
+        this(Policy.unbounded());
+    }
+
+    public UseCaseExecutor(final Policy defaultPolicy) {
+        this(newThreadPerTaskExecutor(), defaultPolicy);
+    }
+
+    public UseCaseExecutor(final ExecutorService executor, final Policy defaultPolicy) {
+        this(executor, defaultPolicy, MetricsRegistry.noop());
+    }
+
+    public UseCaseExecutor(final ExecutorService executor, final Policy defaultPolicy, final MetricsRegistry metrics) {
+        this.executor = Objects.requireNonNull(executor);
+        this.defaultPolicy = Objects.requireNonNull(defaultPolicy);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public UseCaseExecutor withPolicy(final UseCase<?, ?> aUseCase, final Policy aPolicy) {
+        this.limits.put(aUseCase.getClass(), newLimits(aUseCase.getClass(), aPolicy));
+        return this;
+    }
+
+    /**
+     * Runs the use case and waits for it, rethrowing whatever it threw, or {@link UseCaseTimeoutException}.
+     */
+    public <IN, OUT> OUT execute(final UseCase<IN, OUT> aUseCase, final IN anIn) {
+        return join(executeAsync(aUseCase, anIn));
+    }
+
+    /**
+     * Runs the use case once per input, concurrently, and returns the outputs in input order.
+     */
+    public <IN, OUT> List<OUT> executeAll(final UseCase<IN, OUT> aUseCase, final List<IN> anIns) {
+        return join(executeAllAsync(aUseCase, anIns));
+    }
+
+    public <IN, OUT> CompletableFuture<OUT> executeAsync(final UseCase<IN, OUT> aUseCase, final IN anIn) {
+        final var limits = limitsOf(aUseCase);
+        final var result = new CompletableFuture<OUT>();
+
+        final var submittedAt = System.nanoTime();
+        final var task = this.executor.submit(() -> {
+            try {
+                limits.acquire();
+                limits.waitLatency.recordSince(submittedAt);
+            } catch (final InterruptedException ex) {
+                result.completeExceptionally(new CancellationException());
+                return;
+            }
+            // the permit is released before completing, so callers never observe a finished but still counted run
+            final OUT output;
+            try {
+                output = aUseCase.execute(anIn);
+            } catch (final Throwable t) {
+                limits.release();
+                result.completeExceptionally(t);
+                return;
+            }
+            limits.release();
+            result.complete(output);
+        });
+
+        final var timeout = limits.policy.timeout();
+        if (timeout == null) {
+            return result;
+        }
+        return result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).exceptionallyCompose(error -> {
+            if (error instanceof TimeoutException) {
+                limits.timedOut.incrementAndGet();
+                limits.timeouts.increment();
+                task.cancel(true);
+                return CompletableFuture.failedFuture(new UseCaseTimeoutException(aUseCase.getClass(), timeout));
+            }
+            return CompletableFuture.failedFuture(error);
+        });
+    }
+
+    public <IN, OUT> CompletableFuture<List<OUT>> executeAllAsync(final UseCase<IN, OUT> aUseCase, final List<IN> anIns) {
+        final var futures = new ArrayList<CompletableFuture<OUT>>(anIns.size());
+        for (final var anIn : anIns) {
+            futures.add(executeAsync(aUseCase, anIn));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            final var outputs = new ArrayList<OUT>(futures.size());
+            for (final var future : futures) {
+                outputs.add(future.join());
+            }
+            return outputs;
+        });
+    }
+
+    /**
+     * Number of executions of the use case that are currently waiting for a permit or running.
+     */
+    public int inFlight(final UseCase<?, ?> aUseCase) {
+        return limitsOf(aUseCase).inFlight.get();
+    }
+
+    public long timedOut(final UseCase<?, ?> aUseCase) {
+        return limitsOf(aUseCase).timedOut.get();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (final InterruptedException ex) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Limits limitsOf(final UseCase<?, ?> aUseCase) {
+        final var existing = this.limits.get(aUseCase.getClass());
+        return existing != null ? existing : this.limits.computeIfAbsent(aUseCase.getClass(), key -> newLimits(key, this.defaultPolicy));
+    }
+
+    private Limits newLimits(final Class<?> aUseCaseClass, final Policy aPolicy) {
+        final var name = "usecase." + InstrumentedUseCase.nameOf(aUseCaseClass);
+        return new Limits(aPolicy, this.metrics.latency(name + ".wait"), this.metrics.counter(name + ".timeouts"));
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            return Executors.newCachedThreadPool(runnable -> {
+                final var thread = new Thread(runnable, "use-case-executor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * @param maxConcurrency executions allowed to run at once, or {@code 0} for no limit
+     * @param timeout        time allowed from submission to completion, or {@code null} for no timeout
+     */
+    public record Policy(int maxConcurrency, Duration timeout) {
+
+        public Policy {
+            if (maxConcurrency < 0) {
+                throw new IllegalArgumentException("'maxConcurrency' should not be negative");
+            }
+            if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+                throw new IllegalArgumentException("'timeout' should be positive");
+            }
+        }
+
+        public static Policy unbounded() {
+            return new Policy(0, null);
+        }
+
+        public static Policy of(final int maxConcurrency, final Duration timeout) {
+            return new Policy(maxConcurrency, timeout);
+        }
+    }
+
+    private static final class Limits {
+
+        private final Policy policy;
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong timedOut = new AtomicLong();
+        private final LatencyRecorder waitLatency;
+        private final Counter timeouts;
+
+        private Limits(final Policy policy, final LatencyRecorder waitLatency, final Counter timeouts) {
+            this.policy = Objects.requireNonNull(policy);
+            this.waitLatency = waitLatency;
+            this.timeouts = timeouts;
+            this.permits = policy.maxConcurrency() > 0 ? new Semaphore(policy.maxConcurrency()) : null;
+        }
+
+        private void acquire() throws InterruptedException {
+            this.inFlight.incrementAndGet();
+            if (this.permits != null) {
+                try {
+                    this.permits.acquire();
+                } catch (final InterruptedException ex) {
+                    this.inFlight.decrementAndGet();
+                    throw ex;
+                }
+            }
+        }
+
+        private void release() {
+            if (this.permits != null) {
+                this.permits.release();
+            }
+            this.inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.magno.admin.catalogo.application;
+
+import com.magno.admin.catalogo.domain.exceptions.NoStacktraceException;
+
+import java.time.Duration;
+
+public class UseCaseTimeoutException extends NoStacktraceException {
+
+    public UseCaseTimeoutException(final Class<?> aUseCase, final Duration aTimeout) {
+        super("%s did not complete within %d ms".formatted(aUseCase.getSimpleName(), aTimeout.toMillis()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.magno.admin.catalogo.application.category.bulk.create;
+
+import java.util.List;
+
+public record BulkCreateCategoriesCommand(List<Item> items) {
+
+    public static BulkCreateCategoriesCommand with(final List<Item> items) {
+        return new BulkCreateCategoriesCommand(items);
+    }
+
+    public record Item(
+            String name,
+            String description,
+            boolean isActive
+    ) {
+
+        public static Item with(final String aName, final String aDescription, final boolean isActive) {
+            return new Item(aName, aDescription, isActive);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.magno.admin.catalogo.application.category.bulk.create;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+public class BulkCreateCategoriesUseCase extends UseCase<BulkCreateCategoriesCommand, BatchResult<CategoryID>> {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+    private final int batchSize;
+
+    public BulkCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkCreateCategoriesUseCase(final CategoryGateway categoryGateway, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BatchResult<CategoryID> execute(final BulkCreateCategoriesCommand aCommand) {
+        final var items = aCommand.items();
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(items.size());
+
+        for (int start = 0; start < items.size(); start += this.batchSize) {
+            final var end = Math.min(start + this.batchSize, items.size());
+            createBatch(items.subList(start, end), start, results);
+        }
+
+        results.sort(Comparator.comparingInt(BatchItemResult::index));
+        return new BatchResult<>(results);
+    }
+
+    private void createBatch(
+            final List<BulkCreateCategoriesCommand.Item> batch,
+            final int offset,
+            final List<BatchItemResult<CategoryID>> results
+    ) {
+        final var valid = new ArrayList<Category>(batch.size());
+        final var validIndexes = new int[batch.size()];
+        final var notification = Notification.create();
+
+        for (int i = 0; i < batch.size(); i++) {
+            final var item = batch.get(i);
+            final var aCategory = Category.newCategory(item.name(), item.description(), item.isActive());
+
+            notification.clear();
+            aCategory.validate(notification);
+
+            if (notification.hasErrors()) {
+                results.add(BatchItemResult.invalid(offset + i, aCategory.getId(), notification.getErrors()));
+            } else {
+                validIndexes[valid.size()] = offset + i;
+                valid.add(aCategory);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            for (final var item : this.categoryGateway.createAll(valid).items()) {
+                results.add(item.withIndex(validIndexes[item.index()]));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.magno.admin.catalogo.application.category.bulk.delete;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+public class BulkDeleteCategoriesUseCase extends UseCase<List<String>, BatchResult<CategoryID>> {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static final List<ValidationError> INVALID_ID_ERRORS = List.of(new ValidationError("'id' is invalid"));
+
+    private final CategoryGateway categoryGateway;
+    private final int batchSize;
+
+    public BulkDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkDeleteCategoriesUseCase(final CategoryGateway categoryGateway, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BatchResult<CategoryID> execute(final List<String> anIds) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(anIds.size());
+
+        for (int start = 0; start < anIds.size(); start += this.batchSize) {
+            final var end = Math.min(start + this.batchSize, anIds.size());
+            deleteBatch(anIds.subList(start, end), start, results);
+        }
+
+        results.sort(Comparator.comparingInt(BatchItemResult::index));
+        return new BatchResult<>(results);
+    }
+
+    private void deleteBatch(
+            final List<String> batch,
+            final int offset,
+            final List<BatchItemResult<CategoryID>> results
+    ) {
+        final var ids = new ArrayList<CategoryID>(batch.size());
+        final var idIndexes = new int[batch.size()];
+
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                final var id = CategoryID.from(batch.get(i));
+                idIndexes[ids.size()] = offset + i;
+                ids.add(id);
+            } catch (final RuntimeException ex) {
+                results.add(BatchItemResult.invalid(offset + i, null, INVALID_ID_ERRORS));
+            }
+        }
+
+        if (!ids.isEmpty()) {
+            for (final var item : this.categoryGateway.deleteAllById(ids).items()) {
+                results.add(item.withIndex(idIndexes[item.index()]));
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.magno.admin.catalogo.application.category.bulk.update;
+
+import java.util.List;
+
+public record BulkUpdateCategoriesCommand(List<Item> items) {
+
+    public static BulkUpdateCategoriesCommand with(final List<Item> items) {
+        return new BulkUpdateCategoriesCommand(items);
+    }
+
+    /**
+     * @param version the version the client read; the item is reported as a conflict when the category changed since
+     */
+    public record Item(
+            String id,
+            String name,
+            String description,
+            boolean isActive,
+            long version
+    ) {
+
+        public static Item with(
+                final String anId,
+                final String aName,
+                final String aDescription,
+                final boolean isActive,
+                final long aVersion
+        ) {
+            return new Item(anId, aName, aDescription, isActive, aVersion);
+        }
+    }
+}
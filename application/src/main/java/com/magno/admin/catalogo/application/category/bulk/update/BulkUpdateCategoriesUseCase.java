@@ -0,0 +1,117 @@
+package com.magno.admin.catalogo.application.category.bulk.update;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+import com.magno.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+public class BulkUpdateCategoriesUseCase extends UseCase<BulkUpdateCategoriesCommand, BatchResult<CategoryID>> {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static final List<ValidationError> INVALID_ID_ERRORS = List.of(new ValidationError("'id' is invalid"));
+
+    private final CategoryGateway categoryGateway;
+    private final int batchSize;
+
+    public BulkUpdateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkUpdateCategoriesUseCase(final CategoryGateway categoryGateway, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BatchResult<CategoryID> execute(final BulkUpdateCategoriesCommand aCommand) {
+        final var items = aCommand.items();
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(items.size());
+
+        for (int start = 0; start < items.size(); start += this.batchSize) {
+            final var end = Math.min(start + this.batchSize, items.size());
+            updateBatch(items.subList(start, end), start, results);
+        }
+
+        results.sort(Comparator.comparingInt(BatchItemResult::index));
+        return new BatchResult<>(results);
+    }
+
+    private void updateBatch(
+            final List<BulkUpdateCategoriesCommand.Item> batch,
+            final int offset,
+            final List<BatchItemResult<CategoryID>> results
+    ) {
+        final var ids = new CategoryID[batch.size()];
+        final var parsedIds = new ArrayList<CategoryID>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                ids[i] = CategoryID.from(batch.get(i).id());
+                parsedIds.add(ids[i]);
+            } catch (final RuntimeException ex) {
+                results.add(BatchItemResult.invalid(offset + i, null, INVALID_ID_ERRORS));
+            }
+        }
+
+        final var existing = new HashMap<CategoryID, Category>(batch.size());
+        for (final var category : this.categoryGateway.findAllById(parsedIds)) {
+            existing.put(category.getId(), category);
+        }
+
+        final var valid = new ArrayList<Category>(batch.size());
+        final var validIndexes = new int[batch.size()];
+        final var notification = Notification.create();
+        for (int i = 0; i < batch.size(); i++) {
+            if (ids[i] == null) {
+                continue;
+            }
+
+            final var stored = existing.get(ids[i]);
+            if (stored == null) {
+                results.add(BatchItemResult.failed(offset + i, ids[i], BatchItemStatus.NOT_FOUND));
+                continue;
+            }
+
+            final var item = batch.get(i);
+            if (stored.getVersion() != item.version()) {
+                results.add(BatchItemResult.failed(offset + i, ids[i], BatchItemStatus.CONFLICT));
+                continue;
+            }
+
+            // each item gets its own copy, so a repeated id is a second compare-and-set that conflicts with the first
+            final var aCategory = Category.with(stored);
+            aCategory.update(item.name(), item.description(), item.isActive());
+
+            notification.clear();
+            aCategory.validate(notification);
+
+            if (notification.hasErrors()) {
+                results.add(BatchItemResult.invalid(offset + i, ids[i], notification.getErrors()));
+            } else {
+                validIndexes[valid.size()] = offset + i;
+                valid.add(aCategory);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            for (final var item : this.categoryGateway.updateAll(valid).items()) {
+                results.add(item.withIndex(validIndexes[item.index()]));
+            }
+        }
+    }
+}
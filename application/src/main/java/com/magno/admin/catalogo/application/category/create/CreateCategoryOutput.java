@@ -0,0 +1,11 @@
+package com.magno.admin.catalogo.application.category.create;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+
+public record CreateCategoryOutput(CategoryID id) {
+
+    public static CreateCategoryOutput from(final Category aCategory) {
+        return new CreateCategoryOutput(aCategory.getId());
+    }
+}
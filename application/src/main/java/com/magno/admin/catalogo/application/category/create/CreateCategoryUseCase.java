@@ -0,0 +1,25 @@
+package com.magno.admin.catalogo.application.category.create;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
+
+import java.util.Objects;
+
+public class CreateCategoryUseCase extends UseCase<CreateCategoryCommand, CreateCategoryOutput> {
+
+    private final CategoryGateway categoryGateway;
+
+    public CreateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CreateCategoryOutput execute(final CreateCategoryCommand aCommand) {
+        final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+        aCategory.validate(new ThrowsValidationHandler());
+
+        return CreateCategoryOutput.from(this.categoryGateway.create(aCategory));
+    }
+}
@@ -0,0 +1,142 @@
+package com.magno.admin.catalogo.application.category.export;
+
+import com.magno.admin.catalogo.domain.category.Category;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+
+public enum CategoryExportFormat {
+
+    /**
+     * One JSON object per line: {@code {"id":..,"name":..,"description":..,"isActive":..,"createdAt":..,
+     * "updatedAt":..,"deletedAt":..}}, with absent values written as {@code null}.
+     */
+    NDJSON {
+        @Override
+        void writeHeader(final Writer out) {
+        }
+
+        @Override
+        void write(final Writer out, final Category category) throws IOException {
+            out.write("{\"id\":");
+            writeJson(out, category.getId().getValue());
+            out.write(",\"name\":");
+            writeJson(out, category.getName());
+            out.write(",\"description\":");
+            writeJson(out, category.getDescription());
+            out.write(",\"isActive\":");
+            out.write(category.isActive() ? "true" : "false");
+            out.write(",\"createdAt\":");
+            writeJson(out, category.getCreatedAt());
+            out.write(",\"updatedAt\":");
+            writeJson(out, category.getUpdatedAt());
+            out.write(",\"deletedAt\":");
+            writeJson(out, category.getDeletedAt());
+            out.write("}\n");
+        }
+    },
+
+    /**
+     * RFC 4180 CSV with a header row; absent values are written as empty fields.
+     */
+    CSV {
+        @Override
+        void writeHeader(final Writer out) throws IOException {
+            out.write("id,name,description,is_active,created_at,updated_at,deleted_at\r\n");
+        }
+
+        @Override
+        void write(final Writer out, final Category category) throws IOException {
+            out.write(category.getId().getValue());
+            out.write(',');
+            writeCsv(out, category.getName());
+            out.write(',');
+            writeCsv(out, category.getDescription());
+            out.write(',');
+            out.write(category.isActive() ? "true" : "false");
+            out.write(',');
+            writeCsv(out, category.getCreatedAt());
+            out.write(',');
+            writeCsv(out, category.getUpdatedAt());
+            out.write(',');
+            writeCsv(out, category.getDeletedAt());
+            out.write("\r\n");
+        }
+    };
+
+    abstract void writeHeader(Writer out) throws IOException;
+
+    abstract void write(Writer out, Category category) throws IOException;
+
+    private static void writeJson(final Writer out, final Instant value) throws IOException {
+        if (value == null) {
+            out.write("null");
+        } else {
+            out.write('"');
+            out.write(value.toString());
+            out.write('"');
+        }
+    }
+
+    private static void writeJson(final Writer out, final String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+
+        out.write('"');
+        int from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                out.write(value, from, i - from);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> out.write(String.format("\\u%04x", (int) c));
+                }
+                from = i + 1;
+            }
+        }
+        out.write(value, from, value.length() - from);
+        out.write('"');
+    }
+
+    private static void writeCsv(final Writer out, final Instant value) throws IOException {
+        if (value != null) {
+            out.write(value.toString());
+        }
+    }
+
+    private static void writeCsv(final Writer out, final String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        var needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            final var c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!needsQuotes) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        int from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                out.write(value, from, i + 1 - from);
+                out.write('"');
+                from = i + 1;
+            }
+        }
+        out.write(value, from, value.length() - from);
+        out.write('"');
+    }
+}
@@ -0,0 +1,19 @@
+package com.magno.admin.catalogo.application.category.export;
+
+import java.io.OutputStream;
+
+public record ExportCategoriesCommand(
+        OutputStream output,
+        CategoryExportFormat format,
+        String terms,
+        String sort,
+        String direction,
+        int pageSize
+) {
+
+    public static final int DEFAULT_PAGE_SIZE = 1_000;
+
+    public static ExportCategoriesCommand with(final OutputStream anOutput, final CategoryExportFormat aFormat) {
+        return new ExportCategoriesCommand(anOutput, aFormat, "", "createdAt", "asc", DEFAULT_PAGE_SIZE);
+    }
+}
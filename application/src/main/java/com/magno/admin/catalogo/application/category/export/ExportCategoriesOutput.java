@@ -0,0 +1,4 @@
+package com.magno.admin.catalogo.application.category.export;
+
+public record ExportCategoriesOutput(long exported) {
+}
@@ -0,0 +1,51 @@
+package com.magno.admin.catalogo.application.category.export;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes every matching category to the command's stream as it is read from the gateway, one cursor page at a time,
+ * so memory stays bounded by the page size whatever the catalog size. The stream is flushed but left open.
+ */
+public class ExportCategoriesUseCase extends UseCase<ExportCategoriesCommand, ExportCategoriesOutput> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CategoryGateway categoryGateway;
+
+    public ExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public ExportCategoriesOutput execute(final ExportCategoriesCommand aCommand) {
+        final var format = aCommand.format();
+        final var params = CategoryCursorSearchParams.first(
+                aCommand.pageSize(),
+                aCommand.terms(),
+                aCommand.sort(),
+                aCommand.direction()
+        );
+
+        final var out = new BufferedWriter(new OutputStreamWriter(aCommand.output(), StandardCharsets.UTF_8), BUFFER_SIZE);
+        long exported = 0;
+        try (final var categories = this.categoryGateway.streamAll(params)) {
+            format.writeHeader(out);
+            for (final var iterator = categories.iterator(); iterator.hasNext(); exported++) {
+                format.write(out, iterator.next());
+            }
+            out.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new ExportCategoriesOutput(exported);
+    }
+}
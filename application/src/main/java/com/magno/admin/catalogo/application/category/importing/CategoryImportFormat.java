@@ -0,0 +1,50 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Input formats accepted by {@link ImportCategoriesUseCase}, matching what
+ * {@link com.magno.admin.catalogo.application.category.export.CategoryExportFormat} writes. Only {@code name},
+ * {@code description} and {@code is_active}/{@code isActive} are read; other fields are ignored and a missing
+ * active flag means active.
+ */
+public enum CategoryImportFormat {
+
+    NDJSON {
+        @Override
+        RowReader open(final Reader in) {
+            return new NdjsonRowReader(in);
+        }
+    },
+
+    CSV {
+        @Override
+        RowReader open(final Reader in) throws IOException {
+            return new CsvRowReader(in);
+        }
+    };
+
+    abstract RowReader open(Reader in) throws IOException;
+
+    interface RowReader {
+
+        /**
+         * Next record, or {@code null} at the end of the input.
+         */
+        ImportRow next() throws IOException;
+    }
+
+    static Boolean parseBoolean(final String value) {
+        if (value == null || value.isEmpty()) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("true") || value.equals("1")) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("false") || value.equals("0")) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+}
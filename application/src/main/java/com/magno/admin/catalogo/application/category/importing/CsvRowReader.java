@@ -0,0 +1,156 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming RFC 4180 reader: quoted fields may contain separators, doubled quotes and line breaks. The first record
+ * is the header and locates the columns by name; a header without a {@code name} column fails the whole import. A
+ * quoted field still open at the end of the input rejects its record.
+ */
+final class CsvRowReader implements CategoryImportFormat.RowReader {
+
+    private final Reader in;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private int pending = -2;
+    private boolean unterminated;
+
+    private final int nameColumn;
+    private final int descriptionColumn;
+    private final int activeColumn;
+
+    CsvRowReader(final Reader in) throws IOException {
+        this.in = in;
+        if (!readRecord()) {
+            this.nameColumn = -1;
+            this.descriptionColumn = -1;
+            this.activeColumn = -1;
+            return;
+        }
+
+        int name = -1;
+        int description = -1;
+        int active = -1;
+        for (int i = 0; i < this.fields.size(); i++) {
+            switch (this.fields.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "name" -> name = i;
+                case "description" -> description = i;
+                case "is_active", "isactive", "active" -> active = i;
+                default -> {
+                }
+            }
+        }
+        if (name < 0) {
+            throw new IllegalArgumentException("CSV header should have a 'name' column");
+        }
+        this.nameColumn = name;
+        this.descriptionColumn = description;
+        this.activeColumn = active;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        long startLine;
+        do {
+            startLine = this.line;
+            if (!readRecord()) {
+                return null;
+            }
+        } while (this.fields.size() == 1 && this.fields.get(0).isEmpty());
+
+        if (this.unterminated) {
+            return ImportRow.invalid(startLine, "quoted field is not closed before the end of the input");
+        }
+
+        final var name = column(this.nameColumn);
+        final var description = column(this.descriptionColumn);
+        final var active = CategoryImportFormat.parseBoolean(column(this.activeColumn));
+        if (active == null) {
+            return ImportRow.invalid(startLine, "'is_active' should be true or false");
+        }
+        return ImportRow.of(startLine, name, description, active);
+    }
+
+    private String column(final int index) {
+        if (index < 0 || index >= this.fields.size()) {
+            return null;
+        }
+        final var value = this.fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private boolean readRecord() throws IOException {
+        this.fields.clear();
+        this.field.setLength(0);
+        this.unterminated = false;
+
+        var c = read();
+        if (c == -1) {
+            return false;
+        }
+
+        var quoted = false;
+        var wasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    this.unterminated = true;
+                    break;
+                }
+                if (c == '"') {
+                    final var next = read();
+                    if (next == '"') {
+                        this.field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        this.line++;
+                    }
+                    this.field.append((char) c);
+                }
+            } else if (c == '"' && this.field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                this.fields.add(this.field.toString());
+                this.field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    final var next = read();
+                    if (next != '\n') {
+                        this.pending = next;
+                    }
+                }
+                if (c != -1) {
+                    this.line++;
+                }
+                break;
+            } else {
+                this.field.append((char) c);
+            }
+            c = read();
+        }
+
+        this.fields.add(this.field.toString());
+        return true;
+    }
+
+    private int read() throws IOException {
+        if (this.pending != -2) {
+            final var c = this.pending;
+            this.pending = -2;
+            return c;
+        }
+        return this.in.read();
+    }
+}
@@ -0,0 +1,29 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * {@code rejections} receives a CSV report ({@code line,errors}) of every row that was not imported; it may be
+ * {@code null} when only the counts matter.
+ */
+public record ImportCategoriesCommand(
+        InputStream input,
+        CategoryImportFormat format,
+        OutputStream rejections,
+        ImportProgressListener progress
+) {
+
+    public static ImportCategoriesCommand with(final InputStream anInput, final CategoryImportFormat aFormat) {
+        return new ImportCategoriesCommand(anInput, aFormat, null, ImportProgressListener.NONE);
+    }
+
+    public static ImportCategoriesCommand with(
+            final InputStream anInput,
+            final CategoryImportFormat aFormat,
+            final OutputStream aRejections,
+            final ImportProgressListener aProgress
+    ) {
+        return new ImportCategoriesCommand(anInput, aFormat, aRejections, aProgress);
+    }
+}
@@ -0,0 +1,8 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+public record ImportCategoriesOutput(
+        long read,
+        long imported,
+        long rejected
+) {
+}
@@ -0,0 +1,295 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+import com.magno.admin.catalogo.domain.validation.handler.Notification;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Imports categories from a stream in three stages joined by bounded queues: the caller thread parses rows,
+ * {@code parallelism} threads build and validate them, and a single writer thread sends them to the gateway with
+ * {@link CategoryGateway#createAll} in batches. A slow stage blocks the ones before it, so memory stays bounded by
+ * the queue capacities however large the input is. Rows failing validation or rejected by the gateway are counted
+ * and written to the rejection report; a parse or gateway failure aborts the whole pipeline.
+ */
+public class ImportCategoriesUseCase extends UseCase<ImportCategoriesCommand, ImportCategoriesOutput> {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final int DEFAULT_QUEUE_CAPACITY = 4_096;
+
+    private static final ImportRow END_OF_ROWS = ImportRow.invalid(-1, "end of rows");
+    private static final Parsed END_OF_PARSED = new Parsed(-1, null);
+    private static final long POLL_MILLIS = 50;
+
+    private final CategoryGateway categoryGateway;
+    private final int parallelism;
+    private final int batchSize;
+    private final int queueCapacity;
+
+    public ImportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, Runtime.getRuntime().availableProcessors(), DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public ImportCategoriesUseCase(
+            final CategoryGateway categoryGateway,
+            final int parallelism,
+            final int batchSize,
+            final int queueCapacity
+    ) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("'parallelism' should be greater than zero");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' should be greater than zero");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("'queueCapacity' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public ImportCategoriesOutput execute(final ImportCategoriesCommand aCommand) {
+        final var progress = aCommand.progress() == null ? ImportProgressListener.NONE : aCommand.progress();
+        final RejectionReport report;
+        try {
+            report = RejectionReport.to(aCommand.rejections());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        final var run = new Run(report, progress);
+        final var threads = new ArrayList<Thread>(this.parallelism + 1);
+        for (int i = 0; i < this.parallelism; i++) {
+            threads.add(start("category-import-validator-" + i, run::validate, run));
+        }
+        threads.add(start("category-import-writer", run::write, run));
+
+        try {
+            run.parse(aCommand);
+        } catch (final Throwable ex) {
+            run.fail(ex);
+        }
+
+        for (final var thread : threads) {
+            try {
+                thread.join();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                run.fail(ex);
+            }
+        }
+
+        try {
+            report.flush();
+        } catch (final IOException ex) {
+            run.fail(ex);
+        }
+        run.rethrowFailure();
+
+        progress.onProgress(run.read.get(), run.imported.get(), run.rejected.get());
+        return new ImportCategoriesOutput(run.read.get(), run.imported.get(), run.rejected.get());
+    }
+
+    private static Thread start(final String name, final Runnable stage, final Run run) {
+        final var thread = new Thread(() -> {
+            try {
+                stage.run();
+            } catch (final Throwable ex) {
+                run.fail(ex);
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private record Parsed(long line, Category category) {
+    }
+
+    private final class Run {
+
+        private final BlockingQueue<ImportRow> rows = new ArrayBlockingQueue<>(queueCapacity);
+        private final BlockingQueue<Parsed> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicInteger runningValidators = new AtomicInteger(parallelism);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private final RejectionReport report;
+        private final ImportProgressListener progress;
+
+        Run(final RejectionReport report, final ImportProgressListener progress) {
+            this.report = report;
+            this.progress = progress;
+        }
+
+        void parse(final ImportCategoriesCommand aCommand) throws IOException, InterruptedException {
+            final var in = new BufferedReader(new InputStreamReader(aCommand.input(), StandardCharsets.UTF_8));
+            try {
+                final var reader = aCommand.format().open(in);
+                for (var row = reader.next(); row != null && !failed(); row = reader.next()) {
+                    this.read.incrementAndGet();
+                    put(this.rows, row);
+                }
+            } finally {
+                for (int i = 0; i < parallelism; i++) {
+                    put(this.rows, END_OF_ROWS);
+                }
+            }
+        }
+
+        void validate() {
+            final var notification = Notification.create();
+            try {
+                for (var row = take(this.rows); row != END_OF_ROWS; row = take(this.rows)) {
+                    if (row.parseError() != null) {
+                        reject(row.line(), List.of(row.parseError()));
+                        continue;
+                    }
+
+                    final var aCategory = Category.newCategory(row.name(), row.description(), row.isActive());
+                    notification.clear();
+                    aCategory.validate(notification);
+
+                    if (notification.hasErrors()) {
+                        reject(row.line(), notification.getErrors());
+                    } else {
+                        put(this.parsed, new Parsed(row.line(), aCategory));
+                    }
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            } finally {
+                if (this.runningValidators.decrementAndGet() == 0) {
+                    try {
+                        put(this.parsed, END_OF_PARSED);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        void write() {
+            final var batch = new ArrayList<Parsed>(batchSize);
+            try {
+                for (var next = take(this.parsed); next != END_OF_PARSED; next = take(this.parsed)) {
+                    batch.add(next);
+                    if (batch.size() == batchSize) {
+                        flush(batch);
+                    }
+                }
+                flush(batch);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        private void flush(final List<Parsed> batch) throws IOException {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            final var categories = new ArrayList<Category>(batch.size());
+            for (final var item : batch) {
+                categories.add(item.category());
+            }
+
+            var succeeded = 0;
+            for (final var item : categoryGateway.createAll(categories).items()) {
+                if (item.isSucceeded()) {
+                    succeeded++;
+                } else {
+                    reject(batch.get(item.index()).line(), List.of(new ValidationError(
+                            "category '%s' was rejected: %s".formatted(item.id().getValue(), item.status())
+                    )));
+                }
+            }
+            this.imported.addAndGet(succeeded);
+            batch.clear();
+            this.progress.onProgress(this.read.get(), this.imported.get(), this.rejected.get());
+        }
+
+        private void reject(final long line, final List<ValidationError> errors) throws IOException {
+            this.rejected.incrementAndGet();
+            this.report.reject(line, errors);
+        }
+
+        /**
+         * Blocks while the queue is full, giving up as soon as another stage has failed so nothing waits on a
+         * consumer that is gone.
+         */
+        private <T> void put(final BlockingQueue<T> queue, final T item) throws InterruptedException {
+            while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failed()) {
+                    return;
+                }
+            }
+        }
+
+        private <T> T take(final BlockingQueue<T> queue) throws InterruptedException {
+            while (true) {
+                final var item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (item != null) {
+                    return item;
+                }
+                if (failed()) {
+                    throw new IllegalStateException("import aborted");
+                }
+            }
+        }
+
+        boolean failed() {
+            return this.failure.get() != null;
+        }
+
+        void fail(final Throwable ex) {
+            this.failure.compareAndSet(null, ex);
+        }
+
+        void rethrowFailure() {
+            final var ex = this.failure.get();
+            if (ex == null) {
+                return;
+            }
+            if (ex instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex instanceof Error error) {
+                throw error;
+            }
+            if (ex instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+/**
+ * Receives running totals while an import is in progress. Calls come from a single pipeline thread, after every
+ * written batch and once more when the import ends.
+ */
+@FunctionalInterface
+public interface ImportProgressListener {
+
+    ImportProgressListener NONE = (read, imported, rejected) -> {
+    };
+
+    void onProgress(long read, long imported, long rejected);
+}
@@ -0,0 +1,24 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+
+/**
+ * One parsed input record. {@code line} is the input line the record starts on; a record that could not be parsed
+ * carries a {@code parseError} instead of values.
+ */
+public record ImportRow(
+        long line,
+        String name,
+        String description,
+        boolean isActive,
+        ValidationError parseError
+) {
+
+    static ImportRow of(final long line, final String name, final String description, final boolean isActive) {
+        return new ImportRow(line, name, description, isActive, null);
+    }
+
+    static ImportRow invalid(final long line, final String reason) {
+        return new ImportRow(line, null, null, false, new ValidationError(reason));
+    }
+}
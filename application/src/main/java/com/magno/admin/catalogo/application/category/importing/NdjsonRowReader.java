@@ -0,0 +1,217 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads one flat JSON object per line. Nested values are skipped; only string, boolean and null members are
+ * interpreted. Blank lines are ignored.
+ */
+final class NdjsonRowReader implements CategoryImportFormat.RowReader {
+
+    private final BufferedReader in;
+    private long line;
+
+    NdjsonRowReader(final Reader in) {
+        this.in = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        do {
+            text = this.in.readLine();
+            this.line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        try {
+            return new ObjectParser(this.line, text).parse();
+        } catch (final IllegalArgumentException ex) {
+            return ImportRow.invalid(this.line, ex.getMessage());
+        }
+    }
+
+    private static final class ObjectParser {
+
+        private final long line;
+        private final String text;
+        private int pos;
+
+        private String name;
+        private String description;
+        private Boolean active = Boolean.TRUE;
+
+        ObjectParser(final long line, final String text) {
+            this.line = line;
+            this.text = text;
+        }
+
+        ImportRow parse() {
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                this.pos++;
+            } else {
+                while (true) {
+                    skipWhitespace();
+                    final var key = readString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    readMember(key);
+                    skipWhitespace();
+                    final var c = next();
+                    if (c == '}') {
+                        break;
+                    }
+                    if (c != ',') {
+                        throw malformed();
+                    }
+                }
+            }
+            skipWhitespace();
+            if (this.pos != this.text.length()) {
+                throw malformed();
+            }
+            if (this.active == null) {
+                throw new IllegalArgumentException("'isActive' should be true or false");
+            }
+            return ImportRow.of(this.line, this.name, this.description, this.active);
+        }
+
+        private void readMember(final String key) {
+            switch (key) {
+                case "name" -> this.name = readNullableString();
+                case "description" -> this.description = readNullableString();
+                case "isActive", "is_active", "active" -> this.active = readBoolean();
+                default -> skipValue();
+            }
+        }
+
+        private String readNullableString() {
+            if (this.text.startsWith("null", this.pos)) {
+                this.pos += 4;
+                return null;
+            }
+            return readString();
+        }
+
+        private Boolean readBoolean() {
+            if (this.text.startsWith("true", this.pos)) {
+                this.pos += 4;
+                return Boolean.TRUE;
+            }
+            if (this.text.startsWith("false", this.pos)) {
+                this.pos += 5;
+                return Boolean.FALSE;
+            }
+            if (this.text.startsWith("null", this.pos)) {
+                this.pos += 4;
+                return Boolean.TRUE;
+            }
+            if (peek() == '"') {
+                return CategoryImportFormat.parseBoolean(readString());
+            }
+            skipValue();
+            return null;
+        }
+
+        private String readString() {
+            expect('"');
+            final var out = new StringBuilder();
+            while (true) {
+                final var c = next();
+                if (c == '"') {
+                    return out.toString();
+                }
+                if (c != '\\') {
+                    out.append(c);
+                    continue;
+                }
+                final var escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> out.append(escaped);
+                    case 'b' -> out.append('\b');
+                    case 'f' -> out.append('\f');
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    case 'u' -> {
+                        if (this.pos + 4 > this.text.length()) {
+                            throw malformed();
+                        }
+                        try {
+                            out.append((char) Integer.parseInt(this.text, this.pos, this.pos + 4, 16));
+                        } catch (final NumberFormatException ex) {
+                            throw malformed();
+                        }
+                        this.pos += 4;
+                    }
+                    default -> throw malformed();
+                }
+            }
+        }
+
+        private void skipValue() {
+            final var c = peek();
+            if (c == '"') {
+                readString();
+                return;
+            }
+            if (c == '{' || c == '[') {
+                var depth = 0;
+                do {
+                    final var d = peek();
+                    if (d == '"') {
+                        readString();
+                        continue;
+                    }
+                    this.pos++;
+                    if (d == '{' || d == '[') {
+                        depth++;
+                    } else if (d == '}' || d == ']') {
+                        depth--;
+                    }
+                } while (depth > 0);
+                return;
+            }
+            while (this.pos < this.text.length() && ",}] \t".indexOf(this.text.charAt(this.pos)) < 0) {
+                this.pos++;
+            }
+        }
+
+        private void skipWhitespace() {
+            while (this.pos < this.text.length() && Character.isWhitespace(this.text.charAt(this.pos))) {
+                this.pos++;
+            }
+        }
+
+        private char peek() {
+            if (this.pos >= this.text.length()) {
+                throw malformed();
+            }
+            return this.text.charAt(this.pos);
+        }
+
+        private char next() {
+            final var c = peek();
+            this.pos++;
+            return c;
+        }
+
+        private void expect(final char expected) {
+            if (next() != expected) {
+                throw malformed();
+            }
+        }
+
+        private IllegalArgumentException malformed() {
+            return new IllegalArgumentException("malformed JSON at column " + (this.pos + 1));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CSV report of rejected rows, shared by the validator and writer threads. Rows appear in completion order, not
+ * input order.
+ */
+final class RejectionReport {
+
+    private final Writer out;
+
+    private RejectionReport(final Writer out) {
+        this.out = out;
+    }
+
+    static RejectionReport to(final OutputStream anOutput) throws IOException {
+        if (anOutput == null) {
+            return new RejectionReport(null);
+        }
+        final var out = new BufferedWriter(new OutputStreamWriter(anOutput, StandardCharsets.UTF_8));
+        out.write("line,errors\r\n");
+        return new RejectionReport(out);
+    }
+
+    synchronized void reject(final long line, final List<ValidationError> errors) throws IOException {
+        if (this.out == null) {
+            return;
+        }
+        this.out.write(Long.toString(line));
+        this.out.write(",\"");
+        for (int i = 0; i < errors.size(); i++) {
+            if (i > 0) {
+                this.out.write("; ");
+            }
+            this.out.write(errors.get(i).message().replace("\"", "\"\""));
+        }
+        this.out.write("\"\r\n");
+    }
+
+    synchronized void flush() throws IOException {
+        if (this.out != null) {
+            this.out.flush();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.magno.admin.catalogo.application.category.retrieve.list;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+public class ListCategoriesUseCase extends UseCase<CategorySearchParams, Pagination<CategoryListOutput>> {
+
+    private final CategoryGateway categoryGateway;
+
+    public ListCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchParams aQuery) {
+        final var page = this.categoryGateway.findAll(aQuery);
+        final var items = new ArrayList<CategoryListOutput>(page.items().size());
+        for (final var aCategory : page.items()) {
+            items.add(CategoryListOutput.from(aCategory));
+        }
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(), items);
+    }
+}
@@ -0,0 +1,18 @@
+package com.magno.admin.catalogo.application.category.retrieve.stats;
+
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+
+import java.util.List;
+
+public record CategoryStatsOutput(
+        long total,
+        long active,
+        long inactive,
+        List<CategoryHistogramBucket> buckets
+) {
+
+    public static CategoryStatsOutput from(final CategoryStatusCounts counts, final List<CategoryHistogramBucket> buckets) {
+        return new CategoryStatsOutput(counts.total(), counts.active(), counts.inactive(), buckets);
+    }
+}
@@ -0,0 +1,25 @@
+package com.magno.admin.catalogo.application.category.retrieve.stats;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+
+import java.util.Objects;
+
+/**
+ * Dashboard figures: status counts plus one histogram. Both come from counters the stores maintain on every write,
+ * so the cost depends on the number of buckets, not on the catalog size.
+ */
+public class GetCategoryStatsUseCase extends UseCase<CategoryHistogramParams, CategoryStatsOutput> {
+
+    private final CategoryGateway categoryGateway;
+
+    public GetCategoryStatsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryStatsOutput execute(final CategoryHistogramParams aQuery) {
+        return CategoryStatsOutput.from(this.categoryGateway.countByStatus(), this.categoryGateway.histogram(aQuery));
+    }
+}
@@ -0,0 +1,23 @@
+package com.magno.admin.catalogo.application.category.update;
+
+/**
+ * @param version the version the client read; the update is rejected when the category changed since
+ */
+public record UpdateCategoryCommand(
+        String id,
+        String name,
+        String description,
+        boolean isActive,
+        long version
+) {
+
+    public static UpdateCategoryCommand with(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final long aVersion
+    ) {
+        return new UpdateCategoryCommand(anId, aName, aDescription, isActive, aVersion);
+    }
+}
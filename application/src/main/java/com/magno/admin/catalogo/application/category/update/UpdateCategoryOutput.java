@@ -0,0 +1,11 @@
+package com.magno.admin.catalogo.application.category.update;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+
+public record UpdateCategoryOutput(CategoryID id, long version) {
+
+    public static UpdateCategoryOutput from(final Category aCategory) {
+        return new UpdateCategoryOutput(aCategory.getId(), aCategory.getVersion());
+    }
+}
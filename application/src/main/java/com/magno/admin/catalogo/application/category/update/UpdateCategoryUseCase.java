@@ -0,0 +1,43 @@
+package com.magno.admin.catalogo.application.category.update;
+
+import com.magno.admin.catalogo.application.UseCase;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.exceptions.NotFoundException;
+import com.magno.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
+
+import java.util.Objects;
+
+public class UpdateCategoryUseCase extends UseCase<UpdateCategoryCommand, UpdateCategoryOutput> {
+
+    private final CategoryGateway categoryGateway;
+
+    public UpdateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public UpdateCategoryOutput execute(final UpdateCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+        final var aCategory = this.categoryGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(Category.class, anId));
+        if (aCategory.getVersion() != aCommand.version()) {
+            throw ConflictException.with(Category.class, anId, aCommand.version(), aCategory.getVersion());
+        }
+
+        aCategory.update(aCommand.name(), aCommand.description(), aCommand.isActive())
+                .validate(new ThrowsValidationHandler());
+
+        final var result = this.categoryGateway.update(aCategory);
+        if (result instanceof CategoryUpdateResult.Updated updated) {
+            return UpdateCategoryOutput.from(updated.category());
+        }
+        if (result instanceof CategoryUpdateResult.Conflict conflict) {
+            throw ConflictException.with(Category.class, anId, conflict.expectedVersion(), conflict.actualVersion());
+        }
+        throw NotFoundException.with(Category.class, anId);
+    }
+}
@@ -0,0 +1,105 @@
+package com.magno.admin.catalogo.application.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * {@link MetricsRegistry} keeping {@link LongAdderCounter}s and {@link LatencyHistogram}s in process, with text and
+ * JSON dumps. Latencies are dumped in microseconds.
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, LongAdderCounter> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentSkipListMap<>();
+    private final Map<String, Boolean> names = new ConcurrentHashMap<>();
+
+    @Override
+    public LongAdderCounter counter(final String name) {
+        ensureUnique(name, true);
+        return this.counters.computeIfAbsent(name, ignored -> new LongAdderCounter());
+    }
+
+    @Override
+    public LatencyHistogram latency(final String name) {
+        ensureUnique(name, false);
+        return this.latencies.computeIfAbsent(name, ignored -> new LatencyHistogram());
+    }
+
+    public String dumpText() {
+        final var out = new StringBuilder();
+        this.counters.forEach((name, counter) -> out.append(name).append(' ').append(counter.count()).append('\n'));
+        this.latencies.forEach((name, histogram) -> {
+            final var snapshot = histogram.snapshot();
+            out.append(name).append(" count=").append(snapshot.count())
+                    .append(" mean=").append(micros(snapshot.mean()));
+            for (final var percentile : PERCENTILES) {
+                out.append(" p").append(label(percentile)).append('=').append(micros(snapshot.percentile(percentile)));
+            }
+            out.append(" max=").append(micros(snapshot.max())).append('\n');
+        });
+        return out.toString();
+    }
+
+    public String dumpJson() {
+        final var out = new StringBuilder("{\"counters\":{");
+        var first = true;
+        for (final var counter : this.counters.entrySet()) {
+            out.append(first ? "" : ",").append(quote(counter.getKey())).append(':').append(counter.getValue().count());
+            first = false;
+        }
+
+        out.append("},\"latencies\":{");
+        first = true;
+        for (final var latency : this.latencies.entrySet()) {
+            final var snapshot = latency.getValue().snapshot();
+            out.append(first ? "" : ",").append(quote(latency.getKey()))
+                    .append(":{\"count\":").append(snapshot.count())
+                    .append(",\"mean\":").append(micros(snapshot.mean()));
+            for (final var percentile : PERCENTILES) {
+                out.append(",\"p").append(label(percentile)).append("\":").append(micros(snapshot.percentile(percentile)));
+            }
+            out.append(",\"max\":").append(micros(snapshot.max())).append('}');
+            first = false;
+        }
+        return out.append("}}").toString();
+    }
+
+    private void ensureUnique(final String name, final boolean counter) {
+        final var previous = this.names.putIfAbsent(name, counter);
+        if (previous != null && previous != counter) {
+            throw new IllegalArgumentException("Metric '%s' is already registered with another type".formatted(name));
+        }
+    }
+
+    private static String micros(final double nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000.0);
+    }
+
+    private static String label(final double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile).replace('.', '_');
+    }
+
+    private static String quote(final String value) {
+        final var out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+}
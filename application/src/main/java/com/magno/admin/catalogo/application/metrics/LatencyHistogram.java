@@ -0,0 +1,109 @@
+package com.magno.admin.catalogo.application.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of nanosecond latencies, in the spirit of HdrHistogram: every power of two is
+ * split into {@value #SUB_BUCKETS} linear sub-buckets, so any recorded value is reported within about 3% of its real
+ * value, from one nanosecond up to the full {@code long} range, in a fixed array of counters. Recording is a few
+ * shifts and atomic increments and never allocates.
+ */
+public final class LatencyHistogram implements LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    @Override
+    public void record(final long nanos) {
+        final var value = Math.max(0, nanos);
+        this.counts.incrementAndGet(indexOf(value));
+        this.count.increment();
+        this.sum.add(value);
+        if (value > this.max.get()) {
+            this.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public Snapshot snapshot() {
+        final var buckets = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = this.counts.get(i);
+            total += buckets[i];
+        }
+        return new Snapshot(buckets, total, this.sum.sum(), this.max.get());
+    }
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final var exponent = 63 - Long.numberOfLeadingZeros(value);
+        final var shift = exponent - SUB_BUCKET_BITS;
+        final var subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final var shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final var subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    public static final class Snapshot {
+
+        private final long[] buckets;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(final long[] buckets, final long count, final long sum, final long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long count() {
+            return this.count;
+        }
+
+        public long max() {
+            return this.max;
+        }
+
+        public double mean() {
+            return this.count == 0 ? 0 : (double) this.sum / this.count;
+        }
+
+        /**
+         * Smallest bucket bound at or below which {@code percentile} percent of the values fall, capped at
+         * {@link #max()}.
+         */
+        public long percentile(final double percentile) {
+            if (this.count == 0) {
+                return 0;
+            }
+            final var rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * this.count));
+            long seen = 0;
+            for (int i = 0; i < this.buckets.length; i++) {
+                seen += this.buckets[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueOf(i), this.max);
+                }
+            }
+            return this.max;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.magno.admin.catalogo.application.metrics;
+
+public interface LatencyRecorder {
+
+    void record(long nanos);
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a value previously read from {@link System#nanoTime()}.
+     */
+    default void recordSince(final long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,17 @@
+package com.magno.admin.catalogo.application.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LongAdderCounter implements Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    @Override
+    public void add(final long amount) {
+        this.value.add(amount);
+    }
+
+    public long count() {
+        return this.value.sum();
+    }
+}
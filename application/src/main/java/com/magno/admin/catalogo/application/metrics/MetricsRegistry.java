@@ -0,0 +1,16 @@
+package com.magno.admin.catalogo.application.metrics;
+
+/**
+ * Source of named metrics. Lookups may allocate and are meant to happen once, when the instrumented component is
+ * built; the returned counters and recorders are then used on the hot path.
+ */
+public interface MetricsRegistry {
+
+    Counter counter(String name);
+
+    LatencyRecorder latency(String name);
+
+    static MetricsRegistry noop() {
+        return NoopMetricsRegistry.INSTANCE;
+    }
+}
@@ -0,0 +1,24 @@
+package com.magno.admin.catalogo.application.metrics;
+
+final class NoopMetricsRegistry implements MetricsRegistry {
+
+    static final NoopMetricsRegistry INSTANCE = new NoopMetricsRegistry();
+
+    private static final Counter COUNTER = amount -> {
+    };
+    private static final LatencyRecorder LATENCY = nanos -> {
+    };
+
+    private NoopMetricsRegistry() {
+    }
+
+    @Override
+    public Counter counter(final String name) {
+        return COUNTER;
+    }
+
+    @Override
+    public LatencyRecorder latency(final String name) {
+        return LATENCY;
+    }
+}
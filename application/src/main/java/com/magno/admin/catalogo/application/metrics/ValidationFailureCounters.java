@@ -0,0 +1,51 @@
+package com.magno.admin.catalogo.application.metrics;
+
+import com.magno.admin.catalogo.domain.category.CategoryValidator;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * One counter per known validator error type, named {@code validation.failures{type=<type>}}, plus
+ * {@code validation.failures{type=other}} for every other error. The counters are all registered up front, so their
+ * number is fixed and counting is a map lookup and an increment.
+ */
+public final class ValidationFailureCounters {
+
+    private static final Map<ValidationError, String> CATEGORY_TYPES = Map.of(
+            CategoryValidator.NAME_NULL_ERROR, "name_null",
+            CategoryValidator.NAME_EMPTY_ERROR, "name_empty",
+            CategoryValidator.NAME_LENGTH_ERROR, "name_length"
+    );
+
+    private final Map<ValidationError, Counter> counters;
+    private final Counter other;
+
+    public ValidationFailureCounters(final MetricsRegistry registry) {
+        this(registry, CATEGORY_TYPES);
+    }
+
+    /**
+     * @param types the error type name of each validator error to count on its own
+     */
+    public ValidationFailureCounters(final MetricsRegistry registry, final Map<ValidationError, String> types) {
+        Objects.requireNonNull(registry);
+        final var counters = new HashMap<ValidationError, Counter>(types.size() * 2);
+        types.forEach((error, type) -> counters.put(error, registry.counter(nameOf(type))));
+        this.counters = Map.copyOf(counters);
+        this.other = registry.counter(nameOf("other"));
+    }
+
+    public void count(final List<ValidationError> errors) {
+        for (int i = 0; i < errors.size(); i++) {
+            this.counters.getOrDefault(errors.get(i), this.other).increment();
+        }
+    }
+
+    private static String nameOf(final String type) {
+        return "validation.failures{type=" + type + "}";
+    }
+}
@@ -0,0 +1,75 @@
+package com.magno.admin.catalogo.application;
+
+import com.magno.admin.catalogo.application.category.FakeCategoryGateway;
+import com.magno.admin.catalogo.application.category.bulk.create.BulkCreateCategoriesCommand;
+import com.magno.admin.catalogo.application.category.bulk.create.BulkCreateCategoriesUseCase;
+import com.magno.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.magno.admin.catalogo.application.category.bulk.update.BulkUpdateCategoriesCommand;
+import com.magno.admin.catalogo.application.category.bulk.update.BulkUpdateCategoriesUseCase;
+import com.magno.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.magno.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.magno.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.magno.admin.catalogo.application.metrics.InMemoryMetricsRegistry;
+import com.magno.admin.catalogo.application.metrics.ValidationFailureCounters;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.exceptions.DomainException;
+import com.magno.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class InstrumentedUseCaseTest {
+
+    @Test
+    public void givenSuccessfulAndInvalidCommands_whenExecute_thenShouldRecordLatencyFailuresAndValidationErrors() {
+        final var registry = new InMemoryMetricsRegistry();
+        final var validationFailures = new ValidationFailureCounters(registry);
+        final var gateway = new FakeCategoryGateway();
+        final var create = new InstrumentedUseCase<>(new CreateCategoryUseCase(gateway), registry, validationFailures);
+        final var bulkCreate = new InstrumentedUseCase<>(new BulkCreateCategoriesUseCase(gateway), registry, validationFailures);
+
+        create.execute(CreateCategoryCommand.with("Filmes", null, true));
+        Assertions.assertThrows(DomainException.class, () -> create.execute(CreateCategoryCommand.with(null, null, true)));
+        bulkCreate.execute(new BulkCreateCategoriesCommand(List.of(
+                BulkCreateCategoriesCommand.Item.with(null, null, true),
+                BulkCreateCategoriesCommand.Item.with("Séries", null, true)
+        )));
+
+        Assertions.assertEquals(2, registry.latency("usecase.CreateCategoryUseCase.latency").snapshot().count());
+        Assertions.assertEquals(1, registry.counter("usecase.CreateCategoryUseCase.failures").count());
+        Assertions.assertEquals(0, registry.counter("usecase.BulkCreateCategoriesUseCase.failures").count());
+        Assertions.assertEquals(2, registry.counter("validation.failures{type=name_null}").count());
+    }
+
+    @Test
+    public void givenConflictsAndMissingIds_whenExecute_thenShouldCountThemApartFromValidationErrors() {
+        final var registry = new InMemoryMetricsRegistry();
+        final var validationFailures = new ValidationFailureCounters(registry);
+        final var gateway = new FakeCategoryGateway();
+        final var update = new InstrumentedUseCase<>(new UpdateCategoryUseCase(gateway), registry, validationFailures);
+        final var bulkUpdate = new InstrumentedUseCase<>(new BulkUpdateCategoriesUseCase(gateway), registry, validationFailures);
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var id = filmes.getId().getValue();
+        final var countersBefore = registry.dumpText().lines().count();
+
+        Assertions.assertThrows(ConflictException.class,
+                () -> update.execute(UpdateCategoryCommand.with(id, "Filmes", null, true, filmes.getVersion() + 1)));
+        Assertions.assertThrows(NotFoundException.class,
+                () -> update.execute(UpdateCategoryCommand.with(CategoryID.unique().getValue(), "Séries", null, true, 0)));
+        bulkUpdate.execute(BulkUpdateCategoriesCommand.with(List.of(
+                BulkUpdateCategoriesCommand.Item.with(id, "Filmes", null, true, filmes.getVersion() + 1),
+                BulkUpdateCategoriesCommand.Item.with(CategoryID.unique().getValue(), "Séries", null, true, 0)
+        )));
+
+        Assertions.assertEquals(2, registry.counter("usecase.UpdateCategoryUseCase.failures").count());
+        Assertions.assertEquals(1, registry.counter("usecase.UpdateCategoryUseCase.conflicts").count());
+        Assertions.assertEquals(1, registry.counter("usecase.UpdateCategoryUseCase.not_found").count());
+        Assertions.assertEquals(1, registry.counter("usecase.BulkUpdateCategoriesUseCase.conflicts").count());
+        Assertions.assertEquals(1, registry.counter("usecase.BulkUpdateCategoriesUseCase.not_found").count());
+        Assertions.assertEquals(0, registry.counter("validation.failures{type=other}").count());
+        Assertions.assertEquals(countersBefore, registry.dumpText().lines().count());
+    }
+}
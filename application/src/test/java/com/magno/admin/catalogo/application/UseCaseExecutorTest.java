@@ -0,0 +1,162 @@
+package com.magno.admin.catalogo.application;
+
+import com.magno.admin.catalogo.domain.exceptions.DomainException;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class UseCaseExecutorTest {
+
+    @Test
+    public void givenManyInputs_whenCallExecuteAll_thenShouldReturnOutputsInInputOrder() {
+        final var doubler = new UseCase<Integer, Integer>() {
+            @Override
+            public Integer execute(final Integer anIn) {
+                sleep(5);
+                return anIn * 2;
+            }
+        };
+        final var inputs = IntStream.range(0, 200).boxed().toList();
+
+        try (final var executor = new UseCaseExecutor()) {
+            final var actualOutputs = executor.executeAll(doubler, inputs);
+
+            Assertions.assertEquals(inputs.stream().map(i -> i * 2).toList(), actualOutputs);
+        }
+    }
+
+    @Test
+    public void givenAConcurrencyLimit_whenExecuteAsync_thenShouldNeverExceedIt() {
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var useCase = new UseCase<Integer, Integer>() {
+            @Override
+            public Integer execute(final Integer anIn) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(10);
+                running.decrementAndGet();
+                return anIn;
+            }
+        };
+
+        try (final var executor = new UseCaseExecutor().withPolicy(useCase, UseCaseExecutor.Policy.of(3, null))) {
+            executor.executeAllAsync(useCase, IntStream.range(0, 30).boxed().toList()).join();
+
+            Assertions.assertTrue(maxRunning.get() <= 3);
+            Assertions.assertEquals(0, executor.inFlight(useCase));
+        }
+    }
+
+    @Test
+    public void givenAnInstancePerExecution_whenExecuteAsync_thenShouldShareTheLimitOfTheirClass() {
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+
+        try (final var executor = new UseCaseExecutor().withPolicy(new Tracked(running, maxRunning), UseCaseExecutor.Policy.of(2, null))) {
+            final var futures = IntStream.range(0, 20)
+                    .mapToObj(i -> executor.executeAsync(new Tracked(running, maxRunning), i))
+                    .toList();
+            futures.forEach(CompletableFuture::join);
+
+            Assertions.assertTrue(maxRunning.get() <= 2);
+            Assertions.assertEquals(0, executor.inFlight(new Tracked(running, maxRunning)));
+        }
+    }
+
+    @Test
+    public void givenATimeout_whenUseCaseTakesLonger_thenShouldThrowAndInterruptIt() throws Exception {
+        final var interrupted = new CountDownLatch(1);
+        final var useCase = new UseCase<String, String>() {
+            @Override
+            public String execute(final String anIn) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (final InterruptedException ex) {
+                    interrupted.countDown();
+                }
+                return anIn;
+            }
+        };
+
+        try (final var executor = new UseCaseExecutor().withPolicy(useCase, UseCaseExecutor.Policy.of(0, Duration.ofMillis(50)))) {
+            Assertions.assertThrows(UseCaseTimeoutException.class, () -> executor.execute(useCase, "slow"));
+
+            Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, executor.timedOut(useCase));
+        }
+    }
+
+    @Test
+    public void givenAFailingUseCase_whenCallExecute_thenShouldRethrowItsException() {
+        final var expectedError = new ValidationError("'name' should not be null");
+        final var useCase = new UseCase<String, String>() {
+            @Override
+            public String execute(final String anIn) {
+                throw DomainException.with(expectedError);
+            }
+        };
+
+        try (final var executor = new UseCaseExecutor()) {
+            final var actualException = Assertions.assertThrows(DomainException.class, () -> executor.execute(useCase, "x"));
+
+            Assertions.assertEquals(List.of(expectedError), actualException.getErrors());
+            Assertions.assertTrue(executor.executeAsync(useCase, "x").handle((ok, error) -> error != null).join());
+        }
+    }
+
+    @Test
+    public void givenACompletedExecution_whenCallerResumes_thenShouldAlreadyHaveReleasedItsPermit() {
+        final var useCase = new UseCase<Integer, Integer>() {
+            @Override
+            public Integer execute(final Integer anIn) {
+                if (anIn % 2 == 0) {
+                    throw new IllegalStateException("even");
+                }
+                return anIn;
+            }
+        };
+
+        try (final var executor = new UseCaseExecutor().withPolicy(useCase, UseCaseExecutor.Policy.of(1, null))) {
+            for (int i = 0; i < 500; i++) {
+                final var input = i;
+                executor.executeAsync(useCase, input).handle((ok, error) -> input).join();
+                Assertions.assertEquals(0, executor.inFlight(useCase), "after execution " + i);
+            }
+        }
+    }
+
+    private static final class Tracked extends UseCase<Integer, Integer> {
+
+        private final AtomicInteger running;
+        private final AtomicInteger maxRunning;
+
+        private Tracked(final AtomicInteger running, final AtomicInteger maxRunning) {
+            this.running = running;
+            this.maxRunning = maxRunning;
+        }
+
+        @Override
+        public Integer execute(final Integer anIn) {
+            this.maxRunning.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+            sleep(10);
+            this.running.decrementAndGet();
+            return anIn;
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
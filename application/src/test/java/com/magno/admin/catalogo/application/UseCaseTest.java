@@ -1,5 +1,6 @@
 package com.magno.admin.catalogo.application;
 
+import com.magno.admin.catalogo.domain.category.Category;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -8,11 +9,17 @@ public class UseCaseTest {
     @Test
     public void useCaseExecuteTest() {
         final var expectedName = "Filmes";
-        final var expectedDescription = "A categoria mais assistida";
-        final var expectedIsActive = true;
 
-        final var useCaseResult = new UseCase().execute(expectedName, expectedDescription, expectedIsActive);
+        final var useCase = new UseCase<String, Category>() {
+            @Override
+            public Category execute(final String aName) {
+                return Category.newCategory(aName, "A categoria mais assistida", true);
+            }
+        };
+
+        final var useCaseResult = useCase.execute(expectedName);
 
         Assertions.assertNotNull(useCaseResult);
+        Assertions.assertEquals(expectedName, useCaseResult.getName());
     }
 }
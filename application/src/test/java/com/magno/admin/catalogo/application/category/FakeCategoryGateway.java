@@ -0,0 +1,142 @@
+package com.magno.admin.catalogo.application.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FakeCategoryGateway implements CategoryGateway {
+
+    private final Map<CategoryID, Category> categories = new LinkedHashMap<>();
+    private final AtomicInteger batchCalls = new AtomicInteger();
+
+    public int batchCalls() {
+        return batchCalls.get();
+    }
+
+    public int size() {
+        return categories.size();
+    }
+
+    @Override
+    public synchronized Category create(final Category category) {
+        if (categories.putIfAbsent(category.getId(), Category.with(category)) != null) {
+            throw ConflictException.alreadyExists(Category.class, category.getId());
+        }
+        return category;
+    }
+
+    @Override
+    public synchronized void deleteById(final CategoryID id) {
+        categories.remove(id);
+    }
+
+    @Override
+    public synchronized Optional<Category> findById(final CategoryID id) {
+        return Optional.ofNullable(categories.get(id)).map(Category::with);
+    }
+
+    @Override
+    public synchronized CategoryUpdateResult update(final Category category) {
+        final var stored = categories.get(category.getId());
+        if (stored == null) {
+            return new CategoryUpdateResult.NotFound(category.getId());
+        }
+        if (stored.getVersion() != category.getVersion()) {
+            return new CategoryUpdateResult.Conflict(category.getId(), category.getVersion(), stored.getVersion());
+        }
+        final var updated = Category.with(category, stored.getVersion() + 1);
+        categories.put(category.getId(), updated);
+        return new CategoryUpdateResult.Updated(Category.with(updated));
+    }
+
+    @Override
+    public synchronized Pagination<Category> findAll(final CategorySearchParams params) {
+        final var items = categories.values().stream()
+                .skip((long) params.page() * params.perPage())
+                .limit(params.perPage())
+                .map(Category::with)
+                .toList();
+        return new Pagination<>(params.page(), params.perPage(), categories.size(), items);
+    }
+
+    @Override
+    public synchronized CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        final var offset = params.cursor() == null ? 0 : Integer.parseInt(params.cursor());
+        final var items = categories.values().stream()
+                .skip(offset)
+                .limit(params.perPage())
+                .map(Category::with)
+                .toList();
+        final var next = offset + items.size() < categories.size() ? String.valueOf(offset + items.size()) : null;
+        return new CursorPagination<>(next, params.perPage(), params.includeTotal() ? (long) categories.size() : null, items);
+    }
+
+    @Override
+    public synchronized List<Category> findAllById(final Collection<CategoryID> ids) {
+        return ids.stream().map(categories::get).filter(java.util.Objects::nonNull).map(Category::with).toList();
+    }
+
+    @Override
+    public synchronized BatchResult<CategoryID> createAll(final List<Category> aCategories) {
+        batchCalls.incrementAndGet();
+        final var results = new ArrayList<BatchItemResult<CategoryID>>();
+        for (int i = 0; i < aCategories.size(); i++) {
+            final var category = aCategories.get(i);
+            if (categories.putIfAbsent(category.getId(), Category.with(category)) == null) {
+                results.add(BatchItemResult.succeeded(i, category.getId()));
+            } else {
+                results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.ALREADY_EXISTS));
+            }
+        }
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public synchronized BatchResult<CategoryID> updateAll(final List<Category> aCategories) {
+        batchCalls.incrementAndGet();
+        final var results = new ArrayList<BatchItemResult<CategoryID>>();
+        for (int i = 0; i < aCategories.size(); i++) {
+            final var category = aCategories.get(i);
+            final var result = update(category);
+            if (result.isUpdated()) {
+                results.add(BatchItemResult.succeeded(i, category.getId()));
+            } else if (result instanceof CategoryUpdateResult.Conflict) {
+                results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.CONFLICT));
+            } else {
+                results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.NOT_FOUND));
+            }
+        }
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public synchronized BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        batchCalls.incrementAndGet();
+        final var results = new ArrayList<BatchItemResult<CategoryID>>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (categories.remove(ids.get(i)) != null) {
+                results.add(BatchItemResult.succeeded(i, ids.get(i)));
+            } else {
+                results.add(BatchItemResult.failed(i, ids.get(i), BatchItemStatus.NOT_FOUND));
+            }
+        }
+        return new BatchResult<>(results);
+    }
+}
@@ -0,0 +1,131 @@
+package com.magno.admin.catalogo.application.category.bulk;
+
+import com.magno.admin.catalogo.application.category.FakeCategoryGateway;
+import com.magno.admin.catalogo.application.category.bulk.create.BulkCreateCategoriesCommand;
+import com.magno.admin.catalogo.application.category.bulk.create.BulkCreateCategoriesUseCase;
+import com.magno.admin.catalogo.application.category.bulk.delete.BulkDeleteCategoriesUseCase;
+import com.magno.admin.catalogo.application.category.bulk.update.BulkUpdateCategoriesCommand;
+import com.magno.admin.catalogo.application.category.bulk.update.BulkUpdateCategoriesUseCase;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class BulkCategoriesUseCaseTest {
+
+    @Test
+    public void givenValidAndInvalidItems_whenCallBulkCreate_thenShouldCreateValidOnesInBatches() {
+        final var gateway = new FakeCategoryGateway();
+        final var useCase = new BulkCreateCategoriesUseCase(gateway, 2);
+
+        final var aCommand = BulkCreateCategoriesCommand.with(List.of(
+                BulkCreateCategoriesCommand.Item.with("Filmes", null, true),
+                BulkCreateCategoriesCommand.Item.with(null, null, true),
+                BulkCreateCategoriesCommand.Item.with("Séries", null, false),
+                BulkCreateCategoriesCommand.Item.with("  ", null, true),
+                BulkCreateCategoriesCommand.Item.with("Animes", null, true)
+        ));
+
+        final var actualResult = useCase.execute(aCommand);
+
+        Assertions.assertEquals(5, actualResult.items().size());
+        Assertions.assertEquals(3, actualResult.succeeded());
+        Assertions.assertEquals(2, actualResult.failed());
+        Assertions.assertEquals(3, gateway.size());
+        Assertions.assertEquals(3, gateway.batchCalls());
+
+        final var firstFailure = actualResult.failures().get(0);
+        Assertions.assertEquals(1, firstFailure.index());
+        Assertions.assertEquals(BatchItemStatus.INVALID, firstFailure.status());
+        Assertions.assertEquals("'name' should not be null", firstFailure.errors().get(0).message());
+        Assertions.assertEquals(3, actualResult.failures().get(1).index());
+    }
+
+    @Test
+    public void givenExistingAndMissingIds_whenCallBulkUpdate_thenShouldReportPerItemResults() {
+        final var gateway = new FakeCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Séries", null, true));
+        final var missingId = CategoryID.unique().getValue();
+
+        final var aCommand = BulkUpdateCategoriesCommand.with(List.of(
+                BulkUpdateCategoriesCommand.Item.with(filmes.getId().getValue(), "Filmes e curtas", null, false, filmes.getVersion()),
+                BulkUpdateCategoriesCommand.Item.with(missingId, "Kids", null, true, 0),
+                BulkUpdateCategoriesCommand.Item.with("invalid-id", "Kids", null, true, 0),
+                BulkUpdateCategoriesCommand.Item.with(series.getId().getValue(), "no", null, true, series.getVersion())
+        ));
+
+        final var actualResult = new BulkUpdateCategoriesUseCase(gateway).execute(aCommand);
+
+        Assertions.assertEquals(
+                List.of(BatchItemStatus.SUCCEEDED, BatchItemStatus.NOT_FOUND, BatchItemStatus.INVALID, BatchItemStatus.INVALID),
+                actualResult.items().stream().map(item -> item.status()).toList()
+        );
+
+        final var actualCategory = gateway.findById(filmes.getId()).orElseThrow();
+        Assertions.assertEquals("Filmes e curtas", actualCategory.getName());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertEquals("Séries", gateway.findById(series.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenARepeatedId_whenCallBulkUpdate_thenShouldApplyTheFirstAndReportConflictForTheSecond() {
+        final var gateway = new FakeCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+        final var actualResult = new BulkUpdateCategoriesUseCase(gateway).execute(BulkUpdateCategoriesCommand.with(List.of(
+                BulkUpdateCategoriesCommand.Item.with(filmes.getId().getValue(), "AAA", null, true, filmes.getVersion()),
+                BulkUpdateCategoriesCommand.Item.with(filmes.getId().getValue(), "BBB", null, true, filmes.getVersion())
+        )));
+
+        Assertions.assertEquals(
+                List.of(BatchItemStatus.SUCCEEDED, BatchItemStatus.CONFLICT),
+                actualResult.items().stream().map(item -> item.status()).toList()
+        );
+        Assertions.assertEquals("AAA", gateway.findById(filmes.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallBulkUpdate_thenShouldReportConflictAndKeepTheStoredState() {
+        final var gateway = new FakeCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var staleVersion = filmes.getVersion();
+        gateway.update(Category.with(filmes).update("Filmes e curtas", null, true));
+
+        final var actualResult = new BulkUpdateCategoriesUseCase(gateway).execute(BulkUpdateCategoriesCommand.with(List.of(
+                BulkUpdateCategoriesCommand.Item.with(filmes.getId().getValue(), "Kids", null, true, staleVersion)
+        )));
+
+        Assertions.assertEquals(BatchItemStatus.CONFLICT, actualResult.items().get(0).status());
+        Assertions.assertEquals("Filmes e curtas", gateway.findById(filmes.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenIds_whenCallBulkDelete_thenShouldDeleteExistingOnes() {
+        final var gateway = new FakeCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+        final var actualResult = new BulkDeleteCategoriesUseCase(gateway).execute(List.of(
+                filmes.getId().getValue(),
+                CategoryID.unique().getValue(),
+                "123"
+        ));
+
+        Assertions.assertEquals(
+                List.of(BatchItemStatus.SUCCEEDED, BatchItemStatus.NOT_FOUND, BatchItemStatus.INVALID),
+                actualResult.items().stream().map(item -> item.status()).toList()
+        );
+        Assertions.assertEquals(0, gateway.size());
+    }
+
+    @Test
+    public void givenAnInvalidBatchSize_whenCreateUseCase_thenShouldThrow() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new BulkCreateCategoriesUseCase(new FakeCategoryGateway(), 0)
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.magno.admin.catalogo.application.category.create;
+
+import com.magno.admin.catalogo.application.category.FakeCategoryGateway;
+import com.magno.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CreateCategoryUseCaseTest {
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateCategory_thenShouldReturnCategoryId() {
+        final var gateway = new FakeCategoryGateway();
+        final var useCase = new CreateCategoryUseCase(gateway);
+
+        final var actualOutput = useCase.execute(CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true));
+
+        Assertions.assertNotNull(actualOutput.id());
+        final var actualCategory = gateway.findById(actualOutput.id()).orElseThrow();
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsCreateCategory_thenShouldThrowDomainException() {
+        final var gateway = new FakeCategoryGateway();
+        final var useCase = new CreateCategoryUseCase(gateway);
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(CreateCategoryCommand.with(null, "A categoria mais assistida", true))
+        );
+
+        Assertions.assertEquals("'name' should not be null", actualException.getErrors().get(0).message());
+        Assertions.assertEquals(0, gateway.size());
+    }
+}
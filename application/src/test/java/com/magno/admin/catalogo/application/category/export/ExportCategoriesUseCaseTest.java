@@ -0,0 +1,55 @@
+package com.magno.admin.catalogo.application.category.export;
+
+import com.magno.admin.catalogo.application.category.FakeCategoryGateway;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+public class ExportCategoriesUseCaseTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-02T03:04:05Z");
+
+    @Test
+    public void givenCategories_whenExportAsNdjson_thenShouldWriteOneEscapedObjectPerLine() {
+        final var gateway = new FakeCategoryGateway();
+        final var filmes = gateway.create(category(1, "Filmes", "A \"melhor\"\ncategoria", true));
+        final var kids = gateway.create(category(2, "Kids", null, false));
+        final var output = new ByteArrayOutputStream();
+
+        final var actualOutput = new ExportCategoriesUseCase(gateway)
+                .execute(new ExportCategoriesCommand(output, CategoryExportFormat.NDJSON, "", "createdAt", "asc", 1));
+
+        Assertions.assertEquals(2, actualOutput.exported());
+        Assertions.assertEquals(
+                "{\"id\":\"" + filmes.getId().getValue() + "\",\"name\":\"Filmes\",\"description\":\"A \\\"melhor\\\"\\ncategoria\","
+                        + "\"isActive\":true,\"createdAt\":\"2024-01-02T03:04:05Z\",\"updatedAt\":\"2024-01-02T03:04:05Z\",\"deletedAt\":null}\n"
+                        + "{\"id\":\"" + kids.getId().getValue() + "\",\"name\":\"Kids\",\"description\":null,"
+                        + "\"isActive\":false,\"createdAt\":\"2024-01-02T03:04:05Z\",\"updatedAt\":\"2024-01-02T03:04:05Z\",\"deletedAt\":\"2024-01-02T03:04:05Z\"}\n",
+                output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    public void givenCategories_whenExportAsCsv_thenShouldQuoteOnlyWhenNeeded() {
+        final var gateway = new FakeCategoryGateway();
+        final var filmes = gateway.create(category(1, "Filmes, Séries", "Diz \"oi\"", true));
+        final var output = new ByteArrayOutputStream();
+
+        new ExportCategoriesUseCase(gateway).execute(ExportCategoriesCommand.with(output, CategoryExportFormat.CSV));
+
+        Assertions.assertEquals(
+                "id,name,description,is_active,created_at,updated_at,deleted_at\r\n"
+                        + filmes.getId().getValue() + ",\"Filmes, Séries\",\"Diz \"\"oi\"\"\",true,2024-01-02T03:04:05Z,2024-01-02T03:04:05Z,\r\n",
+                output.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static Category category(final long id, final String name, final String description, final boolean active) {
+        return new Category(CategoryID.from(0, id), name, description, active, CREATED_AT, CREATED_AT, active ? null : CREATED_AT);
+    }
+}
@@ -0,0 +1,150 @@
+package com.magno.admin.catalogo.application.category.importing;
+
+import com.magno.admin.catalogo.application.category.FakeCategoryGateway;
+import com.magno.admin.catalogo.application.category.export.CategoryExportFormat;
+import com.magno.admin.catalogo.application.category.export.ExportCategoriesCommand;
+import com.magno.admin.catalogo.application.category.export.ExportCategoriesUseCase;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportCategoriesUseCaseTest {
+
+    @Test
+    public void givenCsvWithInvalidRows_whenImport_thenShouldImportValidRowsAndReportRejectedOnes() {
+        final var gateway = new FakeCategoryGateway();
+        final var csv = "name,description,is_active\r\n"
+                + "Filmes,\"Várias linhas,\nentre aspas \"\"duplas\"\"\",true\r\n"
+                + ",Sem nome,true\r\n"
+                + "\r\n"
+                + "Séries,,FALSE\r\n"
+                + "Kids,Infantil,talvez\r\n"
+                + "Documentários,,1\r\n";
+        final var rejections = new ByteArrayOutputStream();
+        final var lastImported = new AtomicLong();
+
+        final var actualOutput = new ImportCategoriesUseCase(gateway, 3, 2, 1).execute(ImportCategoriesCommand.with(
+                input(csv),
+                CategoryImportFormat.CSV,
+                rejections,
+                (read, imported, rejected) -> lastImported.set(imported)
+        ));
+
+        Assertions.assertEquals(5, actualOutput.read());
+        Assertions.assertEquals(3, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.rejected());
+        Assertions.assertEquals(3, lastImported.get());
+        Assertions.assertEquals(3, gateway.size());
+
+        final var filmes = find(gateway, "Filmes");
+        Assertions.assertEquals("Várias linhas,\nentre aspas \"duplas\"", filmes.getDescription());
+        Assertions.assertTrue(filmes.isActive());
+        Assertions.assertFalse(find(gateway, "Séries").isActive());
+        Assertions.assertNull(find(gateway, "Séries").getDescription());
+
+        final var report = rejections.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(report.startsWith("line,errors\r\n"));
+        Assertions.assertTrue(report.contains("4,\"'name' should not be null\"\r\n"));
+        Assertions.assertTrue(report.contains("7,\"'is_active' should be true or false\"\r\n"));
+    }
+
+    @Test
+    public void givenExportedNdjson_whenImport_thenShouldRecreateEveryCategory() {
+        final var source = new FakeCategoryGateway();
+        for (int i = 0; i < 50; i++) {
+            source.create(Category.newCategory("Categoria " + i, i % 2 == 0 ? "Descrição \"" + i + "\"" : null, i % 3 != 0));
+        }
+        final var exported = new ByteArrayOutputStream();
+        new ExportCategoriesUseCase(source).execute(ExportCategoriesCommand.with(exported, CategoryExportFormat.NDJSON));
+
+        final var target = new FakeCategoryGateway();
+        final var actualOutput = new ImportCategoriesUseCase(target, 4, 8, 4).execute(ImportCategoriesCommand.with(
+                new ByteArrayInputStream(exported.toByteArray()),
+                CategoryImportFormat.NDJSON
+        ));
+
+        Assertions.assertEquals(50, actualOutput.read());
+        Assertions.assertEquals(50, actualOutput.imported());
+        Assertions.assertEquals(0, actualOutput.rejected());
+        Assertions.assertEquals(7, target.batchCalls());
+        for (int i = 0; i < 50; i++) {
+            final var actual = find(target, "Categoria " + i);
+            Assertions.assertEquals(i % 2 == 0 ? "Descrição \"" + i + "\"" : null, actual.getDescription());
+            Assertions.assertEquals(i % 3 != 0, actual.isActive());
+        }
+    }
+
+    @Test
+    public void givenCsvEndingInsideQuotes_whenImport_thenShouldRejectTheUnterminatedRecord() {
+        final var gateway = new FakeCategoryGateway();
+        final var csv = "name,description\r\n"
+                + "Filmes,Longas\r\n"
+                + "Séries,\"sem fim,\ntrue\r\n";
+        final var rejections = new ByteArrayOutputStream();
+
+        final var actualOutput = new ImportCategoriesUseCase(gateway, 1, 10, 2).execute(ImportCategoriesCommand.with(
+                input(csv),
+                CategoryImportFormat.CSV,
+                rejections,
+                null
+        ));
+
+        Assertions.assertEquals(2, actualOutput.read());
+        Assertions.assertEquals(1, actualOutput.imported());
+        Assertions.assertEquals(1, actualOutput.rejected());
+        Assertions.assertTrue(rejections.toString(StandardCharsets.UTF_8)
+                .contains("3,\"quoted field is not closed before the end of the input\"\r\n"));
+    }
+
+    @Test
+    public void givenCsvHeaderWithoutName_whenImport_thenShouldFailBeforeReadingRows() {
+        final var gateway = new FakeCategoryGateway();
+        final var csv = "title,description\r\nFilmes,Longas\r\nSéries,\r\n";
+        final var command = ImportCategoriesCommand.with(input(csv), CategoryImportFormat.CSV, new ByteArrayOutputStream(), null);
+
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ImportCategoriesUseCase(gateway, 2, 10, 2).execute(command));
+
+        Assertions.assertEquals("CSV header should have a 'name' column", actualException.getMessage());
+        Assertions.assertEquals(0, gateway.size());
+    }
+
+    @Test
+    public void givenMalformedNdjsonLine_whenImport_thenShouldRejectOnlyThatLine() {
+        final var gateway = new FakeCategoryGateway();
+        final var ndjson = "{\"name\":\"Filmes\",\"tags\":[\"a\",{\"b\":1}],\"isActive\":true}\n"
+                + "{\"name\":\"Séries\"\n"
+                + "\n"
+                + "{\"name\":\"Kids\",\"description\":\"\\u00c9 infantil\"}\n";
+        final var rejections = new ByteArrayOutputStream();
+
+        final var actualOutput = new ImportCategoriesUseCase(gateway, 2, 10, 2).execute(ImportCategoriesCommand.with(
+                input(ndjson),
+                CategoryImportFormat.NDJSON,
+                rejections,
+                null
+        ));
+
+        Assertions.assertEquals(3, actualOutput.read());
+        Assertions.assertEquals(2, actualOutput.imported());
+        Assertions.assertEquals(1, actualOutput.rejected());
+        Assertions.assertEquals("É infantil", find(gateway, "Kids").getDescription());
+        Assertions.assertTrue(rejections.toString(StandardCharsets.UTF_8).contains("2,\"malformed JSON at column"));
+    }
+
+    private static ByteArrayInputStream input(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Category find(final FakeCategoryGateway gateway, final String name) {
+        try (final var categories = gateway.streamAll(CategoryCursorSearchParams.first(100, "", "name", "asc"))) {
+            return categories.filter(category -> name.equals(category.getName())).findFirst().orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.magno.admin.catalogo.application.category.retrieve.list;
+
+import com.magno.admin.catalogo.application.UseCaseExecutor;
+import com.magno.admin.catalogo.application.category.FakeCategoryGateway;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ListCategoriesUseCaseTest {
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategoriesOnExecutor_thenShouldReturnAPage() {
+        final var gateway = new FakeCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Séries", null, true));
+        final var useCase = new ListCategoriesUseCase(gateway);
+
+        try (final var executor = new UseCaseExecutor()) {
+            final var actualPage = executor.executeAsync(useCase, new CategorySearchParams(0, 1, "", "name", "asc")).join();
+
+            Assertions.assertEquals(0, actualPage.currentPage());
+            Assertions.assertEquals(1, actualPage.perPage());
+            Assertions.assertEquals(2, actualPage.total());
+            Assertions.assertEquals(filmes.getId(), actualPage.items().get(0).id());
+            Assertions.assertEquals("Filmes", actualPage.items().get(0).name());
+        }
+    }
+}
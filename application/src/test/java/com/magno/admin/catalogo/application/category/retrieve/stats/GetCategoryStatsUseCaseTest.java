@@ -0,0 +1,46 @@
+package com.magno.admin.catalogo.application.category.retrieve.stats;
+
+import com.magno.admin.catalogo.application.category.FakeCategoryGateway;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategoryTimeBucket;
+import com.magno.admin.catalogo.domain.category.CategoryTimeField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+public class GetCategoryStatsUseCaseTest {
+
+    @Test
+    public void givenCategoriesOverSeveralMonths_whenCallGetStats_thenShouldCountByStatusAndMonth() {
+        final var gateway = new FakeCategoryGateway();
+        gateway.create(category(1, "2024-01-31T23:59:59Z", true));
+        gateway.create(category(2, "2024-02-01T00:00:00Z", false));
+        gateway.create(category(3, "2024-02-20T10:00:00Z", true));
+        gateway.create(category(4, "2024-04-02T10:00:00Z", true));
+
+        final var actualOutput = new GetCategoryStatsUseCase(gateway).execute(new CategoryHistogramParams(
+                CategoryTimeField.CREATED_AT,
+                CategoryTimeBucket.MONTH,
+                Instant.parse("2024-01-15T00:00:00Z"),
+                Instant.parse("2024-04-01T00:00:00Z")
+        ));
+
+        Assertions.assertEquals(4, actualOutput.total());
+        Assertions.assertEquals(3, actualOutput.active());
+        Assertions.assertEquals(1, actualOutput.inactive());
+        Assertions.assertEquals(List.of(
+                new CategoryHistogramBucket(Instant.parse("2024-01-01T00:00:00Z"), 1),
+                new CategoryHistogramBucket(Instant.parse("2024-02-01T00:00:00Z"), 2)
+        ), actualOutput.buckets());
+    }
+
+    private static Category category(final long id, final String createdAt, final boolean active) {
+        final var at = Instant.parse(createdAt);
+        return new Category(CategoryID.from(0, id), "Categoria " + id, null, active, at, at, active ? null : at);
+    }
+}
@@ -0,0 +1,63 @@
+package com.magno.admin.catalogo.application.category.update;
+
+import com.magno.admin.catalogo.application.category.FakeCategoryGateway;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class UpdateCategoryUseCaseTest {
+
+    @Test
+    public void givenAValidCommand_whenCallsUpdateCategory_thenShouldReturnCategoryId() {
+        final var gateway = new FakeCategoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Film", null, true));
+        final var useCase = new UpdateCategoryUseCase(gateway);
+
+        final var actualOutput = useCase.execute(
+                UpdateCategoryCommand.with(aCategory.getId().getValue(), "Filmes", "A categoria mais assistida", false, aCategory.getVersion())
+        );
+
+        Assertions.assertEquals(aCategory.getId(), actualOutput.id());
+        final var actualCategory = gateway.findById(aCategory.getId()).orElseThrow();
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertNotNull(actualCategory.getDeletedAt());
+    }
+
+    @Test
+    public void givenAMissingId_whenCallsUpdateCategory_thenShouldThrowNotFound() {
+        final var useCase = new UpdateCategoryUseCase(new FakeCategoryGateway());
+        final var anId = CategoryID.unique();
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(UpdateCategoryCommand.with(anId.getValue(), "Filmes", null, true, 0))
+        );
+
+        Assertions.assertEquals("Category with ID %s was not found".formatted(anId.getValue()), actualException.getMessage());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateCategory_thenShouldThrowConflictAndKeepTheStoredState() {
+        final var gateway = new FakeCategoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Film", null, true));
+        final var useCase = new UpdateCategoryUseCase(gateway);
+        final var readVersion = aCategory.getVersion();
+        useCase.execute(UpdateCategoryCommand.with(aCategory.getId().getValue(), "Filmes", null, true, readVersion));
+
+        final var actualException = Assertions.assertThrows(
+                ConflictException.class,
+                () -> useCase.execute(UpdateCategoryCommand.with(aCategory.getId().getValue(), "Séries", null, true, readVersion))
+        );
+
+        Assertions.assertEquals(
+                "Category with ID %s was changed concurrently, expected version %d but found %d"
+                        .formatted(aCategory.getId().getValue(), readVersion, readVersion + 1),
+                actualException.getMessage()
+        );
+        Assertions.assertEquals("Filmes", gateway.findById(aCategory.getId()).orElseThrow().getName());
+    }
+}
@@ -0,0 +1,32 @@
+package com.magno.admin.catalogo.application.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryMetricsRegistryTest {
+
+    @Test
+    public void givenRecordedMetrics_whenDump_thenShouldRenderTextAndJson() {
+        final var registry = new InMemoryMetricsRegistry();
+        registry.counter("validation.failures{error='name' should not be null}").add(2);
+        registry.latency("category.gateway.findById.latency").record(1_500);
+
+        final var actualText = registry.dumpText();
+        final var actualJson = registry.dumpJson();
+
+        Assertions.assertTrue(actualText.contains("validation.failures{error='name' should not be null} 2\n"));
+        Assertions.assertTrue(actualText.contains("category.gateway.findById.latency count=1 mean=1.5 p50=1.5"));
+        Assertions.assertTrue(actualJson.startsWith("{\"counters\":{\"validation.failures{error='name' should not be null}\":2},"));
+        Assertions.assertTrue(actualJson.contains("\"category.gateway.findById.latency\":{\"count\":1,\"mean\":1.5,\"p50\":1.5,"));
+        Assertions.assertTrue(actualJson.contains("\"p99_9\":1.5,\"max\":1.5}"));
+    }
+
+    @Test
+    public void givenTheSameName_whenRegisterAnotherType_thenShouldThrow() {
+        final var registry = new InMemoryMetricsRegistry();
+        final var counter = registry.counter("usecase.failures");
+
+        Assertions.assertSame(counter, registry.counter("usecase.failures"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.latency("usecase.failures"));
+    }
+}
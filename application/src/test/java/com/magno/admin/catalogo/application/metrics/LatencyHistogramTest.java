@@ -0,0 +1,37 @@
+package com.magno.admin.catalogo.application.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void givenAnyValue_whenComputeItsBucket_thenBucketBoundShouldBeWithinThreePercent() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 7) {
+            final var index = LatencyHistogram.indexOf(value);
+            final var highest = LatencyHistogram.highestValueOf(index);
+
+            Assertions.assertTrue(highest >= value, "bucket of " + value + " ends at " + highest);
+            Assertions.assertTrue(highest - value <= Math.max(1, value / 32), "bucket of " + value + " ends at " + highest);
+        }
+        Assertions.assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void givenRecordedLatencies_whenTakeSnapshot_thenShouldReportPercentiles() {
+        final var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        histogram.record(-5);
+
+        final var snapshot = histogram.snapshot();
+
+        Assertions.assertEquals(1_001, snapshot.count());
+        Assertions.assertEquals(1_000_000, snapshot.max());
+        Assertions.assertEquals(500_000, snapshot.percentile(50), 500_000 / 32.0);
+        Assertions.assertEquals(990_000, snapshot.percentile(99), 990_000 / 32.0);
+        Assertions.assertEquals(1_000_000, snapshot.percentile(100));
+        Assertions.assertEquals(0, new LatencyHistogram().snapshot().percentile(99));
+    }
+}
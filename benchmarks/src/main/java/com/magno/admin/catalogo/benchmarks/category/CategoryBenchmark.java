@@ -0,0 +1,59 @@
+package com.magno.admin.catalogo.benchmarks.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryValidator;
+import com.magno.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryBenchmark {
+
+    private Category validCategory;
+    private Category invalidCategory;
+
+    @Setup
+    public void setUp() {
+        this.validCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.invalidCategory = Category.newCategory("no", "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory("Filmes", "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public Category newInactiveCategory() {
+        return Category.newCategory("Filmes", "A categoria mais assistida", false);
+    }
+
+    @Benchmark
+    public Notification validateValidCategory() {
+        final var notification = Notification.create();
+        new CategoryValidator(this.validCategory, notification).validate();
+        return notification;
+    }
+
+    @Benchmark
+    public Notification validateInvalidCategory() {
+        final var notification = Notification.create();
+        new CategoryValidator(this.invalidCategory, notification).validate();
+        return notification;
+    }
+}
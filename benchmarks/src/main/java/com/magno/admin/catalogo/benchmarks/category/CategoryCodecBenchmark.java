@@ -0,0 +1,313 @@
+package com.magno.admin.catalogo.benchmarks.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.infrastructure.category.persistence.CategoryBinaryCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CategoryBinaryCodec} against JSON for one category and for a listing page. The tree has no JSON library, so
+ * the JSON side is a hand-written writer and flat-object reader of the same fields: a lower bound for what a
+ * reflection-based mapper costs. The gc profiler enabled by the {@code jmh} task shows the allocation difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryCodecBenchmark {
+
+    @Param({"20"})
+    public int pageSize;
+
+    private Category category;
+    private Pagination<Category> page;
+    private ByteBuffer buffer;
+    private ByteBuffer binaryCategory;
+    private ByteBuffer binaryPage;
+    private byte[] jsonCategory;
+    private byte[] jsonPage;
+
+    @Setup
+    public void setUp() {
+        this.category = Category.newCategory("Séries e Animações", "Produções em episódios, com \"temporadas\"", true)
+                .deactivate();
+
+        final var items = new ArrayList<Category>(this.pageSize);
+        for (int i = 0; i < this.pageSize; i++) {
+            items.add(Category.newCategory("Categoria " + i, i % 2 == 0 ? "Descrição da categoria " + i : null, true));
+        }
+        this.page = new Pagination<>(0, this.pageSize, 10_000, items);
+
+        this.buffer = ByteBuffer.allocate(64 * 1024);
+        this.binaryCategory = CategoryBinaryCodec.encode(this.category);
+        this.binaryPage = CategoryBinaryCodec.encode(this.page);
+        this.jsonCategory = Json.write(new StringBuilder(), this.category).toString().getBytes(StandardCharsets.UTF_8);
+        this.jsonPage = Json.write(new StringBuilder(), this.page).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int encodeCategoryBinary() {
+        this.buffer.clear();
+        CategoryBinaryCodec.write(this.buffer, this.category);
+        return this.buffer.position();
+    }
+
+    @Benchmark
+    public int encodeCategoryJson() {
+        return Json.write(new StringBuilder(256), this.category).toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public Category decodeCategoryBinary() {
+        return CategoryBinaryCodec.readCategory(this.binaryCategory.duplicate());
+    }
+
+    @Benchmark
+    public Category decodeCategoryJson() {
+        return new Json(new String(this.jsonCategory, StandardCharsets.UTF_8)).readCategory();
+    }
+
+    @Benchmark
+    public int encodePageBinary() {
+        this.buffer.clear();
+        CategoryBinaryCodec.write(this.buffer, this.page);
+        return this.buffer.position();
+    }
+
+    @Benchmark
+    public int encodePageJson() {
+        return Json.write(new StringBuilder(4096), this.page).toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public Pagination<Category> decodePageBinary() {
+        return CategoryBinaryCodec.readPagination(this.binaryPage.duplicate());
+    }
+
+    @Benchmark
+    public Pagination<Category> decodePageJson() {
+        return new Json(new String(this.jsonPage, StandardCharsets.UTF_8)).readPage();
+    }
+
+    /**
+     * Encoded size of the sample page in both formats, for the record alongside the timings.
+     */
+    public static void main(final String[] args) {
+        final var benchmark = new CategoryCodecBenchmark();
+        benchmark.pageSize = 20;
+        benchmark.setUp();
+        System.out.printf("category: binary=%d json=%d bytes%n", benchmark.binaryCategory.remaining(), benchmark.jsonCategory.length);
+        System.out.printf("page: binary=%d json=%d bytes%n", benchmark.binaryPage.remaining(), benchmark.jsonPage.length);
+    }
+
+    private static final class Json {
+
+        private final String text;
+        private int position;
+
+        private Json(final String text) {
+            this.text = text;
+        }
+
+        static StringBuilder write(final StringBuilder out, final Pagination<Category> page) {
+            out.append("{\"currentPage\":").append(page.currentPage())
+                    .append(",\"perPage\":").append(page.perPage())
+                    .append(",\"total\":").append(page.total())
+                    .append(",\"items\":[");
+            for (int i = 0; i < page.items().size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                write(out, page.items().get(i));
+            }
+            return out.append("]}");
+        }
+
+        static StringBuilder write(final StringBuilder out, final Category category) {
+            out.append("{\"id\":");
+            string(out, category.getId().getValue());
+            out.append(",\"name\":");
+            string(out, category.getName());
+            out.append(",\"description\":");
+            string(out, category.getDescription());
+            out.append(",\"isActive\":").append(category.isActive());
+            out.append(",\"createdAt\":");
+            string(out, category.getCreatedAt() == null ? null : category.getCreatedAt().toString());
+            out.append(",\"updatedAt\":");
+            string(out, category.getUpdatedAt() == null ? null : category.getUpdatedAt().toString());
+            out.append(",\"deletedAt\":");
+            string(out, category.getDeletedAt() == null ? null : category.getDeletedAt().toString());
+            return out.append(",\"version\":").append(category.getVersion()).append('}');
+        }
+
+        private static void string(final StringBuilder out, final String value) {
+            if (value == null) {
+                out.append("null");
+                return;
+            }
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                final var c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+            out.append('"');
+        }
+
+        Pagination<Category> readPage() {
+            expect('{');
+            int currentPage = 0;
+            int perPage = 0;
+            long total = 0;
+            final var items = new ArrayList<Category>();
+            do {
+                final var key = readString();
+                expect(':');
+                switch (key) {
+                    case "currentPage" -> currentPage = (int) readLong();
+                    case "perPage" -> perPage = (int) readLong();
+                    case "total" -> total = readLong();
+                    case "items" -> {
+                        expect('[');
+                        if (peek() != ']') {
+                            do {
+                                items.add(readCategory());
+                            } while (accept(','));
+                        }
+                        expect(']');
+                    }
+                    default -> throw new IllegalArgumentException("Unknown field " + key);
+                }
+            } while (accept(','));
+            expect('}');
+            return new Pagination<>(currentPage, perPage, total, items);
+        }
+
+        Category readCategory() {
+            expect('{');
+            String id = null;
+            String name = null;
+            String description = null;
+            boolean active = false;
+            Instant createdAt = null;
+            Instant updatedAt = null;
+            Instant deletedAt = null;
+            long version = 0;
+            do {
+                final var key = readString();
+                expect(':');
+                switch (key) {
+                    case "id" -> id = readString();
+                    case "name" -> name = readString();
+                    case "description" -> description = readString();
+                    case "isActive" -> active = readBoolean();
+                    case "createdAt" -> createdAt = readInstant();
+                    case "updatedAt" -> updatedAt = readInstant();
+                    case "deletedAt" -> deletedAt = readInstant();
+                    case "version" -> version = readLong();
+                    default -> throw new IllegalArgumentException("Unknown field " + key);
+                }
+            } while (accept(','));
+            expect('}');
+            return Category.with(CategoryID.from(id), name, description, active, createdAt, updatedAt, deletedAt, version);
+        }
+
+        private Instant readInstant() {
+            final var value = readString();
+            return value == null ? null : Instant.parse(value);
+        }
+
+        private boolean readBoolean() {
+            if (this.text.startsWith("true", this.position)) {
+                this.position += 4;
+                return true;
+            }
+            this.position += 5;
+            return false;
+        }
+
+        private long readLong() {
+            final var start = this.position;
+            while (this.position < this.text.length()
+                    && (Character.isDigit(this.text.charAt(this.position)) || this.text.charAt(this.position) == '-')) {
+                this.position++;
+            }
+            return Long.parseLong(this.text, start, this.position, 10);
+        }
+
+        private String readString() {
+            if (this.text.startsWith("null", this.position)) {
+                this.position += 4;
+                return null;
+            }
+            expect('"');
+            final var out = new StringBuilder();
+            while (true) {
+                final var c = this.text.charAt(this.position++);
+                if (c == '"') {
+                    return out.toString();
+                }
+                if (c != '\\') {
+                    out.append(c);
+                    continue;
+                }
+                final var escaped = this.text.charAt(this.position++);
+                switch (escaped) {
+                    case 'n' -> out.append('\n');
+                    case 'u' -> {
+                        out.append((char) Integer.parseInt(this.text, this.position, this.position + 4, 16));
+                        this.position += 4;
+                    }
+                    default -> out.append(escaped);
+                }
+            }
+        }
+
+        private char peek() {
+            return this.text.charAt(this.position);
+        }
+
+        private boolean accept(final char expected) {
+            if (peek() == expected) {
+                this.position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char expected) {
+            if (!accept(expected)) {
+                throw new IllegalArgumentException("Expected '" + expected + "' at " + this.position);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.magno.admin.catalogo.benchmarks.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.infrastructure.category.CategoryCopyOnWriteGateway;
+import com.magno.admin.catalogo.infrastructure.category.CategoryInMemoryGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing throughput on every core while a background thread keeps updating categories, for the read-write locked
+ * store against the copy-on-write one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Threads(Threads.MAX)
+public class CategoryConcurrentReadBenchmark {
+
+    @Param({"inMemory", "copyOnWrite"})
+    public String store;
+
+    @Param({"100000"})
+    public int catalogSize;
+
+    private CategoryGateway gateway;
+    private CategorySearchParams firstPage;
+    private Thread writer;
+    private volatile boolean running;
+
+    @Setup
+    public void setUp() {
+        this.gateway = "copyOnWrite".equals(this.store) ? new CategoryCopyOnWriteGateway() : new CategoryInMemoryGateway();
+
+        final var categories = new ArrayList<Category>(this.catalogSize);
+        for (int i = 0; i < this.catalogSize; i++) {
+            categories.add(Category.newCategory("Categoria " + i, null, true));
+        }
+        this.gateway.createAll(categories);
+        this.firstPage = new CategorySearchParams(0, 20, "", "name", "asc");
+
+        final var ids = categories.stream().map(Category::getId).toList();
+        this.running = true;
+        this.writer = new Thread(() -> keepUpdating(ids), "category-benchmark-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        this.running = false;
+        this.writer.join();
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllWhileWriting() {
+        return this.gateway.findAll(this.firstPage);
+    }
+
+    private void keepUpdating(final List<CategoryID> ids) {
+        for (long i = 0; this.running; i++) {
+            final var id = ids.get((int) (i % ids.size()));
+            final var name = "Categoria " + i;
+            this.gateway.findById(id).ifPresent(category -> this.gateway.update(category.update(name, null, true)));
+        }
+    }
+}
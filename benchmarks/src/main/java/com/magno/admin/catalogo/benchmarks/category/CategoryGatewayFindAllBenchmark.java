@@ -0,0 +1,100 @@
+package com.magno.admin.catalogo.benchmarks.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.infrastructure.category.CategoryInMemoryGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx16g"})
+public class CategoryGatewayFindAllBenchmark {
+
+    private static final String[] WORDS = {
+            "filmes", "séries", "animes", "documentários", "kids", "terror", "comédia", "drama",
+            "ação", "romance", "nacionais", "clássicos", "lançamentos", "esportes", "música", "novelas"
+    };
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int catalogSize;
+
+    private CategoryGateway gateway;
+    private CategorySearchParams firstPage;
+    private CategorySearchParams deepPage;
+    private CategorySearchParams newestFirst;
+    private CategorySearchParams termSearch;
+    private CategoryCursorSearchParams firstCursorPage;
+
+    @Setup
+    public void setUp() {
+        this.gateway = new CategoryInMemoryGateway();
+
+        final var random = new SplittableRandom(42);
+        final var batch = new ArrayList<Category>(LOAD_BATCH_SIZE);
+        for (int i = 0; i < this.catalogSize; i++) {
+            final var name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            final var description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            batch.add(Category.newCategory(name, description, random.nextInt(10) != 0));
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                this.gateway.createAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.gateway.createAll(batch);
+        }
+
+        this.firstPage = new CategorySearchParams(0, 10, "", "name", "asc");
+        this.deepPage = new CategorySearchParams(this.catalogSize / 20, 10, "", "name", "asc");
+        this.newestFirst = new CategorySearchParams(0, 10, "", "createdAt", "desc");
+        this.termSearch = new CategorySearchParams(0, 10, "terror nac", "name", "asc");
+        this.firstCursorPage = CategoryCursorSearchParams.first(10, "", "name", "asc");
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllFirstPage() {
+        return this.gateway.findAll(this.firstPage);
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllDeepPage() {
+        return this.gateway.findAll(this.deepPage);
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllNewestFirst() {
+        return this.gateway.findAll(this.newestFirst);
+    }
+
+    @Benchmark
+    public Pagination<Category> findAllWithTerms() {
+        return this.gateway.findAll(this.termSearch);
+    }
+
+    @Benchmark
+    public CursorPagination<Category> findAllFirstCursorPage() {
+        return this.gateway.findAll(this.firstCursorPage);
+    }
+}
@@ -0,0 +1,78 @@
+package com.magno.admin.catalogo.benchmarks.category;
+
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategoryIDGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryIDBenchmark {
+
+    private final CategoryIDGenerator randomGenerator = CategoryIDGenerator.random();
+    private final CategoryIDGenerator timeOrderedGenerator = CategoryIDGenerator.timeOrdered();
+
+    private String rawId;
+    private CategoryID id;
+    private CategoryID sameId;
+
+    @Setup
+    public void setUp() {
+        this.rawId = UUID.randomUUID().toString();
+        this.id = CategoryID.from(this.rawId);
+        this.sameId = CategoryID.from(this.rawId);
+    }
+
+    @Benchmark
+    public CategoryID unique() {
+        return CategoryID.unique();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public CategoryID uniqueRandomContended() {
+        return this.randomGenerator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public CategoryID uniqueTimeOrderedContended() {
+        return this.timeOrderedGenerator.next();
+    }
+
+    @Benchmark
+    public CategoryID fromString() {
+        return CategoryID.from(this.rawId);
+    }
+
+    @Benchmark
+    public String getValue() {
+        return CategoryID.from(this.id.getMostSignificantBits(), this.id.getLeastSignificantBits()).getValue();
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return this.id.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsOf() {
+        return this.id.equals(this.sameId);
+    }
+}
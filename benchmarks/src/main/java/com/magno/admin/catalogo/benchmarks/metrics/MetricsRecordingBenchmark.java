@@ -0,0 +1,70 @@
+package com.magno.admin.catalogo.benchmarks.metrics;
+
+import com.magno.admin.catalogo.application.metrics.InMemoryMetricsRegistry;
+import com.magno.admin.catalogo.application.metrics.MetricsRegistry;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.infrastructure.category.CategoryInMemoryGateway;
+import com.magno.admin.catalogo.infrastructure.category.CategoryMetricsGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the metrics hot path: recording into a histogram, and a gateway read with and without instrumentation.
+ * Run with {@code -prof gc} to check that recording does not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class MetricsRecordingBenchmark {
+
+    private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+    private CategoryInMemoryGateway plainGateway;
+    private CategoryMetricsGateway instrumentedGateway;
+    private CategoryID id;
+    private long value;
+
+    @Setup
+    public void setUp() {
+        this.plainGateway = new CategoryInMemoryGateway();
+        this.instrumentedGateway = new CategoryMetricsGateway(this.plainGateway, this.registry);
+        this.id = this.plainGateway.create(Category.newCategory("Filmes", null, true)).getId();
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        this.registry.latency("benchmark.latency").record(this.value++ & 0xFFFFF);
+    }
+
+    @Benchmark
+    public void noopRecord() {
+        MetricsRegistry.noop().latency("benchmark.latency").record(this.value++ & 0xFFFFF);
+    }
+
+    @Benchmark
+    public Optional<Category> plainFindById() {
+        return this.plainGateway.findById(this.id);
+    }
+
+    @Benchmark
+    public Optional<Category> instrumentedFindById() {
+        return this.instrumentedGateway.findById(this.id);
+    }
+}
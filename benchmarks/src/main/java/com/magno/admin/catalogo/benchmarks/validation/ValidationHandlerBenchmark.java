@@ -0,0 +1,73 @@
+package com.magno.admin.catalogo.benchmarks.validation;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.exceptions.DomainException;
+import com.magno.admin.catalogo.domain.validation.handler.Notification;
+import com.magno.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationHandlerBenchmark {
+
+    private final ThrowsValidationHandler throwsHandler = new ThrowsValidationHandler();
+    private final Notification reusableNotification = Notification.create();
+
+    private Category invalidCategory;
+
+    @Setup
+    public void setUp() {
+        this.invalidCategory = Category.newCategory(null, "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public int throwsHandlerFailure() {
+        try {
+            this.invalidCategory.validate(this.throwsHandler);
+            return 0;
+        } catch (final DomainException ex) {
+            return ex.getErrors().size();
+        }
+    }
+
+    @Benchmark
+    public int throwsHandlerWrappedFailure() {
+        try {
+            this.throwsHandler.validate(() -> {
+                throw new IllegalStateException("boom");
+            });
+            return 0;
+        } catch (final DomainException ex) {
+            return ex.getErrors().size();
+        }
+    }
+
+    @Benchmark
+    public int notificationFailure() {
+        final var notification = Notification.create();
+        this.invalidCategory.validate(notification);
+        return notification.getErrors().size();
+    }
+
+    @Benchmark
+    public int reusedNotificationFailure() {
+        this.reusableNotification.clear();
+        this.invalidCategory.validate(this.reusableNotification);
+        return this.reusableNotification.getErrors().size();
+    }
+}
@@ -1,8 +1,53 @@
 package com.magno.admin.catalogo.domain;
 
+import com.magno.admin.catalogo.domain.event.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private final long version;
+    private List<DomainEvent> domainEvents;
+
     protected AggregateRoot(ID id) {
+        this(id, 0L);
+    }
+
+    protected AggregateRoot(ID id, long version) {
         super(id);
+        if (version < 0) {
+            throw new IllegalArgumentException("'version' should not be negative");
+        }
+        this.version = version;
+    }
+
+    /**
+     * Version of the stored state this aggregate was loaded from. Gateways only accept an update whose version
+     * matches the stored one, and store the result under the next version.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return this.domainEvents == null ? List.of() : Collections.unmodifiableList(this.domainEvents);
+    }
+
+    /**
+     * Returns the events recorded so far and forgets them, so each event is handed out once.
+     */
+    public List<DomainEvent> pullDomainEvents() {
+        final var events = this.domainEvents;
+        this.domainEvents = null;
+        return events == null ? List.of() : events;
+    }
+
+    protected void registerEvent(final DomainEvent event) {
+        if (this.domainEvents == null) {
+            this.domainEvents = new ArrayList<>(2);
+        }
+        this.domainEvents.add(event);
     }
 }
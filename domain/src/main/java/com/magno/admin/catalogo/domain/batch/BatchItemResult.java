@@ -0,0 +1,34 @@
+package com.magno.admin.catalogo.domain.batch;
+
+import com.magno.admin.catalogo.domain.Identifier;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+
+import java.util.List;
+
+public record BatchItemResult<ID extends Identifier>(
+        int index,
+        ID id,
+        BatchItemStatus status,
+        List<ValidationError> errors
+) {
+
+    public static <ID extends Identifier> BatchItemResult<ID> succeeded(final int index, final ID id) {
+        return new BatchItemResult<>(index, id, BatchItemStatus.SUCCEEDED, List.of());
+    }
+
+    public static <ID extends Identifier> BatchItemResult<ID> failed(final int index, final ID id, final BatchItemStatus status) {
+        return new BatchItemResult<>(index, id, status, List.of());
+    }
+
+    public static <ID extends Identifier> BatchItemResult<ID> invalid(final int index, final ID id, final List<ValidationError> errors) {
+        return new BatchItemResult<>(index, id, BatchItemStatus.INVALID, List.copyOf(errors));
+    }
+
+    public boolean isSucceeded() {
+        return status == BatchItemStatus.SUCCEEDED;
+    }
+
+    public BatchItemResult<ID> withIndex(final int anIndex) {
+        return new BatchItemResult<>(anIndex, id, status, errors);
+    }
+}
@@ -0,0 +1,9 @@
+package com.magno.admin.catalogo.domain.batch;
+
+public enum BatchItemStatus {
+    SUCCEEDED,
+    INVALID,
+    ALREADY_EXISTS,
+    NOT_FOUND,
+    CONFLICT
+}
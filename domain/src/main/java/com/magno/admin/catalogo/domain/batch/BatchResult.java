@@ -0,0 +1,20 @@
+package com.magno.admin.catalogo.domain.batch;
+
+import com.magno.admin.catalogo.domain.Identifier;
+
+import java.util.List;
+
+public record BatchResult<ID extends Identifier>(List<BatchItemResult<ID>> items) {
+
+    public long succeeded() {
+        return items.stream().filter(BatchItemResult::isSucceeded).count();
+    }
+
+    public long failed() {
+        return items.size() - succeeded();
+    }
+
+    public List<BatchItemResult<ID>> failures() {
+        return items.stream().filter(item -> !item.isSucceeded()).toList();
+    }
+}
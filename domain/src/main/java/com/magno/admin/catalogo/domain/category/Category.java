@@ -1,12 +1,16 @@
 package com.magno.admin.catalogo.domain.category;
 
 import com.magno.admin.catalogo.domain.AggregateRoot;
+import com.magno.admin.catalogo.domain.time.DomainClock;
 import com.magno.admin.catalogo.domain.validation.ValidationHandler;
 
 import java.time.Instant;
+import java.util.Objects;
 
 public class Category extends AggregateRoot<CategoryID> {
 
+    private static volatile DomainClock clock = DomainClock.system();
+
     private String name;
     private String description;
     private boolean active;
@@ -23,7 +27,20 @@ public class Category extends AggregateRoot<CategoryID> {
             final Instant updatedAt,
             final Instant deletedAt
     ) {
-        super(id);
+        this(id, name, description, active, createdAt, updatedAt, deletedAt, 0L);
+    }
+
+    public Category(
+            final CategoryID id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
+    ) {
+        super(id, version);
         this.name = name;
         this.description = description;
         this.active = active;
@@ -34,46 +51,118 @@ public class Category extends AggregateRoot<CategoryID> {
 
     public static Category newCategory(final String name, final String description, final boolean isActive) {
         final var id = CategoryID.unique();
-        final var now = Instant.now();
+        final var now = clock.now();
         final var deletedAt = !isActive ? now : null;
-        return new Category(id, name, description, isActive, now, now, deletedAt);
+        final var category = new Category(id, name, description, isActive, now, now, deletedAt);
+        category.registerEvent(new CategoryCreated(id, name, description, isActive, now));
+        return category;
     }
 
-    public Category activate() {
+    public static void useClock(final DomainClock aClock) {
+        clock = Objects.requireNonNull(aClock);
+    }
 
-        this.deletedAt = null;
-        this.active = true;
-        this.updatedAt = Instant.now();
+    /**
+     * The clock every category timestamp comes from, for events stamped outside the aggregate.
+     */
+    public static DomainClock clock() {
+        return clock;
+    }
+
+    /**
+     * Rehydrates a stored category as is: no validation, no copies and no events, for loading from storage.
+     */
+    public static Category with(
+            final CategoryID anId,
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final Instant aCreatedAt,
+            final Instant anUpdatedAt,
+            final Instant aDeletedAt,
+            final long aVersion
+    ) {
+        return new Category(anId, aName, aDescription, isActive, aCreatedAt, anUpdatedAt, aDeletedAt, aVersion);
+    }
+
+    public static Category with(final Category aCategory) {
+        return with(aCategory, aCategory.getVersion());
+    }
+
+    public static Category with(final Category aCategory, final long aVersion) {
+        return new Category(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                aVersion
+        );
+    }
+
+    public Category activate() {
+        activate(clock.now());
         return this;
     }
 
     public Category deactivate() {
-        if (getDeletedAt() == null) {
-            this.deletedAt = Instant.now();
-        }
-
-        this.active = false;
-        this.updatedAt = Instant.now();
+        deactivate(clock.now());
         return this;
     }
 
+    /**
+     * Reads the clock once, so the activation change and the update share a single timestamp.
+     */
     public Category update(
             final String name,
             final String description,
             final boolean isActive
     ) {
+        final var now = clock.now();
         if (isActive) {
-            activate();
+            activate(now);
         } else {
-            deactivate();
+            deactivate(now);
         }
 
+        final var changed = !Objects.equals(this.name, name) || !Objects.equals(this.description, description);
         this.name = name;
         this.description = description;
-        this.updatedAt = Instant.now();
+
+        if (changed) {
+            registerEvent(new CategoryUpdated(this.id, name, description, now));
+        }
         return this;
     }
 
+    private void activate(final Instant now) {
+        final var wasActive = this.active;
+
+        this.deletedAt = null;
+        this.active = true;
+        this.updatedAt = now;
+
+        if (!wasActive) {
+            registerEvent(new CategoryActivated(this.id, now));
+        }
+    }
+
+    private void deactivate(final Instant now) {
+        final var wasActive = this.active;
+        if (getDeletedAt() == null) {
+            this.deletedAt = now;
+        }
+
+        this.active = false;
+        this.updatedAt = now;
+
+        if (wasActive) {
+            registerEvent(new CategoryDeactivated(this.id, now));
+        }
+    }
+
     public CategoryID getId() {
         return id;
     }
@@ -0,0 +1,19 @@
+package com.magno.admin.catalogo.domain.category;
+
+/**
+ * One mutation of the category store, numbered by the feed that recorded it.
+ *
+ * @param lsn   position in the feed; strictly increasing, starting at 1
+ * @param state the stored state after the change, {@code null} for {@link Type#DELETED}
+ */
+public record CategoryChange(long lsn, Type type, CategoryID id, CategoryView state) {
+
+    public enum Type {
+        /**
+         * Stored through {@code create} or {@code createAll}; replicas should upsert {@code state}.
+         */
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,15 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.util.List;
+
+/**
+ * @param changes  consecutive changes, oldest first
+ * @param position where the next read should resume: the last change read, or the requested position when there was
+ *                 none
+ */
+public record CategoryChangeBatch(List<CategoryChange> changes, long position) {
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+}
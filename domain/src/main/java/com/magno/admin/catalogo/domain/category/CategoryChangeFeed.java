@@ -0,0 +1,28 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Duration;
+
+/**
+ * Ordered feed of the mutations made through a {@link CategoryGateway}, for replicas that follow the store with work
+ * proportional to the change rate.
+ * <p>
+ * A replica first reads {@link #headLsn()}, then copies the catalog, then tails from that position. Changes made during
+ * the copy are read again; applying them is idempotent as long as the replica upserts states and ignores deletes of
+ * missing categories.
+ */
+public interface CategoryChangeFeed {
+
+    /**
+     * The position of the latest change, or 0 when nothing was recorded yet.
+     */
+    long headLsn();
+
+    /**
+     * Up to {@code maxChanges} changes after {@code afterLsn}. When there is none yet, waits up to {@code timeout} for
+     * one and returns an empty batch if it does not come.
+     *
+     * @throws CategoryChangeGapException when changes right after {@code afterLsn} are no longer retained; the
+     *                                    reader has to copy the catalog again
+     */
+    CategoryChangeBatch read(long afterLsn, int maxChanges, Duration timeout);
+}
@@ -0,0 +1,23 @@
+package com.magno.admin.catalogo.domain.category;
+
+import com.magno.admin.catalogo.domain.exceptions.NoStacktraceException;
+
+public class CategoryChangeGapException extends NoStacktraceException {
+
+    private final long requestedLsn;
+    private final long oldestLsn;
+
+    public CategoryChangeGapException(final long requestedLsn, final long oldestLsn) {
+        super("Category changes after %d are no longer retained, the oldest one is %d".formatted(requestedLsn, oldestLsn));
+        this.requestedLsn = requestedLsn;
+        this.oldestLsn = oldestLsn;
+    }
+
+    public long getRequestedLsn() {
+        return requestedLsn;
+    }
+
+    public long getOldestLsn() {
+        return oldestLsn;
+    }
+}
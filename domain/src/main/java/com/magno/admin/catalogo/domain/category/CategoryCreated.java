@@ -0,0 +1,12 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryCreated(
+        CategoryID id,
+        String name,
+        String description,
+        boolean active,
+        Instant occurredOn
+) implements CategoryEvent {
+}
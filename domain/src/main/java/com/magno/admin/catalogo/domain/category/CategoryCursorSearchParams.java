@@ -0,0 +1,24 @@
+package com.magno.admin.catalogo.domain.category;
+
+public record CategoryCursorSearchParams(
+        String cursor,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        boolean includeTotal
+) {
+
+    public static CategoryCursorSearchParams first(
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        return new CategoryCursorSearchParams(null, perPage, terms, sort, direction, false);
+    }
+
+    public CategoryCursorSearchParams next(final String aCursor) {
+        return new CategoryCursorSearchParams(aCursor, perPage, terms, sort, direction, includeTotal);
+    }
+}
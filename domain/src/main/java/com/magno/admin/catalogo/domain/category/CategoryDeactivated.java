@@ -0,0 +1,6 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryDeactivated(CategoryID id, Instant occurredOn) implements CategoryEvent {
+}
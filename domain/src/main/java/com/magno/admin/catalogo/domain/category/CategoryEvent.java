@@ -0,0 +1,9 @@
+package com.magno.admin.catalogo.domain.category;
+
+import com.magno.admin.catalogo.domain.event.DomainEvent;
+
+public sealed interface CategoryEvent extends DomainEvent
+        permits CategoryCreated, CategoryUpdated, CategoryActivated, CategoryDeactivated, CategoryDeleted {
+
+    CategoryID id();
+}
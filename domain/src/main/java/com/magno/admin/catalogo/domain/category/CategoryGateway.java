@@ -1,18 +1,86 @@
 package com.magno.admin.catalogo.domain.category;
 
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
 import com.magno.admin.catalogo.domain.pagination.Pagination;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 public interface CategoryGateway {
 
+    /**
+     * Stores a new category; throws {@link com.magno.admin.catalogo.domain.exceptions.ConflictException} when its id
+     * is already taken, the case {@link #createAll(List)} reports as {@code ALREADY_EXISTS}.
+     */
     Category create(Category category);
 
     void deleteById(CategoryID id);
 
     Optional<Category> findById(CategoryID id);
 
-    Category update(Category category);
+    /**
+     * Stores {@code category} if its version still matches the stored one, under the next version.
+     */
+    CategoryUpdateResult update(Category category);
 
     Pagination<Category> findAll(CategorySearchParams categorySearchParams);
+
+    CursorPagination<Category> findAll(CategoryCursorSearchParams categoryCursorSearchParams);
+
+    List<Category> findAllById(Collection<CategoryID> ids);
+
+    /**
+     * Every category matching {@code params}, fetched page by page through {@link #findAll(CategoryCursorSearchParams)}
+     * as the stream is consumed.
+     */
+    default Stream<Category> streamAll(final CategoryCursorSearchParams params) {
+        return CursorPagination.stream(params.cursor(), cursor -> findAll(params.next(cursor)));
+    }
+
+    /**
+     * Active and inactive category counts. The default scans the catalog; stores keep counters instead.
+     */
+    default CategoryStatusCounts countByStatus() {
+        try (final var categories = streamAll(CategoryCursorSearchParams.first(1_000, "", "createdAt", "asc"))) {
+            final long[] counts = new long[2];
+            categories.forEach(category -> counts[category.isActive() ? 0 : 1]++);
+            return new CategoryStatusCounts(counts[0] + counts[1], counts[0], counts[1]);
+        }
+    }
+
+    /**
+     * Non-empty buckets counting categories by {@code params.field()}, oldest first. Categories without that
+     * timestamp are not counted. The default scans the catalog; stores keep the histograms up to date instead.
+     */
+    default List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        final var counts = new TreeMap<Long, Long>();
+        try (final var categories = streamAll(CategoryCursorSearchParams.first(1_000, "", "createdAt", "asc"))) {
+            categories.forEach(category -> {
+                final var at = params.field().of(category);
+                if (at != null) {
+                    final var key = params.bucket().keyOf(at);
+                    if (key >= params.fromKey() && key <= params.toKey()) {
+                        counts.merge(key, 1L, Long::sum);
+                    }
+                }
+            });
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new CategoryHistogramBucket(params.bucket().startOf(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    BatchResult<CategoryID> createAll(List<Category> categories);
+
+    /**
+     * Same compare-and-set as {@link #update(Category)} per item; stale items are reported as
+     * {@link com.magno.admin.catalogo.domain.batch.BatchItemStatus#CONFLICT}.
+     */
+    BatchResult<CategoryID> updateAll(List<Category> categories);
+
+    BatchResult<CategoryID> deleteAllById(List<CategoryID> ids);
 }
@@ -0,0 +1,9 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryHistogramBucket(
+        Instant start,
+        long count
+) {
+}
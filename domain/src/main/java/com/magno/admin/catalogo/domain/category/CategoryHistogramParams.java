@@ -0,0 +1,38 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Asks for the buckets overlapping {@code [from, to)}; a {@code null} bound leaves that side open.
+ */
+public record CategoryHistogramParams(
+        CategoryTimeField field,
+        CategoryTimeBucket bucket,
+        Instant from,
+        Instant to
+) {
+
+    public CategoryHistogramParams {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(bucket);
+    }
+
+    public static CategoryHistogramParams of(final CategoryTimeField aField, final CategoryTimeBucket aBucket) {
+        return new CategoryHistogramParams(aField, aBucket, null, null);
+    }
+
+    /**
+     * Key of the first bucket to report.
+     */
+    public long fromKey() {
+        return from == null ? Long.MIN_VALUE : bucket.keyOf(from);
+    }
+
+    /**
+     * Key of the last bucket to report, inclusive.
+     */
+    public long toKey() {
+        return to == null ? Long.MAX_VALUE : bucket.keyOf(to.minusNanos(1));
+    }
+}
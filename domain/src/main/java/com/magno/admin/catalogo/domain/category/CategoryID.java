@@ -2,32 +2,92 @@ package com.magno.admin.catalogo.domain.category;
 
 import com.magno.admin.catalogo.domain.Identifier;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
-public class CategoryID extends Identifier {
-    private final String value;
+public class CategoryID extends Identifier implements Comparable<CategoryID> {
 
-    private CategoryID(String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+    private static final int UUID_LENGTH = 36;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static volatile CategoryIDGenerator generator = CategoryIDGenerator.random();
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private String value;
+
+    private CategoryID(final long mostSignificantBits, final long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return generator.next();
+    }
+
+    public static void useGenerator(final CategoryIDGenerator aGenerator) {
+        generator = Objects.requireNonNull(aGenerator);
     }
 
     public static CategoryID from(final String anId) {
-        return new CategoryID(anId);
+        Objects.requireNonNull(anId);
+        if (anId.length() != UUID_LENGTH
+                || anId.charAt(8) != '-' || anId.charAt(13) != '-'
+                || anId.charAt(18) != '-' || anId.charAt(23) != '-') {
+            throw new IllegalArgumentException("Invalid CategoryID: " + anId);
+        }
+
+        final long mostSignificantBits = parseHex(anId, 0, 8) << 32
+                | parseHex(anId, 9, 13) << 16
+                | parseHex(anId, 14, 18);
+        final long leastSignificantBits = parseHex(anId, 19, 23) << 48
+                | parseHex(anId, 24, 36);
+        return new CategoryID(mostSignificantBits, leastSignificantBits);
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
+        return new CategoryID(anId.getMostSignificantBits(), anId.getLeastSignificantBits());
+    }
+
+    public static CategoryID from(final long mostSignificantBits, final long leastSignificantBits) {
+        return new CategoryID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    public int getVersion() {
+        return (int) (mostSignificantBits >>> 12 & 0xF);
+    }
+
+    public Optional<Instant> getTimestamp() {
+        if (getVersion() != TimeOrderedCategoryIDGenerator.VERSION) {
+            return Optional.empty();
+        }
+        return Optional.of(Instant.ofEpochMilli(mostSignificantBits >>> 16));
     }
 
     @Override
     public String getValue() {
-        return value;
+        var aValue = this.value;
+        if (aValue == null) {
+            aValue = format();
+            this.value = aValue;
+        }
+        return aValue;
+    }
+
+    @Override
+    public int compareTo(final CategoryID other) {
+        final int result = Long.compareUnsigned(this.mostSignificantBits, other.mostSignificantBits);
+        return result != 0 ? result : Long.compareUnsigned(this.leastSignificantBits, other.leastSignificantBits);
     }
 
     @Override
@@ -35,11 +95,61 @@ public class CategoryID extends Identifier {
         if(this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CategoryID that = (CategoryID) o;
-        return Objects.equals(value, that.value);
+        return mostSignificantBits == that.mostSignificantBits && leastSignificantBits == that.leastSignificantBits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(value);
+        return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
+    }
+
+    private String format() {
+        final var chars = new char[UUID_LENGTH];
+        writeHex(chars, 0, mostSignificantBits >>> 32, 8);
+        chars[8] = '-';
+        writeHex(chars, 9, mostSignificantBits >>> 16, 4);
+        chars[13] = '-';
+        writeHex(chars, 14, mostSignificantBits, 4);
+        chars[18] = '-';
+        writeHex(chars, 19, leastSignificantBits >>> 48, 4);
+        chars[23] = '-';
+        writeHex(chars, 24, leastSignificantBits, 12);
+        return new String(chars);
+    }
+
+    private static void writeHex(final char[] chars, final int offset, long bits, final int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+    }
+
+    private static long parseHex(final String anId, final int from, final int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = hexValue(anId.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid CategoryID: " + anId);
+            }
+            result = result << 4 | digit;
+        }
+        return result;
+    }
+
+    /**
+     * Only ASCII hex digits; {@link Character#digit(char, int)} would also accept other Unicode digits and
+     * fullwidth letters.
+     */
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
     }
 }
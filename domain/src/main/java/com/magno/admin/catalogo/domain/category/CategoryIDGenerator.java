@@ -0,0 +1,17 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface CategoryIDGenerator {
+
+    CategoryID next();
+
+    static CategoryIDGenerator random() {
+        return () -> CategoryID.from(UUID.randomUUID());
+    }
+
+    static CategoryIDGenerator timeOrdered() {
+        return new TimeOrderedCategoryIDGenerator();
+    }
+}
@@ -0,0 +1,12 @@
+package com.magno.admin.catalogo.domain.category;
+
+public record CategoryStatusCounts(
+        long total,
+        long active,
+        long inactive
+) {
+
+    public static CategoryStatusCounts of(final long total, final long active) {
+        return new CategoryStatusCounts(total, active, total - active);
+    }
+}
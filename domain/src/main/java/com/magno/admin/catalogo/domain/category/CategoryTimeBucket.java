@@ -0,0 +1,44 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Width of a histogram bucket. Buckets are aligned to UTC and identified by a key that grows with time: the epoch
+ * day, or the number of months since January 1970.
+ */
+public enum CategoryTimeBucket {
+
+    DAY {
+        @Override
+        public long keyOf(final Instant instant) {
+            return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_DAY);
+        }
+
+        @Override
+        public Instant startOf(final long key) {
+            return Instant.ofEpochSecond(key * SECONDS_PER_DAY);
+        }
+    },
+    MONTH {
+        @Override
+        public long keyOf(final Instant instant) {
+            final var date = LocalDate.ofEpochDay(DAY.keyOf(instant));
+            return (date.getYear() - 1970L) * 12 + date.getMonthValue() - 1;
+        }
+
+        @Override
+        public Instant startOf(final long key) {
+            return LocalDate.of(1970 + (int) Math.floorDiv(key, 12), Math.floorMod(key, 12) + 1, 1)
+                    .atStartOfDay(ZoneOffset.UTC)
+                    .toInstant();
+        }
+    };
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    public abstract long keyOf(Instant instant);
+
+    public abstract Instant startOf(long key);
+}
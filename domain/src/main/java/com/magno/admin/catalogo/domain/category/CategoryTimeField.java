@@ -0,0 +1,33 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public enum CategoryTimeField {
+
+    CREATED_AT {
+        @Override
+        public Instant of(final Category category) {
+            return category.getCreatedAt();
+        }
+
+        @Override
+        public Instant of(final CategoryView view) {
+            return view.createdAt();
+        }
+    },
+    UPDATED_AT {
+        @Override
+        public Instant of(final Category category) {
+            return category.getUpdatedAt();
+        }
+
+        @Override
+        public Instant of(final CategoryView view) {
+            return view.updatedAt();
+        }
+    };
+
+    public abstract Instant of(Category category);
+
+    public abstract Instant of(CategoryView view);
+}
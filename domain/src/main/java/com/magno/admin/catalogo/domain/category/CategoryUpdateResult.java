@@ -0,0 +1,33 @@
+package com.magno.admin.catalogo.domain.category;
+
+/**
+ * Outcome of a compare-and-set {@link CategoryGateway#update(Category)}.
+ */
+public sealed interface CategoryUpdateResult {
+
+    CategoryID id();
+
+    default boolean isUpdated() {
+        return this instanceof Updated;
+    }
+
+    /**
+     * @param category the stored state, carrying its new version
+     */
+    record Updated(Category category) implements CategoryUpdateResult {
+
+        @Override
+        public CategoryID id() {
+            return category.getId();
+        }
+    }
+
+    /**
+     * The category was changed since {@code expectedVersion} was read; reload it and retry.
+     */
+    record Conflict(CategoryID id, long expectedVersion, long actualVersion) implements CategoryUpdateResult {
+    }
+
+    record NotFound(CategoryID id) implements CategoryUpdateResult {
+    }
+}
@@ -0,0 +1,11 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryUpdated(
+        CategoryID id,
+        String name,
+        String description,
+        Instant occurredOn
+) implements CategoryEvent {
+}
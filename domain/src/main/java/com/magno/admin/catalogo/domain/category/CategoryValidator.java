@@ -11,6 +11,10 @@ public class CategoryValidator extends Validator {
     public static final int NAME_MAX_LENGTH = 255;
     public static final int NAME_MIN_LENGTH = 3;
 
+    public static final ValidationError NAME_NULL_ERROR = new ValidationError("'name' should not be null");
+    public static final ValidationError NAME_EMPTY_ERROR = new ValidationError("'name' should not be empty");
+    public static final ValidationError NAME_LENGTH_ERROR = new ValidationError("'name' must be between 2 and 255 characters");
+
     public CategoryValidator(final Category category, final ValidationHandler handler) {
         super(handler);
         this.category = category;
@@ -25,18 +29,18 @@ public class CategoryValidator extends Validator {
         final var name = this.category.getName();
 
         if (name == null) {
-            this.validationHandler().append(new ValidationError("'name' should not be null"));
+            this.validationHandler().append(NAME_NULL_ERROR);
             return;
         }
 
         if (name.isBlank()) {
-            this.validationHandler().append(new ValidationError("'name' should not be empty"));
+            this.validationHandler().append(NAME_EMPTY_ERROR);
             return;
         }
 
         final int length = name.trim().length();
         if (length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH) {
-            this.validationHandler().append(new ValidationError("'name' must be between 2 and 255 characters"));
+            this.validationHandler().append(NAME_LENGTH_ERROR);
         }
     }
 }
@@ -0,0 +1,42 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Immutable state of a category at one version, safe to share between threads without copying.
+ */
+public record CategoryView(
+        CategoryID id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt,
+        long version
+) {
+
+    public static CategoryView from(final Category aCategory) {
+        return from(aCategory, aCategory.getVersion());
+    }
+
+    public static CategoryView from(final Category aCategory, final long aVersion) {
+        return new CategoryView(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                aVersion
+        );
+    }
+
+    /**
+     * A new mutable aggregate holding this state.
+     */
+    public Category toCategory() {
+        return Category.with(id, name, description, active, createdAt, updatedAt, deletedAt, version);
+    }
+}
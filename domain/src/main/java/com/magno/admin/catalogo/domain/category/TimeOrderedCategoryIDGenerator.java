@@ -0,0 +1,54 @@
+package com.magno.admin.catalogo.domain.category;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates UUIDv7 style ids: 48 bits of unix epoch millis, a 12 bit per-thread sequence and 62 random bits.
+ * <p>
+ * Ids from the same thread are strictly increasing; ids from different threads are ordered by millisecond.
+ */
+public class TimeOrderedCategoryIDGenerator implements CategoryIDGenerator {
+
+    static final int VERSION = 7;
+
+    private static final long MAX_SEQUENCE = 0xFFFL;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier currentTimeMillis;
+    private final ThreadLocal<long[]> state = ThreadLocal.withInitial(() -> new long[]{-1L, 0L});
+
+    public TimeOrderedCategoryIDGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    public TimeOrderedCategoryIDGenerator(final LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public CategoryID next() {
+        final var random = ThreadLocalRandom.current();
+        final var lastState = this.state.get();
+
+        long millis = this.currentTimeMillis.getAsLong();
+        long sequence;
+        if (millis > lastState[0]) {
+            sequence = random.nextLong(MAX_SEQUENCE >> 1);
+        } else {
+            millis = lastState[0];
+            sequence = lastState[1] + 1;
+            if (sequence > MAX_SEQUENCE) {
+                millis++;
+                sequence = 0;
+            }
+        }
+        lastState[0] = millis;
+        lastState[1] = sequence;
+
+        final long mostSignificantBits = (millis & 0xFFFFFFFFFFFFL) << 16 | (long) VERSION << 12 | sequence;
+        final long leastSignificantBits = VARIANT_BITS | random.nextLong() & RANDOM_MASK;
+        return CategoryID.from(mostSignificantBits, leastSignificantBits);
+    }
+}
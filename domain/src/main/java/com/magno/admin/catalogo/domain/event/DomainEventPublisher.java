@@ -0,0 +1,12 @@
+package com.magno.admin.catalogo.domain.event;
+
+import java.util.List;
+
+/**
+ * Delivers domain events to downstream consumers. Events arrive in batches, in the order they were recorded.
+ */
+@FunctionalInterface
+public interface DomainEventPublisher {
+
+    void publish(List<DomainEvent> events);
+}
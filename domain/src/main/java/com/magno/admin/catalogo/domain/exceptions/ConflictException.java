@@ -0,0 +1,30 @@
+package com.magno.admin.catalogo.domain.exceptions;
+
+import com.magno.admin.catalogo.domain.AggregateRoot;
+import com.magno.admin.catalogo.domain.Identifier;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+
+import java.util.List;
+
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String message, final List<ValidationError> errors) {
+        super(message, errors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id,
+            final long expectedVersion,
+            final long actualVersion
+    ) {
+        final var message = "%s with ID %s was changed concurrently, expected version %d but found %d"
+                .formatted(anAggregate.getSimpleName(), id.getValue(), expectedVersion, actualVersion);
+        return new ConflictException(message, List.of(new ValidationError(message)));
+    }
+
+    public static ConflictException alreadyExists(final Class<? extends AggregateRoot<?>> anAggregate, final Identifier id) {
+        final var message = "%s with ID %s already exists".formatted(anAggregate.getSimpleName(), id.getValue());
+        return new ConflictException(message, List.of(new ValidationError(message)));
+    }
+}
@@ -8,7 +8,7 @@ public class DomainException extends NoStacktraceException {
 
     private final List<ValidationError> errors;
 
-    private DomainException(final String message, final List<ValidationError> errors) {
+    protected DomainException(final String message, final List<ValidationError> errors) {
         super(message);
         this.errors = errors;
     }
@@ -0,0 +1,19 @@
+package com.magno.admin.catalogo.domain.exceptions;
+
+import com.magno.admin.catalogo.domain.AggregateRoot;
+import com.magno.admin.catalogo.domain.Identifier;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+
+import java.util.List;
+
+public class NotFoundException extends DomainException {
+
+    protected NotFoundException(final String message, final List<ValidationError> errors) {
+        super(message, errors);
+    }
+
+    public static NotFoundException with(final Class<? extends AggregateRoot<?>> anAggregate, final Identifier id) {
+        final var message = "%s with ID %s was not found".formatted(anAggregate.getSimpleName(), id.getValue());
+        return new NotFoundException(message, List.of(new ValidationError(message)));
+    }
+}
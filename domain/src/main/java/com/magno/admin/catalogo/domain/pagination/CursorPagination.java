@@ -0,0 +1,51 @@
+package com.magno.admin.catalogo.domain.pagination;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public record CursorPagination<T>(
+        String nextCursor,
+        int perPage,
+        Long total,
+        List<T> items
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Lazily walks every page, starting at {@code firstCursor}. A page is only fetched once the consumer has drained
+     * the previous one, so at most one page is held in memory and a slow consumer slows the fetching down.
+     */
+    public static <T> Stream<T> stream(final String firstCursor, final Function<String, CursorPagination<T>> fetchPage) {
+        final var spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private String cursor = firstCursor;
+            private Iterator<T> page = null;
+            private boolean last = false;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                while (this.page == null || !this.page.hasNext()) {
+                    if (this.last) {
+                        return false;
+                    }
+                    final var next = fetchPage.apply(this.cursor);
+                    this.page = next.items().iterator();
+                    this.cursor = next.nextCursor();
+                    this.last = !next.hasNext();
+                }
+                action.accept(this.page.next());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+}
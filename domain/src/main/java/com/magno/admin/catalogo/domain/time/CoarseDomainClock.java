@@ -0,0 +1,52 @@
+package com.magno.admin.catalogo.domain.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the time of {@code source} and refreshes it on a daemon thread. Reads are a volatile load and never allocate;
+ * the cached value never moves backwards, even if {@code source} does.
+ */
+public class CoarseDomainClock implements DomainClock, AutoCloseable {
+
+    private final DomainClock source;
+    private final ScheduledExecutorService ticker;
+    private volatile Instant current;
+
+    public CoarseDomainClock(final DomainClock source, final Duration resolution) {
+        Objects.requireNonNull(resolution);
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("'resolution' should be positive");
+        }
+        this.source = Objects.requireNonNull(source);
+        this.current = source.now();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "coarse-domain-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final var nanos = resolution.toNanos();
+        this.ticker.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Instant now() {
+        return this.current;
+    }
+
+    void tick() {
+        final var next = this.source.now();
+        if (next.isAfter(this.current)) {
+            this.current = next;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.ticker.shutdownNow();
+    }
+}
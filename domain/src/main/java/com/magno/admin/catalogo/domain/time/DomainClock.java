@@ -0,0 +1,31 @@
+package com.magno.admin.catalogo.domain.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Source of the timestamps aggregates stamp on their mutations.
+ */
+@FunctionalInterface
+public interface DomainClock {
+
+    Instant now();
+
+    static DomainClock system() {
+        return Instant::now;
+    }
+
+    static DomainClock fixed(final Instant anInstant) {
+        Objects.requireNonNull(anInstant);
+        return () -> anInstant;
+    }
+
+    /**
+     * A clock read from a field refreshed every {@code resolution} by a background thread, so every mutation within
+     * a tick shares one {@link Instant}. Close it to stop the thread.
+     */
+    static CoarseDomainClock coarse(final Duration resolution) {
+        return new CoarseDomainClock(system(), resolution);
+    }
+}
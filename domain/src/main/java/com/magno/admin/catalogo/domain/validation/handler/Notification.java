@@ -0,0 +1,93 @@
+package com.magno.admin.catalogo.domain.validation.handler;
+
+import com.magno.admin.catalogo.domain.exceptions.DomainException;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+import com.magno.admin.catalogo.domain.validation.ValidationHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class Notification implements ValidationHandler {
+
+    private static final int DEFAULT_CAPACITY = 2;
+
+    private final int expectedErrors;
+    private List<ValidationError> errors;
+
+    private Notification(final int expectedErrors) {
+        this.expectedErrors = expectedErrors;
+    }
+
+    public static Notification create() {
+        return new Notification(DEFAULT_CAPACITY);
+    }
+
+    public static Notification create(final int expectedErrors) {
+        if (expectedErrors < 0) {
+            throw new IllegalArgumentException("'expectedErrors' should not be negative");
+        }
+        return new Notification(expectedErrors);
+    }
+
+    public static Notification create(final ValidationError anError) {
+        return create().append(anError);
+    }
+
+    @Override
+    public Notification append(final ValidationError anError) {
+        errorsForAppend().add(anError);
+        return this;
+    }
+
+    @Override
+    public Notification append(final ValidationHandler aHandler) {
+        final var otherErrors = aHandler.getErrors();
+        if (otherErrors != null && !otherErrors.isEmpty()) {
+            errorsForAppend().addAll(otherErrors);
+        }
+        return this;
+    }
+
+    @Override
+    public Notification validate(final Validation aValidation) {
+        try {
+            aValidation.validate();
+        } catch (final DomainException ex) {
+            append(ex);
+        } catch (final Exception ex) {
+            append(new ValidationError(ex.getMessage()));
+        }
+        return this;
+    }
+
+    @Override
+    public List<ValidationError> getErrors() {
+        return this.errors == null ? List.of() : Collections.unmodifiableList(this.errors);
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return this.errors != null && !this.errors.isEmpty();
+    }
+
+    public void clear() {
+        if (this.errors != null) {
+            this.errors.clear();
+        }
+    }
+
+    private void append(final DomainException ex) {
+        final var exceptionErrors = ex.getErrors();
+        if (exceptionErrors != null && !exceptionErrors.isEmpty()) {
+            errorsForAppend().addAll(exceptionErrors);
+        }
+    }
+
+    private List<ValidationError> errorsForAppend() {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>(Math.max(this.expectedErrors, 1));
+        }
+        return this.errors;
+    }
+}
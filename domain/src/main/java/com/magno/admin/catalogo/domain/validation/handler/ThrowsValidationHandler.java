@@ -21,6 +21,8 @@ public class ThrowsValidationHandler implements ValidationHandler {
     public ValidationHandler validate(Validation validation) {
         try {
             validation.validate();
+        } catch (final DomainException ex) {
+            throw ex;
         } catch (final Exception ex) {
             throw DomainException.with(new ValidationError(ex.getMessage()));
         }
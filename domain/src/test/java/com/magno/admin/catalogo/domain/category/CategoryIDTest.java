@@ -0,0 +1,62 @@
+package com.magno.admin.catalogo.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class CategoryIDTest {
+
+    @Test
+    public void givenAValidUUIDString_whenCallFrom_thenShouldMatchUUIDParsing() {
+        final var expectedValue = "0f8b6d2e-4c1a-4b7e-9a3d-8e2f1c6b5a40";
+        final var expectedUUID = UUID.fromString(expectedValue);
+
+        final var actualID = CategoryID.from(expectedValue.toUpperCase());
+
+        Assertions.assertEquals(expectedUUID.getMostSignificantBits(), actualID.getMostSignificantBits());
+        Assertions.assertEquals(expectedUUID.getLeastSignificantBits(), actualID.getLeastSignificantBits());
+        Assertions.assertEquals(expectedValue, actualID.getValue());
+        Assertions.assertEquals(CategoryID.from(expectedUUID), actualID);
+        Assertions.assertEquals(CategoryID.from(expectedUUID).hashCode(), actualID.hashCode());
+    }
+
+    @Test
+    public void givenRandomUUIDs_whenCallGetValue_thenShouldMatchUUIDToString() {
+        for (int i = 0; i < 1_000; i++) {
+            final var expectedUUID = UUID.randomUUID();
+
+            final var actualID = CategoryID.from(expectedUUID);
+
+            Assertions.assertEquals(expectedUUID.toString(), actualID.getValue());
+            Assertions.assertEquals(actualID, CategoryID.from(actualID.getValue()));
+        }
+    }
+
+    @Test
+    public void givenInvalidStrings_whenCallFrom_thenShouldThrowIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryID.from("123"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryID.from("0f8b6d2e-4c1a-4b7e-9a3d-8e2f1c6b5a4g"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryID.from("0f8b6d2e4c1a-4b7e-9a3d-8e2f1c6b5a40-"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryID.from("0f8b6d2e-4c1a-4b7e-9a3d-8e2f1c6b5a4\u0664"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryID.from("0f8b6d2e-4c1a-4b7e-9a3d-8e2f1c6b5a4\uff21"));
+    }
+
+    @Test
+    public void givenUpperCaseHex_whenCallFrom_thenShouldParseLikeLowerCase() {
+        Assertions.assertEquals(
+                CategoryID.from("0f8b6d2e-4c1a-4b7e-9a3d-8e2f1c6b5a40"),
+                CategoryID.from("0F8B6D2E-4C1A-4B7E-9A3D-8E2F1C6B5A40")
+        );
+    }
+
+    @Test
+    public void givenTwoIDs_whenCallCompareTo_thenShouldFollowCanonicalStringOrder() {
+        final var lower = CategoryID.from("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        final var higher = CategoryID.from("80000000-0000-0000-0000-000000000000");
+
+        Assertions.assertTrue(lower.compareTo(higher) < 0);
+        Assertions.assertTrue(lower.getValue().compareTo(higher.getValue()) < 0);
+        Assertions.assertEquals(0, higher.compareTo(CategoryID.from(higher.getValue())));
+    }
+}
@@ -1,10 +1,13 @@
 package com.magno.admin.catalogo.domain.category;
 
 import com.magno.admin.catalogo.domain.exceptions.DomainException;
+import com.magno.admin.catalogo.domain.time.DomainClock;
 import com.magno.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 public class CategoryTest {
 
     @Test
@@ -316,4 +319,92 @@ public class CategoryTest {
         Assertions.assertTrue(updatedCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(updatedCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenAValidParams_whenCallNewCategory_thenShouldRecordCategoryCreated() {
+        final var actualCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        final var actualEvents = actualCategory.pullDomainEvents();
+
+        Assertions.assertEquals(1, actualEvents.size());
+        final var created = (CategoryCreated) actualEvents.get(0);
+        Assertions.assertEquals(actualCategory.getId(), created.id());
+        Assertions.assertEquals("Filmes", created.name());
+        Assertions.assertTrue(created.active());
+        Assertions.assertEquals(actualCategory.getCreatedAt(), created.occurredOn());
+        Assertions.assertTrue(actualCategory.pullDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenAnActiveCategory_whenCallUpdateAndDeactivate_thenShouldRecordOnlyChanges() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        aCategory.pullDomainEvents();
+
+        aCategory.update("Filmes", null, true);
+        Assertions.assertTrue(aCategory.getDomainEvents().isEmpty());
+
+        aCategory.update("Séries", "Todas as séries", false);
+        aCategory.deactivate();
+
+        final var actualEvents = aCategory.pullDomainEvents();
+        Assertions.assertEquals(2, actualEvents.size());
+        Assertions.assertInstanceOf(CategoryDeactivated.class, actualEvents.get(0));
+        final var updated = (CategoryUpdated) actualEvents.get(1);
+        Assertions.assertEquals("Séries", updated.name());
+        Assertions.assertEquals("Todas as séries", updated.description());
+
+        aCategory.activate();
+        Assertions.assertInstanceOf(CategoryActivated.class, aCategory.pullDomainEvents().get(0));
+    }
+
+    @Test
+    public void givenACategoryWithEvents_whenCallWith_thenCopyShouldNotCarryEvents() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var actualCopy = Category.with(aCategory);
+
+        Assertions.assertTrue(actualCopy.getDomainEvents().isEmpty());
+        Assertions.assertEquals(1, aCategory.getDomainEvents().size());
+    }
+
+    @Test
+    public void givenAClock_whenCallUpdateWithDeactivation_thenShouldStampASingleTimestamp() {
+        final var created = Instant.parse("2024-01-02T03:04:05Z");
+        final var updated = Instant.parse("2024-01-02T03:04:06Z");
+        try {
+            Category.useClock(DomainClock.fixed(created));
+            final var aCategory = Category.newCategory("Filmes", null, true);
+            Assertions.assertSame(created, aCategory.getCreatedAt());
+            Assertions.assertSame(created, aCategory.getUpdatedAt());
+
+            Category.useClock(DomainClock.fixed(updated));
+            aCategory.update("Séries", null, false);
+
+            Assertions.assertSame(created, aCategory.getCreatedAt());
+            Assertions.assertSame(updated, aCategory.getUpdatedAt());
+            Assertions.assertSame(updated, aCategory.getDeletedAt());
+            aCategory.pullDomainEvents().forEach(event -> Assertions.assertSame(
+                    event instanceof CategoryCreated ? created : updated,
+                    event.occurredOn()
+            ));
+        } finally {
+            Category.useClock(DomainClock.system());
+        }
+    }
+
+    @Test
+    public void givenStoredState_whenCallWith_thenShouldRehydrateItAsIs() {
+        final var expectedId = CategoryID.unique();
+        final var expectedAt = Instant.parse("2024-01-02T03:04:05Z");
+
+        final var actualCategory = Category.with(expectedId, "", null, false, expectedAt, expectedAt, null, 7);
+
+        Assertions.assertEquals(expectedId, actualCategory.getId());
+        Assertions.assertEquals("", actualCategory.getName());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertSame(expectedAt, actualCategory.getUpdatedAt());
+        Assertions.assertNull(actualCategory.getDeletedAt());
+        Assertions.assertEquals(7, actualCategory.getVersion());
+        Assertions.assertTrue(actualCategory.getDomainEvents().isEmpty());
+    }
 }
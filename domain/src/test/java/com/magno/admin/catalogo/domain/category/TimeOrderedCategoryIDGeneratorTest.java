@@ -0,0 +1,58 @@
+package com.magno.admin.catalogo.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.UUID;
+
+public class TimeOrderedCategoryIDGeneratorTest {
+
+    @Test
+    public void givenAFixedClock_whenCallNext_thenShouldGenerateIncreasingIDs() {
+        final var generator = new TimeOrderedCategoryIDGenerator(() -> 1_700_000_000_000L);
+
+        var previous = generator.next();
+        final var generated = new HashSet<CategoryID>();
+        generated.add(previous);
+        for (int i = 0; i < 10_000; i++) {
+            final var actual = generator.next();
+            Assertions.assertTrue(previous.compareTo(actual) < 0);
+            generated.add(actual);
+            previous = actual;
+        }
+
+        Assertions.assertEquals(10_001, generated.size());
+    }
+
+    @Test
+    public void givenAGeneratedID_whenCallGetTimestamp_thenShouldReturnCreationInstant() {
+        final var expectedMillis = 1_700_000_123_456L;
+        final var generator = new TimeOrderedCategoryIDGenerator(() -> expectedMillis);
+
+        final var actualID = generator.next();
+        final var actualUUID = UUID.fromString(actualID.getValue());
+
+        Assertions.assertEquals(7, actualID.getVersion());
+        Assertions.assertEquals(7, actualUUID.version());
+        Assertions.assertEquals(2, actualUUID.variant());
+        Assertions.assertEquals(Instant.ofEpochMilli(expectedMillis), actualID.getTimestamp().orElseThrow());
+    }
+
+    @Test
+    public void givenARandomID_whenCallGetTimestamp_thenShouldReturnEmpty() {
+        Assertions.assertTrue(CategoryIDGenerator.random().next().getTimestamp().isEmpty());
+    }
+
+    @Test
+    public void givenTheTimeOrderedGenerator_whenCallUnique_thenShouldUseIt() {
+        try {
+            CategoryID.useGenerator(CategoryIDGenerator.timeOrdered());
+
+            Assertions.assertTrue(Category.newCategory("Filmes", null, true).getId().getTimestamp().isPresent());
+        } finally {
+            CategoryID.useGenerator(CategoryIDGenerator.random());
+        }
+    }
+}
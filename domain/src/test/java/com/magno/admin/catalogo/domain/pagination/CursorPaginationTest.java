@@ -0,0 +1,36 @@
+package com.magno.admin.catalogo.domain.pagination;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CursorPaginationTest {
+
+    @Test
+    public void givenManyPages_whenStream_thenShouldFetchEachPageOnlyWhenNeeded() {
+        final var fetched = new ArrayList<String>();
+        final var stream = CursorPagination.<Integer>stream(null, cursor -> {
+            fetched.add(String.valueOf(cursor));
+            final var offset = cursor == null ? 0 : Integer.parseInt(cursor);
+            final var next = offset + 3 < 9 ? String.valueOf(offset + 3) : null;
+            return new CursorPagination<>(next, 3, null, List.of(offset, offset + 1, offset + 2));
+        });
+
+        Assertions.assertTrue(fetched.isEmpty());
+        Assertions.assertEquals(List.of(0, 1, 2, 3), stream.limit(4).toList());
+        Assertions.assertEquals(List.of("null", "3"), fetched);
+    }
+
+    @Test
+    public void givenEmptyPagesWithNextCursor_whenStream_thenShouldSkipThem() {
+        final var actual = CursorPagination.<String>stream("a", cursor -> switch (cursor) {
+            case "a" -> new CursorPagination<>("b", 2, null, List.of());
+            case "b" -> new CursorPagination<>(null, 2, null, List.of("x"));
+            default -> throw new IllegalStateException(cursor);
+        }).toList();
+
+        Assertions.assertEquals(List.of("x"), actual);
+    }
+}
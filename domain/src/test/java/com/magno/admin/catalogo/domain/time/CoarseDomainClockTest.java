@@ -0,0 +1,41 @@
+package com.magno.admin.catalogo.domain.time;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CoarseDomainClockTest {
+
+    @Test
+    public void givenACoarseClock_whenReadBetweenTicks_thenShouldReturnTheSameInstant() {
+        final var source = new AtomicReference<>(Instant.parse("2024-01-02T03:04:05Z"));
+        try (final var clock = new CoarseDomainClock(source::get, Duration.ofHours(1))) {
+            final var first = clock.now();
+            source.set(first.plusSeconds(1));
+
+            Assertions.assertSame(first, clock.now());
+
+            clock.tick();
+            Assertions.assertEquals(first.plusSeconds(1), clock.now());
+
+            source.set(first);
+            clock.tick();
+            Assertions.assertEquals(first.plusSeconds(1), clock.now());
+        }
+    }
+
+    @Test
+    public void givenACoarseClock_whenTimePasses_thenShouldTickInTheBackground() throws InterruptedException {
+        try (final var clock = DomainClock.coarse(Duration.ofMillis(5))) {
+            final var first = clock.now();
+            final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (clock.now() == first && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            Assertions.assertTrue(clock.now().isAfter(first));
+        }
+    }
+}
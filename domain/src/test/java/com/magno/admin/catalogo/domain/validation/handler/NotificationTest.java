@@ -0,0 +1,57 @@
+package com.magno.admin.catalogo.domain.validation.handler;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryValidator;
+import com.magno.admin.catalogo.domain.exceptions.DomainException;
+import com.magno.admin.catalogo.domain.validation.ValidationError;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class NotificationTest {
+
+    @Test
+    public void givenAValidCategory_whenValidateWithNotification_thenShouldHaveNoErrors() {
+        final var notification = Notification.create();
+
+        Category.newCategory("Filmes", null, true).validate(notification);
+
+        Assertions.assertFalse(notification.hasErrors());
+        Assertions.assertEquals(List.of(), notification.getErrors());
+    }
+
+    @Test
+    public void givenInvalidCategories_whenValidateWithTheSameNotification_thenShouldCollectSharedErrors() {
+        final var notification = Notification.create(4);
+
+        Category.newCategory(null, null, true).validate(notification);
+        Category.newCategory(" ", null, true).validate(notification);
+        Category.newCategory("no", null, true).validate(notification);
+
+        Assertions.assertTrue(notification.hasErrors());
+        Assertions.assertEquals(3, notification.getErrors().size());
+        Assertions.assertSame(CategoryValidator.NAME_NULL_ERROR, notification.getErrors().get(0));
+        Assertions.assertSame(CategoryValidator.NAME_EMPTY_ERROR, notification.getErrors().get(1));
+        Assertions.assertSame(CategoryValidator.NAME_LENGTH_ERROR, notification.getErrors().get(2));
+
+        notification.clear();
+
+        Assertions.assertFalse(notification.hasErrors());
+    }
+
+    @Test
+    public void givenAThrowingValidation_whenCallValidate_thenShouldCollectInsteadOfThrowing() {
+        final var expectedError = new ValidationError("'description' is invalid");
+        final var notification = Notification.create();
+
+        notification
+                .validate(() -> { throw DomainException.with(expectedError); })
+                .validate(() -> { throw new IllegalStateException("boom"); });
+
+        Assertions.assertEquals(
+                List.of(expectedError, new ValidationError("boom")),
+                notification.getErrors()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.magno.admin.catalogo.infrastructure.cache;
+
+public record CacheStats(
+        long hits,
+        long negativeHits,
+        long misses,
+        long evictions,
+        long rejections,
+        long invalidations,
+        long size
+) {
+
+    public double hitRate() {
+        final var requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
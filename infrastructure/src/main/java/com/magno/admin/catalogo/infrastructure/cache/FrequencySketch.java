@@ -0,0 +1,61 @@
+package com.magno.admin.catalogo.infrastructure.cache;
+
+/**
+ * Count-min sketch of 4-bit counters used by {@link TinyLfuCache} to estimate how often a key was requested.
+ * Counters are halved once the number of recorded events reaches ten times the capacity, so old popularity fades.
+ * <p>
+ * Not thread-safe.
+ */
+class FrequencySketch {
+
+    private static final int MAX_FREQUENCY = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0x0d3a6c6b, 0x7ed55d16, 0xc761c23c};
+
+    private final byte[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(final int capacity) {
+        final var size = Integer.highestOneBit(Math.max(capacity, 8) * 4 - 1) << 1;
+        this.table = new byte[size];
+        this.mask = size - 1;
+        this.sampleSize = Math.max(capacity, 8) * 10;
+    }
+
+    int frequency(final int hash) {
+        int frequency = MAX_FREQUENCY;
+        for (final var seed : SEEDS) {
+            frequency = Math.min(frequency, this.table[indexOf(hash, seed)]);
+        }
+        return frequency;
+    }
+
+    void increment(final int hash) {
+        boolean added = false;
+        for (final var seed : SEEDS) {
+            final var index = indexOf(hash, seed);
+            if (this.table[index] < MAX_FREQUENCY) {
+                this.table[index]++;
+                added = true;
+            }
+        }
+
+        if (added && ++this.additions >= this.sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = (byte) (this.table[i] >>> 1);
+        }
+        this.additions >>>= 1;
+    }
+
+    private int indexOf(final int hash, final int seed) {
+        int h = (hash ^ seed) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return h & this.mask;
+    }
+}
@@ -0,0 +1,196 @@
+package com.magno.admin.catalogo.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Size bounded cache split in independently locked LRU segments. When a segment is full a new entry is only admitted
+ * if its estimated access frequency is higher than the frequency of the LRU victim (TinyLFU admission), so one-off
+ * lookups cannot flush the hot set.
+ * <p>
+ * A loader returning {@code null} is cached as a negative entry for {@code negativeTtl}. Callers that version their
+ * values can pass a freshness check to {@link #get(Object, Function, Predicate)}: a cached value failing it counts as
+ * a miss and is overwritten by the reload, without the admission check.
+ */
+public class TinyLfuCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final long negativeTtlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public TinyLfuCache(final int maximumSize, final Duration negativeTtl) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("'maximumSize' should be greater than zero");
+        }
+        Objects.requireNonNull(negativeTtl);
+
+        final var segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+        final var segmentCapacity = (maximumSize + segmentCount - 1) / segmentCount;
+
+        this.segments = newSegments(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment<>(segmentCapacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        return get(key, loader, value -> true);
+    }
+
+    public V get(final K key, final Function<? super K, ? extends V> loader, final Predicate<? super V> isFresh) {
+        final var hash = spread(key.hashCode());
+        final var segment = this.segments[hash & this.segmentMask];
+
+        final long epoch;
+        segment.lock.lock();
+        try {
+            segment.sketch.increment(hash);
+            final var entry = segment.entries.get(key);
+            if (entry != null && !entry.isExpired(System.nanoTime()) && (entry.value == null || isFresh.test(entry.value))) {
+                if (entry.value == null) {
+                    this.negativeHits.increment();
+                } else {
+                    this.hits.increment();
+                }
+                return entry.value;
+            }
+            epoch = segment.epoch;
+        } finally {
+            segment.lock.unlock();
+        }
+
+        this.misses.increment();
+        final V value = loader.apply(key);
+        if (value != null || this.negativeTtlNanos > 0) {
+            put(segment, hash, key, value, epoch);
+        }
+        return value;
+    }
+
+    public void invalidate(final K key) {
+        final var hash = spread(key.hashCode());
+        final var segment = this.segments[hash & this.segmentMask];
+
+        segment.lock.lock();
+        try {
+            segment.epoch++;
+            if (segment.entries.remove(key) != null) {
+                this.invalidations.increment();
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (final var segment : this.segments) {
+            segment.lock.lock();
+            try {
+                segment.epoch++;
+                this.invalidations.add(segment.entries.size());
+                segment.entries.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (final var segment : this.segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(
+                this.hits.sum(),
+                this.negativeHits.sum(),
+                this.misses.sum(),
+                this.evictions.sum(),
+                this.rejections.sum(),
+                this.invalidations.sum(),
+                size()
+        );
+    }
+
+    private void put(final Segment<K, V> segment, final int hash, final K key, final V value, final long epoch) {
+        final var expiresAt = value == null ? System.nanoTime() + this.negativeTtlNanos : 0L;
+
+        segment.lock.lock();
+        try {
+            if (segment.epoch != epoch) {
+                return;
+            }
+
+            if (!segment.entries.containsKey(key) && segment.entries.size() >= segment.capacity) {
+                final var eldest = segment.entries.entrySet().iterator().next();
+                final var victimHash = spread(eldest.getKey().hashCode());
+                if (segment.sketch.frequency(hash) <= segment.sketch.frequency(victimHash)
+                        && !eldest.getValue().isExpired(System.nanoTime())) {
+                    this.rejections.increment();
+                    return;
+                }
+                segment.entries.remove(eldest.getKey());
+                this.evictions.increment();
+            }
+
+            segment.entries.put(key, new Entry<>(value, expiresAt));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Segment<K, V>[] newSegments(final int count) {
+        return (Segment<K, V>[]) new Segment<?, ?>[count];
+    }
+
+    private static int spread(final int hash) {
+        return (hash ^ hash >>> 16) & 0x7FFFFFFF;
+    }
+
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Entry<V>> entries;
+        private final FrequencySketch sketch;
+        private final int capacity;
+        private long epoch;
+
+        private Segment(final int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(Math.min(capacity, 1 << 16), 0.75f, true);
+            this.sketch = new FrequencySketch(capacity);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+
+        private boolean isExpired(final long now) {
+            return expiresAt != 0L && now - expiresAt >= 0;
+        }
+    }
+}
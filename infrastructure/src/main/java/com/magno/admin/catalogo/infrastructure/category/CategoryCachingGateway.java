@@ -0,0 +1,119 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.infrastructure.cache.CacheStats;
+import com.magno.admin.catalogo.infrastructure.cache.TinyLfuCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CategoryCachingGateway implements CategoryGateway {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final CategoryGateway delegate;
+    private final TinyLfuCache<CategoryID, Category> cache;
+
+    public CategoryCachingGateway(final CategoryGateway delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_NEGATIVE_TTL);
+    }
+
+    public CategoryCachingGateway(final CategoryGateway delegate, final int maximumSize, final Duration negativeTtl) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = new TinyLfuCache<>(maximumSize, negativeTtl);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        this.cache.invalidate(created.getId());
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.delegate.deleteById(id);
+        this.cache.invalidate(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        final var cached = this.cache.get(id, key -> this.delegate.findById(key).orElse(null));
+        return Optional.ofNullable(cached).map(Category::with);
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        final var result = this.delegate.update(category);
+        this.cache.invalidate(result.id());
+        return result;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        return this.delegate.findAll(params);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        return this.delegate.findAll(params);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        return this.delegate.findAllById(ids);
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        return this.delegate.countByStatus();
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        return this.delegate.histogram(params);
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        return invalidateAll(this.delegate.createAll(categories));
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        return invalidateAll(this.delegate.updateAll(categories));
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        return invalidateAll(this.delegate.deleteAllById(ids));
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    private BatchResult<CategoryID> invalidateAll(final BatchResult<CategoryID> result) {
+        for (final var item : result.items()) {
+            if (item.id() != null) {
+                this.cache.invalidate(item.id());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,335 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryTimeBucket;
+import com.magno.admin.catalogo.domain.category.CategoryTimeField;
+import com.magno.admin.catalogo.domain.category.CategoryView;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.infrastructure.category.search.CategoryTermIndex;
+import com.magno.admin.catalogo.infrastructure.collection.PersistentSortedSet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * One immutable version of the whole catalog: an id index and one sorted index per {@link CategorySortField}, all
+ * {@link PersistentSortedSet}s. A new version shares every unchanged node with the previous one, so publishing a
+ * write costs O(log n) per index, and a reader holding a version can run any number of queries against it without
+ * locks and without seeing later writes.
+ * <p>
+ * Status counts and the {@link CategoryTimeField} histograms are maintained the same way, as persistent sets of
+ * bucket counts.
+ * <p>
+ * Term searches use a persistent postings set ordered by token, then id. The postings under the longest query token's
+ * prefix give the candidates, which are checked against the remaining tokens with the same prefix rule as
+ * {@link CategoryTermIndex}; a search therefore costs O(m log m) in the number of candidates, not the catalog size.
+ */
+public final class CategoryCatalogSnapshot {
+
+    private static final Comparator<Entry> BY_ID = Comparator.comparing(entry -> entry.view().id());
+    private static final Comparator<BucketCount> BY_KEY = Comparator.comparingLong(BucketCount::key);
+    private static final Comparator<Posting> BY_TOKEN = Comparator.comparing(Posting::token)
+            .thenComparing(Posting::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+    private static final CategoryTimeField[] TIME_FIELDS = CategoryTimeField.values();
+    private static final CategoryTimeBucket[] TIME_BUCKETS = CategoryTimeBucket.values();
+    private static final CategoryCatalogSnapshot EMPTY = new CategoryCatalogSnapshot(
+            PersistentSortedSet.empty(BY_ID),
+            emptySortIndexes(),
+            PersistentSortedSet.empty(BY_TOKEN),
+            emptyHistograms(),
+            0
+    );
+
+    private final PersistentSortedSet<Entry> byId;
+    private final Map<CategorySortField, PersistentSortedSet<Entry>> sortIndexes;
+    private final PersistentSortedSet<Posting> postings;
+    private final List<PersistentSortedSet<BucketCount>> histograms;
+    private final long activeCount;
+
+    private CategoryCatalogSnapshot(
+            final PersistentSortedSet<Entry> byId,
+            final Map<CategorySortField, PersistentSortedSet<Entry>> sortIndexes,
+            final PersistentSortedSet<Posting> postings,
+            final List<PersistentSortedSet<BucketCount>> histograms,
+            final long activeCount
+    ) {
+        this.byId = byId;
+        this.sortIndexes = sortIndexes;
+        this.postings = postings;
+        this.histograms = histograms;
+        this.activeCount = activeCount;
+    }
+
+    public static CategoryCatalogSnapshot empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return this.byId.size();
+    }
+
+    public long activeCount() {
+        return this.activeCount;
+    }
+
+    public CategoryStatusCounts countByStatus() {
+        return CategoryStatusCounts.of(this.byId.size(), this.activeCount);
+    }
+
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        final var buckets = this.histograms.get(histogramIndex(params.field(), params.bucket()));
+        final var result = new ArrayList<CategoryHistogramBucket>();
+        final var from = params.fromKey();
+        final var iterator = from == Long.MIN_VALUE
+                ? buckets.iterator()
+                : buckets.after(new BucketCount(from - 1, 0), false);
+        while (iterator.hasNext()) {
+            final var bucket = iterator.next();
+            if (bucket.key() > params.toKey()) {
+                break;
+            }
+            result.add(new CategoryHistogramBucket(params.bucket().startOf(bucket.key()), bucket.count()));
+        }
+        return result;
+    }
+
+    public Optional<CategoryView> findById(final CategoryID id) {
+        final var entry = this.byId.get(probe(id));
+        return entry == null ? Optional.empty() : Optional.of(entry.view());
+    }
+
+    public Pagination<CategoryView> findAll(final CategorySearchParams params) {
+        final var sortField = CategorySortField.of(params.sort());
+        final var descending = "desc".equalsIgnoreCase(params.direction());
+        final var page = Math.max(params.page(), 0);
+        final var perPage = Math.max(params.perPage(), 0);
+        final var offset = (long) page * perPage;
+        final var index = this.sortIndexes.get(sortField);
+        final var queryTokens = CategoryTermIndex.tokenize(params.terms());
+
+        if (queryTokens.length == 0) {
+            return new Pagination<>(page, perPage, index.size(), take(index.fromRank(offset, descending), perPage, null));
+        }
+
+        final var matches = matching(queryTokens);
+        final var order = Comparator.comparing(Entry::view, sortField.viewComparator());
+        matches.sort(descending ? order.reversed() : order);
+
+        final var items = new ArrayList<CategoryView>(Math.min(perPage, 64));
+        for (long i = offset; i < matches.size() && items.size() < perPage; i++) {
+            items.add(matches.get((int) i).view());
+        }
+        return new Pagination<>(page, perPage, matches.size(), items);
+    }
+
+    public CursorPagination<CategoryView> findAll(final CategoryCursorSearchParams params) {
+        final var sortField = CategorySortField.of(params.sort());
+        final var descending = "desc".equalsIgnoreCase(params.direction());
+        final var perPage = Math.max(params.perPage(), 0);
+        final var after = params.cursor() == null ? null : CategoryCursor.decode(params.cursor());
+        if (after != null && !after.matches(sortField, descending)) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort");
+        }
+
+        final var index = this.sortIndexes.get(sortField);
+        final var queryTokens = CategoryTermIndex.tokenize(params.terms());
+        final var iterator = after == null
+                ? index.iterator(descending)
+                : index.after(new Entry(CategoryView.from(after.position()), null), descending);
+
+        final var filter = queryTokens.length == 0 ? null : queryTokens;
+        final var items = take(iterator, perPage, filter);
+        final var more = filter == null ? iterator.hasNext() : hasMatch(iterator, filter);
+        final var nextCursor = more && !items.isEmpty()
+                ? CategoryCursor.after(sortField, descending, items.get(items.size() - 1).toCategory()).encode()
+                : null;
+
+        Long total = null;
+        if (params.includeTotal()) {
+            total = filter == null ? (long) index.size() : (long) matching(filter).size();
+        }
+        return new CursorPagination<>(nextCursor, perPage, total, items);
+    }
+
+    CategoryCatalogSnapshot with(final CategoryView view) {
+        final var entry = new Entry(view, tokensOf(view));
+        final var previous = this.byId.get(entry);
+
+        final var sortIndexes = new EnumMap<CategorySortField, PersistentSortedSet<Entry>>(CategorySortField.class);
+        for (final var index : this.sortIndexes.entrySet()) {
+            final var set = previous == null ? index.getValue() : index.getValue().without(previous);
+            sortIndexes.put(index.getKey(), set.with(entry));
+        }
+
+        var postings = previous == null ? this.postings : unindex(this.postings, previous);
+        for (final var token : entry.tokens()) {
+            postings = postings.with(new Posting(token, view.id()));
+        }
+
+        var histograms = previous == null ? this.histograms : adjust(this.histograms, previous.view(), -1);
+        histograms = adjust(histograms, view, 1);
+
+        var activeCount = this.activeCount + (view.active() ? 1 : 0);
+        if (previous != null && previous.view().active()) {
+            activeCount--;
+        }
+        return new CategoryCatalogSnapshot(this.byId.with(entry), sortIndexes, postings, histograms, activeCount);
+    }
+
+    CategoryCatalogSnapshot without(final CategoryID id) {
+        final var previous = this.byId.get(probe(id));
+        if (previous == null) {
+            return this;
+        }
+
+        final var sortIndexes = new EnumMap<CategorySortField, PersistentSortedSet<Entry>>(CategorySortField.class);
+        for (final var index : this.sortIndexes.entrySet()) {
+            sortIndexes.put(index.getKey(), index.getValue().without(previous));
+        }
+        final var histograms = adjust(this.histograms, previous.view(), -1);
+        final var activeCount = this.activeCount - (previous.view().active() ? 1 : 0);
+        return new CategoryCatalogSnapshot(
+                this.byId.without(previous), sortIndexes, unindex(this.postings, previous), histograms, activeCount);
+    }
+
+    /**
+     * Every entry matching all of {@code queryTokens}, in no particular order. Candidates come from the postings under
+     * the longest query token, the most selective prefix.
+     */
+    private List<Entry> matching(final String[] queryTokens) {
+        var driver = queryTokens[0];
+        for (final var queryToken : queryTokens) {
+            if (queryToken.length() > driver.length()) {
+                driver = queryToken;
+            }
+        }
+
+        final var candidates = new LinkedHashSet<CategoryID>();
+        for (final var iterator = this.postings.after(new Posting(driver, null), false); iterator.hasNext(); ) {
+            final var posting = iterator.next();
+            if (!posting.token().startsWith(driver)) {
+                break;
+            }
+            candidates.add(posting.id());
+        }
+
+        final var matches = new ArrayList<Entry>(candidates.size());
+        for (final var id : candidates) {
+            final var entry = this.byId.get(probe(id));
+            if (entry != null && entry.matches(queryTokens)) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    private static PersistentSortedSet<Posting> unindex(final PersistentSortedSet<Posting> postings, final Entry entry) {
+        var result = postings;
+        for (final var token : entry.tokens()) {
+            result = result.without(new Posting(token, entry.view().id()));
+        }
+        return result;
+    }
+
+    private static List<CategoryView> take(final Iterator<Entry> iterator, final int limit, final String[] queryTokens) {
+        final var items = new ArrayList<CategoryView>(Math.min(limit, 64));
+        while (items.size() < limit && iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (queryTokens == null || entry.matches(queryTokens)) {
+                items.add(entry.view());
+            }
+        }
+        return items;
+    }
+
+    private static boolean hasMatch(final Iterator<Entry> iterator, final String[] queryTokens) {
+        while (iterator.hasNext()) {
+            if (iterator.next().matches(queryTokens)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PersistentSortedSet<BucketCount>> adjust(
+            final List<PersistentSortedSet<BucketCount>> histograms,
+            final CategoryView view,
+            final long delta
+    ) {
+        final var adjusted = new ArrayList<>(histograms);
+        for (final var field : TIME_FIELDS) {
+            final var at = field.of(view);
+            if (at == null) {
+                continue;
+            }
+            for (final var bucket : TIME_BUCKETS) {
+                final var index = histogramIndex(field, bucket);
+                final var buckets = adjusted.get(index);
+                final var key = bucket.keyOf(at);
+                final var current = buckets.get(new BucketCount(key, 0));
+                final var count = (current == null ? 0 : current.count()) + delta;
+                adjusted.set(index, count == 0 ? buckets.without(current) : buckets.with(new BucketCount(key, count)));
+            }
+        }
+        return List.copyOf(adjusted);
+    }
+
+    private static int histogramIndex(final CategoryTimeField field, final CategoryTimeBucket bucket) {
+        return field.ordinal() * TIME_BUCKETS.length + bucket.ordinal();
+    }
+
+    private static List<PersistentSortedSet<BucketCount>> emptyHistograms() {
+        final var histograms = new ArrayList<PersistentSortedSet<BucketCount>>();
+        for (int i = 0; i < TIME_FIELDS.length * TIME_BUCKETS.length; i++) {
+            histograms.add(PersistentSortedSet.empty(BY_KEY));
+        }
+        return List.copyOf(histograms);
+    }
+
+    private static Entry probe(final CategoryID id) {
+        return new Entry(new CategoryView(id, null, null, false, null, null, null, 0), null);
+    }
+
+    private static String[] tokensOf(final CategoryView view) {
+        final var tokens = new LinkedHashSet<String>();
+        tokens.addAll(List.of(CategoryTermIndex.tokenize(view.name())));
+        tokens.addAll(List.of(CategoryTermIndex.tokenize(view.description())));
+        return tokens.toArray(new String[0]);
+    }
+
+    private static Map<CategorySortField, PersistentSortedSet<Entry>> emptySortIndexes() {
+        final var indexes = new EnumMap<CategorySortField, PersistentSortedSet<Entry>>(CategorySortField.class);
+        for (final var field : CategorySortField.values()) {
+            indexes.put(field, PersistentSortedSet.empty(Comparator.comparing(Entry::view, field.viewComparator())));
+        }
+        return indexes;
+    }
+
+    private record BucketCount(long key, long count) {
+    }
+
+    private record Posting(String token, CategoryID id) {
+    }
+
+    private record Entry(CategoryView view, String[] tokens) {
+
+        /**
+         * Every query token is a prefix of one of this entry's tokens.
+         */
+        boolean matches(final String[] queryTokens) {
+            return CategoryTermIndex.matches(this.tokens, queryTokens);
+        }
+    }
+}
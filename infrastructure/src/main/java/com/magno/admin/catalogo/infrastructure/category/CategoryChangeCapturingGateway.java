@@ -0,0 +1,154 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryChange;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.category.CategoryView;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Records every mutation the delegate accepts in a {@link CategoryInProcessChangeFeed}. Writes are serialized so that
+ * positions follow the order in which the delegate stored them; two updates of one category can never reach the feed
+ * the other way round.
+ */
+public class CategoryChangeCapturingGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final CategoryInProcessChangeFeed feed;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public CategoryChangeCapturingGateway(final CategoryGateway delegate, final CategoryInProcessChangeFeed feed) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.feed = Objects.requireNonNull(feed);
+    }
+
+    public CategoryInProcessChangeFeed feed() {
+        return this.feed;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        this.writeLock.lock();
+        try {
+            final var created = this.delegate.create(category);
+            this.feed.append(CategoryChange.Type.CREATED, created.getId(), CategoryView.from(created));
+            return created;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        deleteAllById(List.of(id));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        this.writeLock.lock();
+        try {
+            final var result = this.delegate.update(category);
+            if (result instanceof CategoryUpdateResult.Updated updated) {
+                this.feed.append(CategoryChange.Type.UPDATED, updated.id(), CategoryView.from(updated.category()));
+            }
+            return result;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        return this.delegate.findAll(params);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        return this.delegate.findAll(params);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        return this.delegate.findAllById(ids);
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        return this.delegate.countByStatus();
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        return this.delegate.histogram(params);
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        this.writeLock.lock();
+        try {
+            final var result = this.delegate.createAll(categories);
+            for (final var item : result.items()) {
+                if (item.isSucceeded()) {
+                    final var category = categories.get(item.index());
+                    this.feed.append(CategoryChange.Type.CREATED, item.id(), CategoryView.from(category));
+                }
+            }
+            return result;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        this.writeLock.lock();
+        try {
+            final var result = this.delegate.updateAll(categories);
+            for (final var item : result.items()) {
+                if (item.isSucceeded()) {
+                    final var category = categories.get(item.index());
+                    this.feed.append(CategoryChange.Type.UPDATED, item.id(), CategoryView.from(category, category.getVersion() + 1));
+                }
+            }
+            return result;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        this.writeLock.lock();
+        try {
+            final var result = this.delegate.deleteAllById(ids);
+            for (final var item : result.items()) {
+                if (item.isSucceeded()) {
+                    this.feed.append(CategoryChange.Type.DELETED, item.id(), null);
+                }
+            }
+            return result;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.category.CategoryView;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory store whose reads never lock: every read starts with one volatile read of the current
+ * {@link CategoryCatalogSnapshot} and works on that immutable version. Writers are serialized, build the next version
+ * by path copying and publish it with a single volatile write, so a batch becomes visible all at once.
+ * <p>
+ * Same contract as {@link CategoryInMemoryGateway}; prefer it for read-heavy, many-core workloads where readers
+ * would otherwise contend on the read-write lock.
+ */
+public class CategoryCopyOnWriteGateway implements CategoryGateway {
+
+    private final Object writeLock = new Object();
+    private volatile CategoryCatalogSnapshot current = CategoryCatalogSnapshot.empty();
+
+    /**
+     * The current version; it never changes, so consecutive queries against it are consistent with each other.
+     */
+    public CategoryCatalogSnapshot snapshot() {
+        return this.current;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var view = CategoryView.from(category);
+        synchronized (this.writeLock) {
+            if (this.current.findById(view.id()).isPresent()) {
+                throw ConflictException.alreadyExists(Category.class, view.id());
+            }
+            this.current = this.current.with(view);
+        }
+        return view.toCategory();
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        synchronized (this.writeLock) {
+            this.current = this.current.without(id);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.current.findById(id).map(CategoryView::toCategory);
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        synchronized (this.writeLock) {
+            final var previous = this.current.findById(category.getId()).orElse(null);
+            if (previous == null) {
+                return new CategoryUpdateResult.NotFound(category.getId());
+            }
+            if (previous.version() != category.getVersion()) {
+                return new CategoryUpdateResult.Conflict(category.getId(), category.getVersion(), previous.version());
+            }
+
+            final var view = CategoryView.from(category, previous.version() + 1);
+            this.current = this.current.with(view);
+            return new CategoryUpdateResult.Updated(view.toCategory());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        final var page = this.current.findAll(params);
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(), toCategories(page.items()));
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        final var page = this.current.findAll(params);
+        return new CursorPagination<>(page.nextCursor(), page.perPage(), page.total(), toCategories(page.items()));
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        final var snapshot = this.current;
+        final var categories = new ArrayList<Category>(ids.size());
+        for (final var id : ids) {
+            snapshot.findById(id).ifPresent(view -> categories.add(view.toCategory()));
+        }
+        return categories;
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        return this.current.countByStatus();
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        return this.current.histogram(params);
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(categories.size());
+        synchronized (this.writeLock) {
+            var next = this.current;
+            for (int i = 0; i < categories.size(); i++) {
+                final var category = categories.get(i);
+                if (next.findById(category.getId()).isPresent()) {
+                    results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.ALREADY_EXISTS));
+                    continue;
+                }
+                next = next.with(CategoryView.from(category));
+                results.add(BatchItemResult.succeeded(i, category.getId()));
+            }
+            this.current = next;
+        }
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(categories.size());
+        synchronized (this.writeLock) {
+            var next = this.current;
+            for (int i = 0; i < categories.size(); i++) {
+                final var category = categories.get(i);
+                final var previous = next.findById(category.getId()).orElse(null);
+                if (previous == null) {
+                    results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.NOT_FOUND));
+                    continue;
+                }
+                if (previous.version() != category.getVersion()) {
+                    results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.CONFLICT));
+                    continue;
+                }
+                next = next.with(CategoryView.from(category, previous.version() + 1));
+                results.add(BatchItemResult.succeeded(i, category.getId()));
+            }
+            this.current = next;
+        }
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(ids.size());
+        synchronized (this.writeLock) {
+            var next = this.current;
+            for (int i = 0; i < ids.size(); i++) {
+                final var id = ids.get(i);
+                final var without = next.without(id);
+                if (without == next) {
+                    results.add(BatchItemResult.failed(i, id, BatchItemStatus.NOT_FOUND));
+                    continue;
+                }
+                next = without;
+                results.add(BatchItemResult.succeeded(i, id));
+            }
+            this.current = next;
+        }
+        return new BatchResult<>(results);
+    }
+
+    private static List<Category> toCategories(final List<CategoryView> views) {
+        final var categories = new ArrayList<Category>(views.size());
+        for (final var view : views) {
+            categories.add(view.toCategory());
+        }
+        return categories;
+    }
+}
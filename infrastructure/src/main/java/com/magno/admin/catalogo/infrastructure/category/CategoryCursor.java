@@ -0,0 +1,77 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Base64;
+
+public record CategoryCursor(
+        CategorySortField sortField,
+        boolean descending,
+        Category position
+) {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    public static CategoryCursor after(final CategorySortField sortField, final boolean descending, final Category last) {
+        return new CategoryCursor(sortField, descending, sortField.probe(sortField.keyOf(last), last.getId()));
+    }
+
+    public static CategoryCursor decode(final String token) {
+        try (final var in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported cursor version");
+            }
+
+            final var sortField = CategorySortField.values()[in.readUnsignedByte()];
+            final var descending = in.readBoolean();
+            final Object key;
+            if (!in.readBoolean()) {
+                key = null;
+            } else if (sortField == CategorySortField.NAME) {
+                key = in.readUTF();
+            } else {
+                key = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            }
+            final var id = CategoryID.from(in.readLong(), in.readLong());
+
+            return new CategoryCursor(sortField, descending, sortField.probe(key, id));
+        } catch (final IOException | RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        final var bytes = new ByteArrayOutputStream(64);
+        try (final var out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(sortField.ordinal());
+            out.writeBoolean(descending);
+
+            final var key = sortField.keyOf(position);
+            out.writeBoolean(key != null);
+            if (key instanceof String name) {
+                out.writeUTF(name);
+            } else if (key instanceof Instant instant) {
+                out.writeLong(instant.getEpochSecond());
+                out.writeInt(instant.getNano());
+            }
+            out.writeLong(position.getId().getMostSignificantBits());
+            out.writeLong(position.getId().getLeastSignificantBits());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public boolean matches(final CategorySortField aSortField, final boolean isDescending) {
+        return this.sortField == aSortField && this.descending == isDescending;
+    }
+}
@@ -0,0 +1,153 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryDeleted;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.event.DomainEvent;
+import com.magno.admin.catalogo.domain.event.DomainEventPublisher;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Publishes the events recorded on each category once the delegate has stored it. Events of categories the delegate
+ * rejected, including stale updates, are dropped, and deletions, which have no aggregate to record them, are published as
+ * {@link CategoryDeleted}.
+ * <p>
+ * Each write and the publishing of its events happen under one lock, so concurrent writers hand their events to the
+ * publisher in the order the delegate applied the writes.
+ */
+public class CategoryEventPublishingGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final DomainEventPublisher publisher;
+    private final Object writeLock = new Object();
+
+    public CategoryEventPublishingGateway(final CategoryGateway delegate, final DomainEventPublisher publisher) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.publisher = Objects.requireNonNull(publisher);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        synchronized (this.writeLock) {
+            final var created = this.delegate.create(category);
+            publish(category.pullDomainEvents());
+            return created;
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        deleteAllById(List.of(id));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        synchronized (this.writeLock) {
+            final var result = this.delegate.update(category);
+            final var events = category.pullDomainEvents();
+            if (result.isUpdated()) {
+                publish(events);
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        return this.delegate.findAll(params);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        return this.delegate.findAll(params);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        return this.delegate.findAllById(ids);
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        return this.delegate.countByStatus();
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        return this.delegate.histogram(params);
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        synchronized (this.writeLock) {
+            return publishSucceeded(categories, this.delegate.createAll(categories));
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        synchronized (this.writeLock) {
+            return publishSucceeded(categories, this.delegate.updateAll(categories));
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        synchronized (this.writeLock) {
+            final var result = this.delegate.deleteAllById(ids);
+            final var now = Category.clock().now();
+            final var events = new ArrayList<DomainEvent>(result.items().size());
+            for (final var item : result.items()) {
+                if (item.isSucceeded()) {
+                    events.add(new CategoryDeleted(item.id(), now));
+                }
+            }
+            publish(events);
+            return result;
+        }
+    }
+
+    private BatchResult<CategoryID> publishSucceeded(final List<Category> categories, final BatchResult<CategoryID> result) {
+        final var events = new ArrayList<DomainEvent>(categories.size());
+        final var succeeded = new boolean[categories.size()];
+        for (final var item : result.items()) {
+            if (item.isSucceeded()) {
+                succeeded[item.index()] = true;
+            }
+        }
+        for (int i = 0; i < categories.size(); i++) {
+            final var recorded = categories.get(i).pullDomainEvents();
+            if (succeeded[i]) {
+                events.addAll(recorded);
+            }
+        }
+        publish(events);
+        return result;
+    }
+
+    private void publish(final List<DomainEvent> events) {
+        if (!events.isEmpty()) {
+            this.publisher.publish(events);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryTimeBucket;
+import com.magno.admin.catalogo.domain.category.CategoryTimeField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Per-bucket category counts for every {@link CategoryTimeField} and {@link CategoryTimeBucket}, adjusted on each
+ * index change so a histogram query only walks the buckets it returns.
+ * <p>
+ * Not thread-safe: callers are expected to guard it with the same lock that guards the owning store.
+ */
+public final class CategoryHistogramIndex {
+
+    private static final CategoryTimeField[] FIELDS = CategoryTimeField.values();
+    private static final CategoryTimeBucket[] BUCKETS = CategoryTimeBucket.values();
+
+    private final NavigableMap<Long, long[]>[] counts = newCounts(FIELDS.length * BUCKETS.length);
+
+    public CategoryHistogramIndex() {
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i] = new TreeMap<>();
+        }
+    }
+
+    public void add(final Category category) {
+        adjust(category, 1);
+    }
+
+    public void remove(final Category category) {
+        adjust(category, -1);
+    }
+
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        final var buckets = countsOf(params.field(), params.bucket())
+                .subMap(params.fromKey(), true, params.toKey(), true);
+        final var result = new ArrayList<CategoryHistogramBucket>(buckets.size());
+        for (final var bucket : buckets.entrySet()) {
+            result.add(new CategoryHistogramBucket(params.bucket().startOf(bucket.getKey()), bucket.getValue()[0]));
+        }
+        return result;
+    }
+
+    private void adjust(final Category category, final long delta) {
+        for (final var field : FIELDS) {
+            final var at = field.of(category);
+            if (at == null) {
+                continue;
+            }
+            for (final var bucket : BUCKETS) {
+                final var buckets = countsOf(field, bucket);
+                final var key = bucket.keyOf(at);
+                final var count = buckets.computeIfAbsent(key, ignored -> new long[1]);
+                count[0] += delta;
+                if (count[0] == 0) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private NavigableMap<Long, long[]> countsOf(final CategoryTimeField field, final CategoryTimeBucket bucket) {
+        return this.counts[field.ordinal() * BUCKETS.length + bucket.ordinal()];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static NavigableMap<Long, long[]>[] newCounts(final int size) {
+        return (NavigableMap<Long, long[]>[]) new NavigableMap<?, ?>[size];
+    }
+}
@@ -0,0 +1,521 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.infrastructure.category.search.CategoryTermIndex;
+import com.magno.admin.catalogo.infrastructure.collection.PersistentSortedSet;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class CategoryInMemoryGateway implements CategoryGateway {
+
+    private static final Comparator<Category> DELETED_AT_ORDER =
+            Comparator.comparing(Category::getDeletedAt).thenComparing(Category::getId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<CategoryID, Category> byId = new HashMap<>();
+    private final Map<CategorySortField, PersistentSortedSet<Category>> sortIndexes = new EnumMap<>(CategorySortField.class);
+    private final NavigableSet<Category> byDeletedAt = new TreeSet<>(DELETED_AT_ORDER);
+    private final CategoryTermIndex termIndex;
+    private final CategoryHistogramIndex histograms = new CategoryHistogramIndex();
+    private long activeCount;
+
+    public CategoryInMemoryGateway() {
+        this(new CategoryTermIndex());
+    }
+
+    private CategoryInMemoryGateway(final CategoryTermIndex termIndex) {
+        this.termIndex = termIndex;
+        for (final var sortField : CategorySortField.values()) {
+            this.sortIndexes.put(sortField, PersistentSortedSet.empty(sortField.comparator()));
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var copy = Category.with(category);
+
+        this.lock.writeLock().lock();
+        try {
+            if (this.byId.putIfAbsent(copy.getId(), copy) != null) {
+                throw ConflictException.alreadyExists(Category.class, copy.getId());
+            }
+            index(copy);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return Category.with(copy);
+    }
+
+    /**
+     * Stores {@code category} as it is, replacing any category with its id, without the checks of {@link #create} and
+     * {@link #update}. Only meant for stores rebuilding this index from their own durable records and for moving
+     * categories between tiers; it is not part of {@link CategoryGateway}.
+     */
+    public Category put(final Category category) {
+        return save(category);
+    }
+
+    public boolean contains(final CategoryID id) {
+        this.lock.readLock().lock();
+        try {
+            return this.byId.containsKey(id);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.lock.writeLock().lock();
+        try {
+            final var stored = this.byId.remove(id);
+            if (stored != null) {
+                unindex(stored);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        this.lock.readLock().lock();
+        try {
+            return Optional.ofNullable(this.byId.get(id)).map(Category::with);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        this.lock.writeLock().lock();
+        try {
+            final var previous = this.byId.get(category.getId());
+            if (previous == null) {
+                return new CategoryUpdateResult.NotFound(category.getId());
+            }
+            if (previous.getVersion() != category.getVersion()) {
+                return new CategoryUpdateResult.Conflict(category.getId(), category.getVersion(), previous.getVersion());
+            }
+
+            final var copy = Category.with(category, previous.getVersion() + 1);
+            this.byId.put(copy.getId(), copy);
+            unindex(previous);
+            index(copy);
+            return new CategoryUpdateResult.Updated(Category.with(copy));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        final var sortField = CategorySortField.of(params.sort());
+        final var descending = "desc".equalsIgnoreCase(params.direction());
+        final var page = Math.max(params.page(), 0);
+        final var perPage = Math.max(params.perPage(), 0);
+        final var offset = (long) page * perPage;
+
+        this.lock.readLock().lock();
+        try {
+            final var matchingIds = this.termIndex.search(params.terms());
+
+            if (matchingIds == null) {
+                final var ordered = this.sortIndexes.get(sortField).fromRank(offset, descending);
+                return new Pagination<>(page, perPage, this.byId.size(), slice(ordered, perPage));
+            }
+
+            final var matches = new ArrayList<Category>(matchingIds.size());
+            for (final var id : matchingIds) {
+                matches.add(this.byId.get(id));
+            }
+            matches.sort(sortField.comparator(descending));
+            final var from = (int) Math.min(offset, matches.size());
+            return new Pagination<>(page, perPage, matches.size(), slice(matches.listIterator(from), perPage));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        final var sortField = CategorySortField.of(params.sort());
+        final var descending = "desc".equalsIgnoreCase(params.direction());
+        final var perPage = Math.max(params.perPage(), 0);
+        final var after = params.cursor() == null ? null : CategoryCursor.decode(params.cursor());
+        if (after != null && !after.matches(sortField, descending)) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort");
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final var matchingIds = this.termIndex.search(params.terms());
+
+            final Iterator<Category> iterator;
+            final long total;
+            if (matchingIds == null) {
+                final var index = this.sortIndexes.get(sortField);
+                iterator = after == null ? index.iterator(descending) : index.after(after.position(), descending);
+                total = this.byId.size();
+            } else {
+                final var comparator = sortField.comparator(descending);
+                final var matches = new ArrayList<Category>(matchingIds.size());
+                for (final var id : matchingIds) {
+                    final var category = this.byId.get(id);
+                    if (after == null || comparator.compare(category, after.position()) > 0) {
+                        matches.add(category);
+                    }
+                }
+                matches.sort(comparator);
+                iterator = matches.iterator();
+                total = matchingIds.size();
+            }
+
+            final var items = slice(iterator, perPage);
+            final var nextCursor = iterator.hasNext() && !items.isEmpty()
+                    ? CategoryCursor.after(sortField, descending, items.get(items.size() - 1)).encode()
+                    : null;
+            return new CursorPagination<>(nextCursor, perPage, params.includeTotal() ? total : null, items);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        this.lock.readLock().lock();
+        try {
+            final var categories = new ArrayList<Category>(ids.size());
+            for (final var id : ids) {
+                final var stored = this.byId.get(id);
+                if (stored != null) {
+                    categories.add(Category.with(stored));
+                }
+            }
+            return categories;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        this.lock.readLock().lock();
+        try {
+            return CategoryStatusCounts.of(this.byId.size(), this.activeCount);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        this.lock.readLock().lock();
+        try {
+            return this.histograms.histogram(params);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        final var copies = copyAll(categories);
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(copies.size());
+
+        this.lock.writeLock().lock();
+        try {
+            for (int i = 0; i < copies.size(); i++) {
+                final var copy = copies.get(i);
+                if (this.byId.putIfAbsent(copy.getId(), copy) != null) {
+                    results.add(BatchItemResult.failed(i, copy.getId(), BatchItemStatus.ALREADY_EXISTS));
+                    continue;
+                }
+                index(copy);
+                results.add(BatchItemResult.succeeded(i, copy.getId()));
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(categories.size());
+
+        this.lock.writeLock().lock();
+        try {
+            for (int i = 0; i < categories.size(); i++) {
+                final var category = categories.get(i);
+                final var previous = this.byId.get(category.getId());
+                if (previous == null) {
+                    results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.NOT_FOUND));
+                    continue;
+                }
+                if (previous.getVersion() != category.getVersion()) {
+                    results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.CONFLICT));
+                    continue;
+                }
+
+                final var copy = Category.with(category, previous.getVersion() + 1);
+                this.byId.put(copy.getId(), copy);
+                unindex(previous);
+                index(copy);
+                results.add(BatchItemResult.succeeded(i, copy.getId()));
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(ids.size());
+
+        this.lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                final var id = ids.get(i);
+                final var stored = this.byId.remove(id);
+                if (stored == null) {
+                    results.add(BatchItemResult.failed(i, id, BatchItemStatus.NOT_FOUND));
+                    continue;
+                }
+                unindex(stored);
+                results.add(BatchItemResult.succeeded(i, id));
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        return new BatchResult<>(results);
+    }
+
+    public static CategoryInMemoryGateway restore(final CategoryIndexSnapshot snapshot) {
+        final var rows = snapshot.categories();
+
+        final var postings = new HashMap<String, List<CategoryID>>(snapshot.postings().size());
+        for (final var posting : snapshot.postings().entrySet()) {
+            final var ids = new ArrayList<CategoryID>(posting.getValue().length);
+            for (final var row : posting.getValue()) {
+                ids.add(rows.get(row).getId());
+            }
+            postings.put(posting.getKey(), ids);
+        }
+
+        final var gateway = new CategoryInMemoryGateway(CategoryTermIndex.restore(postings));
+        for (final var category : rows) {
+            gateway.byId.put(category.getId(), category);
+            gateway.histograms.add(category);
+            if (category.isActive()) {
+                gateway.activeCount++;
+            }
+        }
+        for (final var sortField : CategorySortField.values()) {
+            final var order = snapshot.sortOrders().get(sortField);
+            final List<Category> sorted;
+            if (order == null) {
+                sorted = new ArrayList<>(rows);
+                sorted.sort(sortField.comparator());
+            } else {
+                sorted = new ArrayList<>(order.length);
+                for (final var row : order) {
+                    sorted.add(rows.get(row));
+                }
+            }
+            gateway.sortIndexes.put(sortField, PersistentSortedSet.ofSorted(sorted, sortField.comparator()));
+        }
+        gateway.byDeletedAt.addAll(new PresortedSetView<>(rows, snapshot.deactivatedOrder(), DELETED_AT_ORDER));
+        return gateway;
+    }
+
+    public CategoryIndexSnapshot snapshotIndexes() {
+        this.lock.readLock().lock();
+        try {
+            final var rows = new ArrayList<Category>(this.byId.size());
+            final var ordinals = new HashMap<CategoryID, Integer>(this.byId.size() * 4 / 3 + 1);
+            for (final var category : this.sortIndexes.get(CategorySortField.NAME)) {
+                ordinals.put(category.getId(), rows.size());
+                rows.add(Category.with(category));
+            }
+
+            final var sortOrders = new EnumMap<CategorySortField, int[]>(CategorySortField.class);
+            for (final var index : this.sortIndexes.entrySet()) {
+                sortOrders.put(index.getKey(), ordinalsOf(index.getValue(), index.getValue().size(), ordinals));
+            }
+
+            final var postings = new HashMap<String, int[]>(this.termIndex.termCount() * 4 / 3 + 1);
+            this.termIndex.forEachPosting((term, ids) -> {
+                final var rowsOfTerm = new int[ids.size()];
+                int i = 0;
+                for (final var id : ids) {
+                    rowsOfTerm[i++] = ordinals.get(id);
+                }
+                Arrays.sort(rowsOfTerm);
+                postings.put(term, rowsOfTerm);
+            });
+
+            return new CategoryIndexSnapshot(rows, sortOrders, ordinalsOf(this.byDeletedAt, this.byDeletedAt.size(), ordinals), postings);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<Category> snapshot() {
+        this.lock.readLock().lock();
+        try {
+            final var categories = new ArrayList<Category>(this.byId.size());
+            for (final var category : this.byId.values()) {
+                categories.add(Category.with(category));
+            }
+            return categories;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.byId.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public long activeCount() {
+        this.lock.readLock().lock();
+        try {
+            return this.activeCount;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public long inactiveCount() {
+        this.lock.readLock().lock();
+        try {
+            return this.byId.size() - this.activeCount;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<CategoryID> findDeactivatedBefore(final Instant cutoff) {
+        this.lock.readLock().lock();
+        try {
+            final var ids = new ArrayList<CategoryID>();
+            for (final var category : this.byDeletedAt) {
+                if (!category.getDeletedAt().isBefore(cutoff)) {
+                    break;
+                }
+                ids.add(category.getId());
+            }
+            return ids;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private Category save(final Category category) {
+        final var copy = Category.with(category);
+
+        this.lock.writeLock().lock();
+        try {
+            final var previous = this.byId.put(copy.getId(), copy);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(copy);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return Category.with(copy);
+    }
+
+    private void index(final Category category) {
+        for (final var index : this.sortIndexes.entrySet()) {
+            index.setValue(index.getValue().with(category));
+        }
+        if (category.isActive()) {
+            this.activeCount++;
+        }
+        if (category.getDeletedAt() != null) {
+            this.byDeletedAt.add(category);
+        }
+        this.termIndex.add(category);
+        this.histograms.add(category);
+    }
+
+    private void unindex(final Category category) {
+        for (final var index : this.sortIndexes.entrySet()) {
+            index.setValue(index.getValue().without(category));
+        }
+        if (category.isActive()) {
+            this.activeCount--;
+        }
+        if (category.getDeletedAt() != null) {
+            this.byDeletedAt.remove(category);
+        }
+        this.termIndex.remove(category.getId());
+        this.histograms.remove(category);
+    }
+
+    private static int[] ordinalsOf(final Iterable<Category> index, final int size, final Map<CategoryID, Integer> ordinals) {
+        final var order = new int[size];
+        int i = 0;
+        for (final var category : index) {
+            order[i++] = ordinals.get(category.getId());
+        }
+        return order;
+    }
+
+    private static List<Category> copyAll(final List<Category> categories) {
+        final var copies = new ArrayList<Category>(categories.size());
+        for (final var category : categories) {
+            copies.add(Category.with(category));
+        }
+        return copies;
+    }
+
+    private static List<Category> slice(final Iterator<Category> iterator, final int limit) {
+        final var items = new ArrayList<Category>(Math.min(limit, 64));
+        while (items.size() < limit && iterator.hasNext()) {
+            items.add(Category.with(iterator.next()));
+        }
+        return items;
+    }
+}
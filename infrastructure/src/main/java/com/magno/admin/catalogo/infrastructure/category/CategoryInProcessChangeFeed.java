@@ -0,0 +1,104 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.CategoryChange;
+import com.magno.admin.catalogo.domain.category.CategoryChangeBatch;
+import com.magno.admin.catalogo.domain.category.CategoryChangeFeed;
+import com.magno.admin.catalogo.domain.category.CategoryChangeGapException;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategoryView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link CategoryChangeFeed} kept in a ring of the latest {@code capacity} changes. Readers falling further behind get a
+ * {@link CategoryChangeGapException}; readers at the head wait on a condition signalled by each append.
+ */
+public class CategoryInProcessChangeFeed implements CategoryChangeFeed {
+
+    public static final int DEFAULT_CAPACITY = 65_536;
+
+    private final CategoryChange[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long head;
+
+    public CategoryInProcessChangeFeed() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CategoryInProcessChangeFeed(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("'capacity' should be greater than zero");
+        }
+        this.ring = new CategoryChange[capacity];
+    }
+
+    /**
+     * Records a change under the next position and wakes up waiting readers.
+     */
+    public long append(final CategoryChange.Type type, final CategoryID id, final CategoryView state) {
+        this.lock.lock();
+        try {
+            final var lsn = ++this.head;
+            this.ring[slotOf(lsn)] = new CategoryChange(lsn, type, id, state);
+            this.appended.signalAll();
+            return lsn;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long headLsn() {
+        this.lock.lock();
+        try {
+            return this.head;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public CategoryChangeBatch read(final long afterLsn, final int maxChanges, final Duration timeout) {
+        if (maxChanges <= 0) {
+            throw new IllegalArgumentException("'maxChanges' should be greater than zero");
+        }
+
+        this.lock.lock();
+        try {
+            if (afterLsn < 0 || afterLsn > this.head) {
+                throw new IllegalArgumentException("'afterLsn' should be between 0 and " + this.head);
+            }
+
+            var remaining = timeout.toNanos();
+            while (this.head == afterLsn && remaining > 0) {
+                remaining = this.appended.awaitNanos(remaining);
+            }
+
+            final var oldest = Math.max(1, this.head - this.ring.length + 1);
+            if (afterLsn + 1 < oldest) {
+                throw new CategoryChangeGapException(afterLsn, oldest);
+            }
+
+            final var last = Math.min(this.head, afterLsn + maxChanges);
+            final List<CategoryChange> changes = new ArrayList<>((int) (last - afterLsn));
+            for (long lsn = afterLsn + 1; lsn <= last; lsn++) {
+                changes.add(this.ring[slotOf(lsn)]);
+            }
+            return new CategoryChangeBatch(changes, last);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for category changes", ex);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private int slotOf(final long lsn) {
+        return (int) (lsn % this.ring.length);
+    }
+}
@@ -0,0 +1,18 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time copy of a {@link CategoryInMemoryGateway}: the categories plus every index expressed as row
+ * ordinals into {@code categories}, so the gateway can be restored without re-sorting or re-tokenizing.
+ */
+public record CategoryIndexSnapshot(
+        List<Category> categories,
+        Map<CategorySortField, int[]> sortOrders,
+        int[] deactivatedOrder,
+        Map<String, int[]> postings
+) {
+}
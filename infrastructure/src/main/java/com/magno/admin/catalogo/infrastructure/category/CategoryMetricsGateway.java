@@ -0,0 +1,258 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.application.metrics.Counter;
+import com.magno.admin.catalogo.application.metrics.LatencyRecorder;
+import com.magno.admin.catalogo.application.metrics.MetricsRegistry;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Records the latency and failures of every {@link CategoryGateway} call under {@code category.gateway.<method>.*},
+ * plus update conflicts and batch items that did not succeed. Every recorder is looked up once, here, so the calls
+ * themselves only read the clock and bump counters.
+ */
+public class CategoryMetricsGateway implements CategoryGateway {
+
+    private static final String PREFIX = "category.gateway.";
+
+    private final CategoryGateway delegate;
+
+    private final Method create;
+    private final Method deleteById;
+    private final Method findById;
+    private final Method update;
+    private final Method findAll;
+    private final Method findAllByCursor;
+    private final Method findAllById;
+    private final Method countByStatus;
+    private final Method histogram;
+    private final Method createAll;
+    private final Method updateAll;
+    private final Method deleteAllById;
+    private final Counter updateConflicts;
+    private final Counter findByIdMisses;
+
+    public CategoryMetricsGateway(final CategoryGateway delegate, final MetricsRegistry registry) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.create = new Method(registry, "create", false);
+        this.deleteById = new Method(registry, "deleteById", false);
+        this.findById = new Method(registry, "findById", false);
+        this.update = new Method(registry, "update", false);
+        this.findAll = new Method(registry, "findAll", false);
+        this.findAllByCursor = new Method(registry, "findAllByCursor", false);
+        this.findAllById = new Method(registry, "findAllById", false);
+        this.countByStatus = new Method(registry, "countByStatus", false);
+        this.histogram = new Method(registry, "histogram", false);
+        this.createAll = new Method(registry, "createAll", true);
+        this.updateAll = new Method(registry, "updateAll", true);
+        this.deleteAllById = new Method(registry, "deleteAllById", true);
+        this.updateConflicts = registry.counter(PREFIX + "update.conflicts");
+        this.findByIdMisses = registry.counter(PREFIX + "findById.misses");
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var start = System.nanoTime();
+        try {
+            return this.delegate.create(category);
+        } catch (final RuntimeException ex) {
+            this.create.failures.increment();
+            throw ex;
+        } finally {
+            this.create.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        final var start = System.nanoTime();
+        try {
+            this.delegate.deleteById(id);
+        } catch (final RuntimeException ex) {
+            this.deleteById.failures.increment();
+            throw ex;
+        } finally {
+            this.deleteById.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        final var start = System.nanoTime();
+        try {
+            final var found = this.delegate.findById(id);
+            if (found.isEmpty()) {
+                this.findByIdMisses.increment();
+            }
+            return found;
+        } catch (final RuntimeException ex) {
+            this.findById.failures.increment();
+            throw ex;
+        } finally {
+            this.findById.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        final var start = System.nanoTime();
+        try {
+            final var result = this.delegate.update(category);
+            if (result instanceof CategoryUpdateResult.Conflict) {
+                this.updateConflicts.increment();
+            }
+            return result;
+        } catch (final RuntimeException ex) {
+            this.update.failures.increment();
+            throw ex;
+        } finally {
+            this.update.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        final var start = System.nanoTime();
+        try {
+            return this.delegate.findAll(params);
+        } catch (final RuntimeException ex) {
+            this.findAll.failures.increment();
+            throw ex;
+        } finally {
+            this.findAll.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        final var start = System.nanoTime();
+        try {
+            return this.delegate.findAll(params);
+        } catch (final RuntimeException ex) {
+            this.findAllByCursor.failures.increment();
+            throw ex;
+        } finally {
+            this.findAllByCursor.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        final var start = System.nanoTime();
+        try {
+            return this.delegate.findAllById(ids);
+        } catch (final RuntimeException ex) {
+            this.findAllById.failures.increment();
+            throw ex;
+        } finally {
+            this.findAllById.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        final var start = System.nanoTime();
+        try {
+            return this.delegate.countByStatus();
+        } catch (final RuntimeException ex) {
+            this.countByStatus.failures.increment();
+            throw ex;
+        } finally {
+            this.countByStatus.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        final var start = System.nanoTime();
+        try {
+            return this.delegate.histogram(params);
+        } catch (final RuntimeException ex) {
+            this.histogram.failures.increment();
+            throw ex;
+        } finally {
+            this.histogram.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        final var start = System.nanoTime();
+        try {
+            return this.createAll.countRejected(this.delegate.createAll(categories));
+        } catch (final RuntimeException ex) {
+            this.createAll.failures.increment();
+            throw ex;
+        } finally {
+            this.createAll.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        final var start = System.nanoTime();
+        try {
+            return this.updateAll.countRejected(this.delegate.updateAll(categories));
+        } catch (final RuntimeException ex) {
+            this.updateAll.failures.increment();
+            throw ex;
+        } finally {
+            this.updateAll.latency.recordSince(start);
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        final var start = System.nanoTime();
+        try {
+            return this.deleteAllById.countRejected(this.delegate.deleteAllById(ids));
+        } catch (final RuntimeException ex) {
+            this.deleteAllById.failures.increment();
+            throw ex;
+        } finally {
+            this.deleteAllById.latency.recordSince(start);
+        }
+    }
+
+    private static final class Method {
+
+        private final LatencyRecorder latency;
+        private final Counter failures;
+        private final Counter rejectedItems;
+
+        private Method(final MetricsRegistry registry, final String name, final boolean batch) {
+            this.latency = registry.latency(PREFIX + name + ".latency");
+            this.failures = registry.counter(PREFIX + name + ".failures");
+            this.rejectedItems = batch ? registry.counter(PREFIX + name + ".rejectedItems") : null;
+        }
+
+        private BatchResult<CategoryID> countRejected(final BatchResult<CategoryID> result) {
+            final var items = result.items();
+            long rejected = 0;
+            for (int i = 0; i < items.size(); i++) {
+                if (!items.get(i).isSucceeded()) {
+                    rejected++;
+                }
+            }
+            if (rejected > 0) {
+                this.rejectedItems.add(rejected);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.infrastructure.cache.CacheStats;
+import com.magno.admin.catalogo.infrastructure.cache.TinyLfuCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CategoryQueryCachingGateway implements CategoryGateway {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_024;
+
+    private final CategoryGateway delegate;
+    private final TinyLfuCache<QueryKey, CachedPage> cache;
+    private final ConcurrentHashMap<InFlightKey, CompletableFuture<Pagination<Category>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder collapsedQueries = new LongAdder();
+
+    public CategoryQueryCachingGateway(final CategoryGateway delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CategoryQueryCachingGateway(final CategoryGateway delegate, final int maximumSize) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = new TinyLfuCache<>(maximumSize, Duration.ZERO);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return this.delegate.create(category);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        try {
+            this.delegate.deleteById(id);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        try {
+            return this.delegate.update(category);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        final var generation = this.generation.get();
+        final var cached = this.cache.get(
+                QueryKey.of(params),
+                query -> new CachedPage(generation, loadOnce(query, generation)),
+                page -> page.generation() == generation
+        );
+        return copyOf(cached.page());
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        return this.delegate.findAll(params);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        return this.delegate.findAllById(ids);
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        return this.delegate.countByStatus();
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        return this.delegate.histogram(params);
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        try {
+            return this.delegate.createAll(categories);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        try {
+            return this.delegate.updateAll(categories);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        try {
+            return this.delegate.deleteAllById(ids);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    public long collapsedQueries() {
+        return this.collapsedQueries.sum();
+    }
+
+    /**
+     * Loads a page for {@code generation}, joining a load of the same query and generation already running. Pages are
+     * stamped with the generation read before loading, so a page loaded across a write is stale on its next read.
+     */
+    private Pagination<Category> loadOnce(final QueryKey query, final long generation) {
+        final var key = new InFlightKey(generation, query);
+        final var future = new CompletableFuture<Pagination<Category>>();
+        final var running = this.inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            this.collapsedQueries.increment();
+            try {
+                return running.join();
+            } catch (final CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+
+        try {
+            final var result = this.delegate.findAll(query.toParams());
+            future.complete(result);
+            return result;
+        } catch (final RuntimeException ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.inFlight.remove(key, future);
+        }
+    }
+
+    private static Pagination<Category> copyOf(final Pagination<Category> page) {
+        final var items = new ArrayList<Category>(page.items().size());
+        for (final var category : page.items()) {
+            items.add(Category.with(category));
+        }
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(), items);
+    }
+
+    /**
+     * A cached page and the write generation it was read at; any write makes it stale, and the next read reloads it
+     * into the same slot.
+     */
+    private record CachedPage(long generation, Pagination<Category> page) {
+    }
+
+    private record InFlightKey(long generation, QueryKey query) {
+    }
+
+    private record QueryKey(
+            int page,
+            int perPage,
+            String terms,
+            String sort,
+            String direction
+    ) {
+
+        private static QueryKey of(final CategorySearchParams params) {
+            final var terms = params.terms() == null ? "" : params.terms().trim().toLowerCase(Locale.ROOT);
+            final var sort = CategorySortField.of(params.sort()).field();
+            final var direction = "desc".equalsIgnoreCase(params.direction()) ? "desc" : "asc";
+            return new QueryKey(params.page(), params.perPage(), terms, sort, direction);
+        }
+
+        private CategorySearchParams toParams() {
+            return new CategorySearchParams(page, perPage, terms, sort, direction);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.CategoryID;
+
+import java.util.Arrays;
+
+/**
+ * Consistent hash ring mapping a {@link CategoryID} to a shard index. Every shard owns {@code virtualNodes} points
+ * derived from its index only, so appending a shard moves roughly {@code 1/(n+1)} of the ids onto it and leaves the
+ * rest where they were.
+ */
+final class CategoryShardRing {
+
+    private final long[] points;
+    private final int[] owners;
+
+    CategoryShardRing(final int shards, final int virtualNodes) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("'shards' should be greater than zero");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("'virtualNodes' should be greater than zero");
+        }
+
+        final var entries = new long[shards * virtualNodes][];
+        for (int shard = 0, i = 0; shard < shards; shard++) {
+            for (int node = 0; node < virtualNodes; node++, i++) {
+                entries[i] = new long[]{mix(((long) shard << 32) | node), shard};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+
+        this.points = new long[entries.length];
+        this.owners = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            this.points[i] = entries[i][0];
+            this.owners[i] = (int) entries[i][1];
+        }
+    }
+
+    int shardOf(final CategoryID id) {
+        final var hash = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+        var slot = Arrays.binarySearch(this.points, hash);
+        if (slot < 0) {
+            slot = -slot - 1;
+        }
+        return this.owners[slot == this.points.length ? 0 : slot];
+    }
+
+    /**
+     * SplitMix64 finalizer: cheap, and spreads sequential ids and node numbers evenly over the ring.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,398 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Partitions categories over several gateways by a consistent hash of their id. Single-id calls go to the one
+ * owning shard and batches are split per shard. Searches scatter to every shard and k-way merge the sorted results:
+ * each shard is read lazily through its cursor pages, so a page only pulls about as many rows from each shard as it
+ * can actually use instead of whole shards.
+ * <p>
+ * Cursors are {@link CategoryCursor} positions, which do not depend on which shard issued them, so one cursor is
+ * passed unchanged to every shard. The first page of each shard is requested through {@code executor}; the default
+ * runs them on the caller thread, which is the cheapest option for in-process shards.
+ * <p>
+ * Ownership is a function of the shard count, so growing the list leaves some stored categories on a shard that no
+ * longer owns them. Build the gateway over the longer list and call {@link #rebalance()} before serving traffic;
+ * until then those categories are invisible to single-id calls.
+ */
+public class CategoryShardedGateway implements CategoryGateway {
+
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+    public static final int REBALANCE_BATCH_SIZE = 500;
+
+    private final List<CategoryGateway> shards;
+    private final CategoryShardRing ring;
+    private final Executor executor;
+
+    public CategoryShardedGateway(final List<CategoryGateway> shards) {
+        this(shards, DEFAULT_VIRTUAL_NODES, Runnable::run);
+    }
+
+    public CategoryShardedGateway(final List<CategoryGateway> shards, final int virtualNodes, final Executor executor) {
+        this.shards = List.copyOf(shards);
+        this.ring = new CategoryShardRing(this.shards.size(), virtualNodes);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Index, in the constructor's list, of the shard owning {@code id}.
+     */
+    public int shardOf(final CategoryID id) {
+        return this.ring.shardOf(id);
+    }
+
+    /**
+     * Moves every category stored on a shard other than its owner to the owner, and returns how many moved. Each shard
+     * is walked with a cursor and misplaced categories are moved every {@value #REBALANCE_BATCH_SIZE} of them, so only
+     * one batch is held in memory. A copy is only dropped from its old shard once the
+     * owner holds the id; if the owner already had it, the owner's copy is kept as the newer one. Running it again
+     * after an interruption picks up where it stopped. Concurrent writes to moving ids are not coordinated.
+     */
+    public long rebalance() {
+        long moved = 0;
+        final var params = CategoryCursorSearchParams.first(REBALANCE_BATCH_SIZE, "", "name", "asc");
+        final var misplaced = new ArrayList<Category>(REBALANCE_BATCH_SIZE);
+        for (int source = 0; source < this.shards.size(); source++) {
+            try (final var stream = this.shards.get(source).streamAll(params)) {
+                final var iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    final var category = iterator.next();
+                    if (shardOf(category.getId()) == source) {
+                        continue;
+                    }
+                    misplaced.add(category);
+                    if (misplaced.size() == REBALANCE_BATCH_SIZE) {
+                        moved += move(this.shards.get(source), misplaced);
+                        misplaced.clear();
+                    }
+                }
+            }
+            moved += move(this.shards.get(source), misplaced);
+            misplaced.clear();
+        }
+        return moved;
+    }
+
+    /**
+     * Copies {@code batch} to its owners and drops from {@code source} the ids the owners now hold. The cursor walking
+     * {@code source} resumes after its last item, so dropping items it already passed does not disturb it.
+     */
+    private long move(final CategoryGateway source, final List<Category> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        final var copied = new ArrayList<CategoryID>(batch.size());
+        for (final var item : createAll(batch).items()) {
+            if (item.isSucceeded() || item.status() == BatchItemStatus.ALREADY_EXISTS) {
+                copied.add(item.id());
+            }
+        }
+        return source.deleteAllById(copied).succeeded();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return shardFor(category.getId()).create(category);
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        shardFor(id).deleteById(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return shardFor(id).findById(id);
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        return shardFor(category.getId()).update(category);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        final var page = Math.max(params.page(), 0);
+        final var perPage = Math.max(params.perPage(), 0);
+        final var offset = (long) page * perPage;
+        final var needed = (int) Math.min(offset + perPage, Integer.MAX_VALUE);
+        final var chunk = Math.min(needed / this.shards.size() + perPage, needed);
+
+        final var first = new CategoryCursorSearchParams(null, chunk, params.terms(), params.sort(), params.direction(), true);
+        final var pages = scatter(shard -> shard.findAll(first));
+
+        long total = 0;
+        final var merge = new Merge(comparatorOf(params.sort(), params.direction()));
+        for (int i = 0; i < pages.size(); i++) {
+            final var shardPage = pages.get(i);
+            total += shardPage.total() == null ? 0 : shardPage.total();
+            merge.add(remaining(this.shards.get(i), first, shardPage));
+        }
+
+        for (long skipped = 0; skipped < offset && merge.hasNext(); skipped++) {
+            merge.next();
+        }
+        final var items = new ArrayList<Category>(perPage);
+        while (items.size() < perPage && merge.hasNext()) {
+            items.add(merge.next());
+        }
+        return new Pagination<>(page, perPage, total, items);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        final var perPage = Math.max(params.perPage(), 0);
+        final var pages = scatter(shard -> shard.findAll(params));
+
+        Long total = params.includeTotal() ? 0L : null;
+        var more = false;
+        final var merge = new Merge(comparatorOf(params.sort(), params.direction()));
+        for (final var shardPage : pages) {
+            if (total != null && shardPage.total() != null) {
+                total += shardPage.total();
+            }
+            more |= shardPage.hasNext();
+            merge.add(shardPage.items().iterator());
+        }
+
+        final var items = new ArrayList<Category>(perPage);
+        while (items.size() < perPage && merge.hasNext()) {
+            items.add(merge.next());
+        }
+
+        final String nextCursor;
+        if (!items.isEmpty() && (more || merge.hasNext())) {
+            final var sortField = CategorySortField.of(params.sort());
+            final var descending = "desc".equalsIgnoreCase(params.direction());
+            nextCursor = CategoryCursor.after(sortField, descending, items.get(items.size() - 1)).encode();
+        } else {
+            nextCursor = null;
+        }
+        return new CursorPagination<>(nextCursor, perPage, total, items);
+    }
+
+    /**
+     * Merges every shard's own stream instead of re-scattering a page at a time, so each shard is walked once.
+     */
+    @Override
+    public Stream<Category> streamAll(final CategoryCursorSearchParams params) {
+        final var merge = new Merge(comparatorOf(params.sort(), params.direction()));
+        final var streams = new ArrayList<Stream<Category>>(this.shards.size());
+        for (final var shard : this.shards) {
+            final var stream = shard.streamAll(params);
+            streams.add(stream);
+            merge.add(stream.iterator());
+        }
+
+        final var spliterator = Spliterators.spliteratorUnknownSize(merge, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> streams.forEach(Stream::close));
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        final var perShard = new HashMap<Integer, List<CategoryID>>();
+        for (final var id : ids) {
+            perShard.computeIfAbsent(shardOf(id), ignored -> new ArrayList<>()).add(id);
+        }
+
+        final var found = new HashMap<CategoryID, Category>(ids.size());
+        perShard.forEach((shard, shardIds) -> {
+            for (final var category : this.shards.get(shard).findAllById(shardIds)) {
+                found.put(category.getId(), category);
+            }
+        });
+
+        final var categories = new ArrayList<Category>(found.size());
+        for (final var id : ids) {
+            final var category = found.remove(id);
+            if (category != null) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        long total = 0;
+        long active = 0;
+        for (final var counts : scatter(CategoryGateway::countByStatus)) {
+            total += counts.total();
+            active += counts.active();
+        }
+        return CategoryStatusCounts.of(total, active);
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        final var merged = new TreeMap<Instant, Long>();
+        for (final var buckets : scatter(shard -> shard.histogram(params))) {
+            for (final var bucket : buckets) {
+                merged.merge(bucket.start(), bucket.count(), Long::sum);
+            }
+        }
+        final var result = new ArrayList<CategoryHistogramBucket>(merged.size());
+        merged.forEach((start, count) -> result.add(new CategoryHistogramBucket(start, count)));
+        return result;
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        return splitBatch(categories, Category::getId, CategoryGateway::createAll);
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        return splitBatch(categories, Category::getId, CategoryGateway::updateAll);
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        return splitBatch(ids, Function.identity(), CategoryGateway::deleteAllById);
+    }
+
+    private CategoryGateway shardFor(final CategoryID id) {
+        return this.shards.get(this.ring.shardOf(id));
+    }
+
+    private <T> BatchResult<CategoryID> splitBatch(
+            final List<T> items,
+            final Function<T, CategoryID> idOf,
+            final BatchCall<T> call
+    ) {
+        final var itemsPerShard = new HashMap<Integer, List<T>>();
+        final var indexesPerShard = new HashMap<Integer, List<Integer>>();
+        for (int i = 0; i < items.size(); i++) {
+            final var shard = shardOf(idOf.apply(items.get(i)));
+            itemsPerShard.computeIfAbsent(shard, ignored -> new ArrayList<>()).add(items.get(i));
+            indexesPerShard.computeIfAbsent(shard, ignored -> new ArrayList<>()).add(i);
+        }
+
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(items.size());
+        itemsPerShard.forEach((shard, shardItems) -> {
+            final var indexes = indexesPerShard.get(shard);
+            for (final var item : call.apply(this.shards.get(shard), shardItems).items()) {
+                results.add(item.withIndex(indexes.get(item.index())));
+            }
+        });
+        results.sort(Comparator.comparingInt(BatchItemResult::index));
+        return new BatchResult<>(results);
+    }
+
+    private <R> List<R> scatter(final Function<CategoryGateway, R> call) {
+        final var futures = new ArrayList<CompletableFuture<R>>(this.shards.size());
+        for (final var shard : this.shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> call.apply(shard), this.executor));
+        }
+
+        final var results = new ArrayList<R>(futures.size());
+        for (final var future : futures) {
+            try {
+                results.add(future.join());
+            } catch (final CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * The rows of {@code firstPage} followed by the rest of the shard, whose next pages are only fetched once the
+     * merge gets that far.
+     */
+    private static Iterator<Category> remaining(
+            final CategoryGateway shard,
+            final CategoryCursorSearchParams params,
+            final CursorPagination<Category> firstPage
+    ) {
+        if (!firstPage.hasNext()) {
+            return firstPage.items().iterator();
+        }
+        final var rest = CursorPagination.stream(firstPage.nextCursor(), cursor -> shard.findAll(params.next(cursor)));
+        return Stream.concat(firstPage.items().stream(), rest).iterator();
+    }
+
+    private static Comparator<Category> comparatorOf(final String sort, final String direction) {
+        return CategorySortField.of(sort).comparator("desc".equalsIgnoreCase(direction));
+    }
+
+    @FunctionalInterface
+    private interface BatchCall<T> {
+        BatchResult<CategoryID> apply(CategoryGateway shard, List<T> items);
+    }
+
+    /**
+     * K-way merge of already sorted iterators, holding one head per source.
+     */
+    private static final class Merge implements Iterator<Category> {
+
+        private final PriorityQueue<Head> heads;
+
+        Merge(final Comparator<Category> comparator) {
+            this.heads = new PriorityQueue<>((a, b) -> comparator.compare(a.current, b.current));
+        }
+
+        void add(final Iterator<Category> source) {
+            if (source.hasNext()) {
+                this.heads.add(new Head(source.next(), source));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.heads.isEmpty();
+        }
+
+        @Override
+        public Category next() {
+            final var head = this.heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            final var category = head.current;
+            add(head.source);
+            return category;
+        }
+
+        private record Head(Category current, Iterator<Category> source) {
+        }
+    }
+}
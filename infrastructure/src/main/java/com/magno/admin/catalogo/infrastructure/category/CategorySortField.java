@@ -0,0 +1,108 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategoryView;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+public enum CategorySortField {
+
+    NAME(
+            "name",
+            Comparator.comparing(Category::getName, Comparator.nullsFirst(Comparator.naturalOrder())),
+            Comparator.comparing(CategoryView::name, Comparator.nullsFirst(Comparator.naturalOrder()))
+    ) {
+        @Override
+        public Object keyOf(final Category category) {
+            return category.getName();
+        }
+
+        @Override
+        public Category probe(final Object key, final CategoryID id) {
+            return new Category(id, (String) key, null, false, null, null, null);
+        }
+    },
+    CREATED_AT(
+            "createdAt",
+            Comparator.comparing(Category::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+            Comparator.comparing(CategoryView::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+    ) {
+        @Override
+        public Object keyOf(final Category category) {
+            return category.getCreatedAt();
+        }
+
+        @Override
+        public Category probe(final Object key, final CategoryID id) {
+            return new Category(id, null, null, false, (Instant) key, null, null);
+        }
+    },
+    UPDATED_AT(
+            "updatedAt",
+            Comparator.comparing(Category::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+            Comparator.comparing(CategoryView::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+    ) {
+        @Override
+        public Object keyOf(final Category category) {
+            return category.getUpdatedAt();
+        }
+
+        @Override
+        public Category probe(final Object key, final CategoryID id) {
+            return new Category(id, null, null, false, null, (Instant) key, null);
+        }
+    };
+
+    private final String field;
+    private final Comparator<Category> comparator;
+    private final Comparator<CategoryView> viewComparator;
+
+    CategorySortField(
+            final String field,
+            final Comparator<Category> keyComparator,
+            final Comparator<CategoryView> viewKeyComparator
+    ) {
+        this.field = field;
+        this.comparator = keyComparator.thenComparing(Category::getId);
+        this.viewComparator = viewKeyComparator.thenComparing(CategoryView::id);
+    }
+
+    public static CategorySortField of(final String aField) {
+        if (aField == null || aField.isBlank()) {
+            return NAME;
+        }
+
+        final var trimmed = aField.trim();
+        for (final var sortField : values()) {
+            if (sortField.field.equalsIgnoreCase(trimmed)) {
+                return sortField;
+            }
+        }
+        return NAME;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public Comparator<Category> comparator() {
+        return comparator;
+    }
+
+    public Comparator<Category> comparator(final boolean descending) {
+        return descending ? comparator.reversed() : comparator;
+    }
+
+    /**
+     * Same order as {@link #comparator()}, over immutable views.
+     */
+    public Comparator<CategoryView> viewComparator() {
+        return viewComparator;
+    }
+
+    public abstract Object keyOf(Category category);
+
+    public abstract Category probe(Object key, CategoryID id);
+}
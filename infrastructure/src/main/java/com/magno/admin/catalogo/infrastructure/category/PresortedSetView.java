@@ -0,0 +1,135 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * Read-only {@link SortedSet} over rows already ordered by {@code comparator}. Handing it to an empty
+ * {@link java.util.TreeSet} with the same comparator builds the tree in linear time.
+ * <p>
+ * Lookups and range views binary search the order; a range view shares the rows and order of the set it came from.
+ * Bounds outside a view are clamped to it instead of rejected.
+ */
+final class PresortedSetView<E> extends AbstractSet<E> implements SortedSet<E> {
+
+    private final List<E> rows;
+    private final int[] order;
+    private final int from;
+    private final int to;
+    private final Comparator<? super E> comparator;
+
+    PresortedSetView(final List<E> rows, final int[] order, final Comparator<? super E> comparator) {
+        this(rows, order, 0, order.length, comparator);
+    }
+
+    private PresortedSetView(
+            final List<E> rows,
+            final int[] order,
+            final int from,
+            final int to,
+            final Comparator<? super E> comparator
+    ) {
+        this.rows = rows;
+        this.order = order;
+        this.from = from;
+        this.to = to;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = from;
+
+            @Override
+            public boolean hasNext() {
+                return next < to;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return rows.get(order[next++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(final Object o) {
+        final var element = (E) o;
+        final var at = lowerBound(element);
+        return at < to && comparator.compare(rows.get(order[at]), element) == 0;
+    }
+
+    @Override
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public E first() {
+        if (from == to) {
+            throw new NoSuchElementException();
+        }
+        return rows.get(order[from]);
+    }
+
+    @Override
+    public E last() {
+        if (from == to) {
+            throw new NoSuchElementException();
+        }
+        return rows.get(order[to - 1]);
+    }
+
+    @Override
+    public SortedSet<E> subSet(final E fromElement, final E toElement) {
+        if (comparator.compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("'fromElement' should not be greater than 'toElement'");
+        }
+        return range(lowerBound(fromElement), lowerBound(toElement));
+    }
+
+    @Override
+    public SortedSet<E> headSet(final E toElement) {
+        return range(from, lowerBound(toElement));
+    }
+
+    @Override
+    public SortedSet<E> tailSet(final E fromElement) {
+        return range(lowerBound(fromElement), to);
+    }
+
+    private SortedSet<E> range(final int rangeFrom, final int rangeTo) {
+        return new PresortedSetView<>(rows, order, rangeFrom, rangeTo, comparator);
+    }
+
+    /**
+     * Index of the first element of this view not ordered before {@code element}.
+     */
+    private int lowerBound(final E element) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (comparator.compare(rows.get(order[mid]), element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
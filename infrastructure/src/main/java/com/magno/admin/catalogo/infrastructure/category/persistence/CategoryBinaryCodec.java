@@ -0,0 +1,332 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Compact, versioned binary form of categories and category pages, written to and read from caller-provided buffers.
+ * <p>
+ * A category is {@code [format][id][flags][name][description][createdAt][updatedAt][deletedAt][version]}: the id as
+ * 16 bytes, {@code active} and the presence of every nullable field as bits of {@code flags}, strings as a varint
+ * length followed by UTF-8, and the version as a varint. {@code createdAt} is zigzag varint epoch seconds plus varint
+ * nanos; {@code updatedAt} and {@code deletedAt} are stored the same way as deltas from the previous timestamp, so
+ * timestamps stamped by one mutation take two bytes. A page is {@code [format][page][perPage][total][count]} in varints
+ * followed by its categories without their format byte.
+ */
+public final class CategoryBinaryCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    static final int ACTIVE = 1;
+    static final int HAS_NAME = 1 << 1;
+    static final int HAS_DESCRIPTION = 1 << 2;
+    static final int HAS_CREATED_AT = 1 << 3;
+    static final int HAS_UPDATED_AT = 1 << 4;
+    static final int HAS_DELETED_AT = 1 << 5;
+
+    private static final int ID_SIZE = 16;
+
+    private CategoryBinaryCodec() {
+    }
+
+    /**
+     * Exact number of bytes {@link #write(ByteBuffer, Category)} puts into the buffer.
+     */
+    public static int sizeOf(final Category category) {
+        return 1 + bodySize(category);
+    }
+
+    public static int sizeOf(final Pagination<Category> page) {
+        var size = 1 + varLongSize(page.currentPage()) + varLongSize(page.perPage()) + varLongSize(page.total())
+                + varLongSize(page.items().size());
+        for (final var category : page.items()) {
+            size += bodySize(category);
+        }
+        return size;
+    }
+
+    public static ByteBuffer encode(final Category category) {
+        final var buffer = ByteBuffer.allocate(sizeOf(category));
+        write(buffer, category);
+        return buffer.flip();
+    }
+
+    public static ByteBuffer encode(final Pagination<Category> page) {
+        final var buffer = ByteBuffer.allocate(sizeOf(page));
+        write(buffer, page);
+        return buffer.flip();
+    }
+
+    /**
+     * Writes the category at the buffer's position, which must have {@link #sizeOf(Category)} bytes remaining.
+     */
+    public static void write(final ByteBuffer buffer, final Category category) {
+        buffer.put(FORMAT_VERSION);
+        writeBody(buffer, category);
+    }
+
+    public static void write(final ByteBuffer buffer, final Pagination<Category> page) {
+        buffer.put(FORMAT_VERSION);
+        writeVarLong(buffer, page.currentPage());
+        writeVarLong(buffer, page.perPage());
+        writeVarLong(buffer, page.total());
+        writeVarLong(buffer, page.items().size());
+        for (final var category : page.items()) {
+            writeBody(buffer, category);
+        }
+    }
+
+    /**
+     * Reads one category from the buffer's position and leaves the position right after it.
+     */
+    public static Category readCategory(final ByteBuffer buffer) {
+        checkFormat(buffer.get());
+        return readBody(buffer);
+    }
+
+    /**
+     * An id alone, as the 16 bytes a category starts with; log records of deletions carry only this.
+     */
+    static ByteBuffer encode(final CategoryID id) {
+        return ByteBuffer.allocate(ID_SIZE)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .flip();
+    }
+
+    static CategoryID readId(final ByteBuffer buffer) {
+        return CategoryID.from(buffer.getLong(), buffer.getLong());
+    }
+
+    public static Pagination<Category> readPagination(final ByteBuffer buffer) {
+        checkFormat(buffer.get());
+        final var currentPage = (int) readVarLong(buffer);
+        final var perPage = (int) readVarLong(buffer);
+        final var total = readVarLong(buffer);
+        final var count = (int) readVarLong(buffer);
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid category page size " + count);
+        }
+
+        final var items = new ArrayList<Category>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(readBody(buffer));
+        }
+        return new Pagination<>(currentPage, perPage, total, items);
+    }
+
+    private static int bodySize(final Category category) {
+        var size = ID_SIZE + 1 + varLongSize(category.getVersion());
+        if (category.getName() != null) {
+            size += stringSize(category.getName());
+        }
+        if (category.getDescription() != null) {
+            size += stringSize(category.getDescription());
+        }
+        Instant previous = null;
+        if (category.getCreatedAt() != null) {
+            size += instantSize(category.getCreatedAt(), null);
+            previous = category.getCreatedAt();
+        }
+        if (category.getUpdatedAt() != null) {
+            size += instantSize(category.getUpdatedAt(), previous);
+            previous = category.getUpdatedAt();
+        }
+        if (category.getDeletedAt() != null) {
+            size += instantSize(category.getDeletedAt(), previous);
+        }
+        return size;
+    }
+
+    private static void writeBody(final ByteBuffer buffer, final Category category) {
+        final var createdAt = category.getCreatedAt();
+        final var updatedAt = category.getUpdatedAt();
+        final var deletedAt = category.getDeletedAt();
+
+        int flags = category.isActive() ? ACTIVE : 0;
+        flags |= category.getName() != null ? HAS_NAME : 0;
+        flags |= category.getDescription() != null ? HAS_DESCRIPTION : 0;
+        flags |= createdAt != null ? HAS_CREATED_AT : 0;
+        flags |= updatedAt != null ? HAS_UPDATED_AT : 0;
+        flags |= deletedAt != null ? HAS_DELETED_AT : 0;
+
+        buffer.putLong(category.getId().getMostSignificantBits());
+        buffer.putLong(category.getId().getLeastSignificantBits());
+        buffer.put((byte) flags);
+        if (category.getName() != null) {
+            writeString(buffer, category.getName());
+        }
+        if (category.getDescription() != null) {
+            writeString(buffer, category.getDescription());
+        }
+
+        Instant previous = null;
+        if (createdAt != null) {
+            writeInstant(buffer, createdAt, null);
+            previous = createdAt;
+        }
+        if (updatedAt != null) {
+            writeInstant(buffer, updatedAt, previous);
+            previous = updatedAt;
+        }
+        if (deletedAt != null) {
+            writeInstant(buffer, deletedAt, previous);
+        }
+        writeVarLong(buffer, category.getVersion());
+    }
+
+    private static Category readBody(final ByteBuffer buffer) {
+        final var id = CategoryID.from(buffer.getLong(), buffer.getLong());
+        final int flags = buffer.get();
+        final var name = (flags & HAS_NAME) != 0 ? readString(buffer) : null;
+        final var description = (flags & HAS_DESCRIPTION) != 0 ? readString(buffer) : null;
+
+        final var createdAt = (flags & HAS_CREATED_AT) != 0 ? readInstant(buffer, null) : null;
+        final var updatedAt = (flags & HAS_UPDATED_AT) != 0 ? readInstant(buffer, createdAt) : null;
+        final var deletedAt = (flags & HAS_DELETED_AT) != 0 ? readInstant(buffer, updatedAt != null ? updatedAt : createdAt) : null;
+        final var version = readVarLong(buffer);
+        return Category.with(id, name, description, (flags & ACTIVE) != 0, createdAt, updatedAt, deletedAt, version);
+    }
+
+    private static void checkFormat(final byte format) {
+        if (format != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported category format version " + format);
+        }
+    }
+
+    private static int instantSize(final Instant instant, final Instant previous) {
+        final var base = previous == null ? 0 : previous.getEpochSecond();
+        return varLongSize(zigzag(instant.getEpochSecond() - base)) + varLongSize(instant.getNano());
+    }
+
+    private static void writeInstant(final ByteBuffer buffer, final Instant instant, final Instant previous) {
+        final var base = previous == null ? 0 : previous.getEpochSecond();
+        writeVarLong(buffer, zigzag(instant.getEpochSecond() - base));
+        writeVarLong(buffer, instant.getNano());
+    }
+
+    /**
+     * Returns {@code previous} when it holds the same time, so timestamps stamped by one mutation decode into one
+     * shared {@link Instant}.
+     */
+    private static Instant readInstant(final ByteBuffer buffer, final Instant previous) {
+        final var base = previous == null ? 0 : previous.getEpochSecond();
+        final var seconds = base + unzigzag(readVarLong(buffer));
+        final var nanos = (int) readVarLong(buffer);
+        return sameInstant(previous, seconds, nanos) ? previous : Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    static boolean sameInstant(final Instant instant, final long seconds, final int nanos) {
+        return instant != null && instant.getEpochSecond() == seconds && instant.getNano() == nanos;
+    }
+
+    /**
+     * Encoded length of {@code value}, with unpaired surrogates counted as the one-byte {@code '?'}
+     * {@link String#getBytes} would write.
+     */
+    private static int utf8Length(final String value) {
+        var length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static int stringSize(final String value) {
+        final var length = utf8Length(value);
+        return varLongSize(length) + length;
+    }
+
+    private static void writeString(final ByteBuffer buffer, final String value) {
+        writeVarLong(buffer, utf8Length(value));
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final var length = (int) readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid category string length " + length);
+        }
+
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            final var bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    static int varLongSize(final long value) {
+        return value == 0 ? 1 : (63 - Long.numberOfLeadingZeros(value)) / 7 + 1;
+    }
+
+    static void writeVarLong(final ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long readVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final var b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static long zigzag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
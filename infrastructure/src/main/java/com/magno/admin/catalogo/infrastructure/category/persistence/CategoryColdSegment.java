@@ -0,0 +1,345 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.infrastructure.category.CategoryHistogramIndex;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact in-memory home for categories nobody lists any more. Categories are encoded with {@link CategoryBinaryCodec} and
+ * deflated in blocks of up to {@code blockSize}. What stays on the heap per category is primitive: its id and block in
+ * the segment's sorted index, and its id and record offset in the arrays of its block, which locate the record
+ * without inflating anything else. Reading one category inflates its block, so this trades lookup latency for
+ * footprint.
+ * <p>
+ * Removed categories are tombstoned; blocks that drop below half full are rewritten on the next {@link #addAll}, and
+ * the remaining blocks are renumbered so the block list never keeps holes.
+ * All methods are synchronized.
+ */
+public final class CategoryColdSegment {
+
+    private static final Comparator<Category> ID_ORDER = Comparator
+            .comparingLong((Category category) -> category.getId().getMostSignificantBits())
+            .thenComparingLong(category -> category.getId().getLeastSignificantBits());
+
+    private final int blockSize;
+    private final List<Block> blocks = new ArrayList<>();
+    private final CategoryHistogramIndex histograms = new CategoryHistogramIndex();
+
+    private long[] indexMsb = new long[0];
+    private long[] indexLsb = new long[0];
+    private int[] indexBlock = new int[0];
+    private int size;
+    private long compressedBytes;
+
+    public CategoryColdSegment(final int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("'blockSize' should be greater than zero");
+        }
+        this.blockSize = blockSize;
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Bytes held by the compressed blocks, tombstoned records included.
+     */
+    public synchronized long compressedBytes() {
+        return this.compressedBytes;
+    }
+
+    public synchronized int blockCount() {
+        return this.blocks.size();
+    }
+
+    public synchronized boolean contains(final CategoryID id) {
+        return blockOf(id) >= 0;
+    }
+
+    public synchronized Optional<Category> find(final CategoryID id) {
+        final var block = blockOf(id);
+        if (block < 0) {
+            return Optional.empty();
+        }
+        final var blockData = this.blocks.get(block);
+        return Optional.of(blockData.decode(blockData.inflate(), blockData.positionOf(id)));
+    }
+
+    /**
+     * Adds categories that are not stored yet, and rewrites half-empty blocks along the way.
+     */
+    public synchronized void addAll(final List<Category> categories) {
+        final var incoming = new ArrayList<Category>(categories);
+        final var renumbered = new int[this.blocks.size()];
+        final var kept = new ArrayList<Block>(this.blocks.size());
+        for (int b = 0; b < this.blocks.size(); b++) {
+            final var block = this.blocks.get(b);
+            if (block.live * 2 < block.count()) {
+                block.forEachLive(category -> {
+                    incoming.add(category);
+                    this.histograms.remove(category);
+                });
+                this.compressedBytes -= block.compressed.length;
+                this.size -= block.live;
+                renumbered[b] = -1;
+            } else {
+                renumbered[b] = kept.size();
+                kept.add(block);
+            }
+        }
+        if (kept.size() < this.blocks.size()) {
+            this.blocks.clear();
+            this.blocks.addAll(kept);
+            for (int slot = 0; slot < this.indexBlock.length; slot++) {
+                if (this.indexBlock[slot] >= 0) {
+                    this.indexBlock[slot] = renumbered[this.indexBlock[slot]];
+                }
+            }
+        } else if (incoming.isEmpty()) {
+            return;
+        }
+
+        incoming.sort(ID_ORDER);
+        final var firstNew = this.blocks.size();
+        for (int start = 0; start < incoming.size(); start += this.blockSize) {
+            final var block = Block.of(incoming.subList(start, Math.min(start + this.blockSize, incoming.size())));
+            this.blocks.add(block);
+            this.compressedBytes += block.compressed.length;
+        }
+        for (final var category : incoming) {
+            this.histograms.add(category);
+        }
+        this.size += incoming.size();
+        rebuildIndex(firstNew);
+    }
+
+    /**
+     * Removes and returns the stored category, or {@code null} when there is none.
+     */
+    public synchronized Category remove(final CategoryID id) {
+        final var slot = slotOf(id);
+        if (slot < 0 || this.indexBlock[slot] < 0) {
+            return null;
+        }
+        final var block = this.blocks.get(this.indexBlock[slot]);
+        final var position = block.positionOf(id);
+        final var removed = block.decode(block.inflate(), position);
+
+        block.removed.set(position);
+        block.live--;
+        this.indexBlock[slot] = -1;
+        this.size--;
+        this.histograms.remove(removed);
+        return removed;
+    }
+
+    /**
+     * Visits every stored category, inflating one block at a time.
+     */
+    public synchronized void forEach(final Consumer<Category> consumer) {
+        for (final var block : this.blocks) {
+            block.forEachLive(consumer);
+        }
+    }
+
+    public synchronized List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        return this.histograms.histogram(params);
+    }
+
+    private int blockOf(final CategoryID id) {
+        final var slot = slotOf(id);
+        return slot < 0 ? -1 : this.indexBlock[slot];
+    }
+
+    private int slotOf(final CategoryID id) {
+        var low = 0;
+        var high = this.indexMsb.length - 1;
+        while (low <= high) {
+            final var mid = (low + high) >>> 1;
+            final var cmp = compare(this.indexMsb[mid], this.indexLsb[mid], id);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Merges the still-live entries of the current index with the entries of blocks {@code firstNew} and later, whose
+     * ids are sorted across blocks. Entries of removed categories and rewritten blocks are dropped.
+     */
+    private void rebuildIndex(final int firstNew) {
+        final var length = this.size;
+        final var msb = new long[length];
+        final var lsb = new long[length];
+        final var owner = new int[length];
+
+        var old = 0;
+        var block = firstNew;
+        var position = 0;
+        var out = 0;
+        while (out < length) {
+            while (old < this.indexBlock.length && this.indexBlock[old] < 0) {
+                old++;
+            }
+
+            final var hasNew = block < this.blocks.size();
+            final var takeOld = old < this.indexBlock.length && (!hasNew
+                    || compare(this.indexMsb[old], this.indexLsb[old], this.blocks.get(block).idAt(position)) < 0);
+            if (takeOld) {
+                msb[out] = this.indexMsb[old];
+                lsb[out] = this.indexLsb[old];
+                owner[out++] = this.indexBlock[old++];
+            } else {
+                final var current = this.blocks.get(block);
+                msb[out] = current.msb[position];
+                lsb[out] = current.lsb[position];
+                owner[out++] = block;
+                if (++position == current.count()) {
+                    block++;
+                    position = 0;
+                }
+            }
+        }
+
+        this.indexMsb = msb;
+        this.indexLsb = lsb;
+        this.indexBlock = owner;
+    }
+
+    private static int compare(final long msb, final long lsb, final CategoryID id) {
+        final var cmp = Long.compare(msb, id.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compare(lsb, id.getLeastSignificantBits());
+    }
+
+    private static final class Block {
+
+        private final long[] msb;
+        private final long[] lsb;
+        private final int[] offsets;
+        private final byte[] compressed;
+        private final BitSet removed = new BitSet();
+        private int live;
+
+        private Block(final long[] msb, final long[] lsb, final int[] offsets, final byte[] compressed) {
+            this.msb = msb;
+            this.lsb = lsb;
+            this.offsets = offsets;
+            this.compressed = compressed;
+            this.live = msb.length;
+        }
+
+        static Block of(final List<Category> sorted) {
+            final var msb = new long[sorted.size()];
+            final var lsb = new long[sorted.size()];
+            final var offsets = new int[sorted.size() + 1];
+            for (int i = 0; i < sorted.size(); i++) {
+                offsets[i + 1] = offsets[i] + CategoryBinaryCodec.sizeOf(sorted.get(i));
+            }
+
+            final var raw = ByteBuffer.allocate(offsets[sorted.size()]);
+            for (int i = 0; i < sorted.size(); i++) {
+                final var category = sorted.get(i);
+                msb[i] = category.getId().getMostSignificantBits();
+                lsb[i] = category.getId().getLeastSignificantBits();
+                CategoryBinaryCodec.write(raw, category);
+            }
+            return new Block(msb, lsb, offsets, deflate(raw.array()));
+        }
+
+        int count() {
+            return this.msb.length;
+        }
+
+        CategoryID idAt(final int position) {
+            return CategoryID.from(this.msb[position], this.lsb[position]);
+        }
+
+        int positionOf(final CategoryID id) {
+            var low = 0;
+            var high = this.msb.length - 1;
+            while (low <= high) {
+                final var mid = (low + high) >>> 1;
+                final var cmp = compare(this.msb[mid], this.lsb[mid], id);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            throw new IllegalStateException("Category " + id.getValue() + " is indexed but missing from its block");
+        }
+
+        Category decode(final byte[] raw, final int position) {
+            final var start = this.offsets[position];
+            return CategoryBinaryCodec.readCategory(ByteBuffer.wrap(raw, start, this.offsets[position + 1] - start));
+        }
+
+        void forEachLive(final Consumer<Category> consumer) {
+            final var raw = inflate();
+            for (int i = 0; i < this.msb.length; i++) {
+                if (!this.removed.get(i)) {
+                    consumer.accept(decode(raw, i));
+                }
+            }
+        }
+
+        byte[] inflate() {
+            final var raw = new byte[this.offsets[this.offsets.length - 1]];
+            final var inflater = new Inflater();
+            try {
+                inflater.setInput(this.compressed);
+                var read = 0;
+                while (read < raw.length) {
+                    final var n = inflater.inflate(raw, read, raw.length - read);
+                    if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new IllegalStateException("Truncated cold category block");
+                    }
+                    read += n;
+                }
+                return raw;
+            } catch (final DataFormatException ex) {
+                throw new IllegalStateException("Corrupted cold category block", ex);
+            } finally {
+                inflater.end();
+            }
+        }
+
+        private static byte[] deflate(final byte[] raw) {
+            final var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try {
+                deflater.setInput(raw);
+                deflater.finish();
+                final var out = new ByteArrayOutputStream(Math.max(64, raw.length / 3));
+                final var buffer = new byte[8 * 1024];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
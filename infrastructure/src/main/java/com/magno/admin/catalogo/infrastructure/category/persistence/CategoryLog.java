@@ -0,0 +1,518 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Memory-mapped, append-only log of checksummed records.
+ * <p>
+ * Layout: a 24 byte header (magic, version, base, compacted end) followed by records framed as
+ * {@code [int length][int crc32c][byte type][payload]}, where {@code length} covers type and payload.
+ * The mapping is zero filled past the last record, so a zero length marks the end of the log. On open the log is
+ * scanned and truncated at the first record whose frame or checksum is invalid, which drops a torn trailing write.
+ * <p>
+ * Positions handed out are logical: {@code base} plus the physical offset. The header keeps {@code base} and the
+ * logical end of the image written by the last compaction, so a snapshot taken at a logical position can resume
+ * replay from that position as long as it is not inside the compacted image.
+ */
+final class CategoryLog implements Closeable {
+
+    static final int HEADER_SIZE = 24;
+
+    private static final int MAGIC = 0x43415447;
+    private static final int VERSION = 2;
+    private static final int FRAME_SIZE = 8;
+    private static final long MAX_MAPPING_SIZE = Integer.MAX_VALUE;
+    private static final int TORN_TAIL_ZERO_RUN = 4096;
+
+    private final Path path;
+    private final CategoryLogOptions options;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingWrites = lock.newCondition();
+    private final Condition durableAdvanced = lock.newCondition();
+    private final ReentrantLock forceLock = new ReentrantLock();
+
+    private FileChannel channel;
+    private volatile MappedByteBuffer mapping;
+    private long base;
+    private long compactedEnd;
+    private long writePosition;
+    private long durablePosition;
+    private long recordCount;
+    private boolean closed;
+    private IOException flushFailure;
+
+    private final Thread flusher;
+
+    private CategoryLog(final Path path, final CategoryLogOptions options) {
+        this.path = path;
+        this.options = options;
+        this.flusher = new Thread(this::flushLoop, "category-log-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    static CategoryLog open(final Path path, final CategoryLogOptions options, final Consumer<Entry> replay) {
+        return open(path, options, -1, replay);
+    }
+
+    /**
+     * Opens the log and replays only the records after the logical position {@code replayFrom}, which must be a
+     * record boundary within {@link #replayableRange(Path)}, or from the beginning when it is negative. Earlier records are skipped by length without being
+     * decoded or checksummed.
+     */
+    static CategoryLog open(
+            final Path path,
+            final CategoryLogOptions options,
+            final long replayFrom,
+            final Consumer<Entry> replay
+    ) {
+        final var log = new CategoryLog(path, options);
+        try {
+            log.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final var size = Math.max(log.channel.size(), options.initialMappingSize());
+            log.mapping = log.channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            log.recover(replayFrom, replay);
+        } catch (final IOException | RuntimeException ex) {
+            log.closeQuietly();
+            throw ex instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) ex;
+        }
+        log.flusher.start();
+        return log;
+    }
+
+    /**
+     * Appends a record and returns the logical log position right after it, to be passed to
+     * {@link #awaitDurable(long)}. Logical positions keep growing across compactions.
+     */
+    long append(final byte type, final ByteBuffer payload) {
+        final var length = 1 + payload.remaining();
+        final var crc = checksum(type, payload);
+
+        this.lock.lock();
+        try {
+            ensureOpen();
+            ensureCapacity(this.writePosition + FRAME_SIZE + length);
+
+            final var target = this.mapping.duplicate();
+            target.position((int) this.writePosition);
+            target.putInt(length);
+            target.putInt(crc);
+            target.put(type);
+            target.put(payload.duplicate());
+
+            this.writePosition += FRAME_SIZE + length;
+            this.recordCount++;
+            this.pendingWrites.signal();
+            return this.base + this.writePosition;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the records as one unit: room for all of them is reserved first, so a full or closed log rejects the
+     * whole batch instead of keeping a prefix of it. Returns the position right after the last record.
+     */
+    long appendAll(final List<Entry> entries) {
+        long required = 0;
+        final var crcs = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            final var entry = entries.get(i);
+            required += FRAME_SIZE + 1 + entry.payload().remaining();
+            crcs[i] = checksum(entry.type(), entry.payload());
+        }
+
+        this.lock.lock();
+        try {
+            ensureOpen();
+            ensureCapacity(this.writePosition + required);
+
+            final var target = this.mapping.duplicate();
+            target.position((int) this.writePosition);
+            for (int i = 0; i < entries.size(); i++) {
+                final var entry = entries.get(i);
+                target.putInt(1 + entry.payload().remaining());
+                target.putInt(crcs[i]);
+                target.put(entry.type());
+                target.put(entry.payload().duplicate());
+            }
+
+            this.writePosition += required;
+            this.recordCount += entries.size();
+            this.pendingWrites.signal();
+            return this.base + this.writePosition;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    void awaitDurable(final long position) {
+        if (this.options.syncMode() != CategoryLogOptions.SyncMode.GROUP_COMMIT) {
+            return;
+        }
+        sync(position);
+    }
+
+    /**
+     * Blocks until everything up to {@code position} is flushed, whatever the sync mode.
+     */
+    void sync(final long position) {
+        this.lock.lock();
+        try {
+            while (this.durablePosition < position) {
+                if (this.flushFailure != null) {
+                    throw new UncheckedIOException(this.flushFailure);
+                }
+                this.pendingWrites.signal();
+                this.durableAdvanced.awaitUninterruptibly();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    long position() {
+        this.lock.lock();
+        try {
+            return this.base + this.writePosition;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the range of logical positions a snapshot can resume replay from, without opening the log:
+     * {@code [compacted end, end of file]}. Returns {@code null} when there is no log yet.
+     */
+    static long[] replayableRange(final Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                return null;
+            }
+            return new long[]{header.getLong(16), header.getLong(8) + channel.size()};
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    long recordCount() {
+        this.lock.lock();
+        try {
+            return this.recordCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the log with {@code snapshot} followed by every record appended after {@code snapshotPosition}.
+     * The snapshot is written without blocking appends; appends only block while the tail is copied and the files
+     * are swapped.
+     */
+    void compact(final long snapshotPosition, final List<Entry> snapshot) {
+        final var compactPath = this.path.resolveSibling(this.path.getFileName() + ".compact");
+        try (final var out = FileChannel.open(compactPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final var header = ByteBuffer.allocate(HEADER_SIZE);
+            writeFully(out, header);
+            long imageSize = HEADER_SIZE;
+            for (final var entry : snapshot) {
+                final var frame = frame(entry.type(), entry.payload());
+                imageSize += frame.remaining();
+                writeFully(out, frame);
+            }
+
+            // the image ends at snapshotPosition, so base is known before the tail is appended
+            final var newBase = snapshotPosition - imageSize;
+            header.clear().putInt(MAGIC).putInt(VERSION).putLong(newBase).putLong(snapshotPosition).flip();
+            out.write(header, 0);
+
+            this.lock.lock();
+            try {
+                ensureOpen();
+                this.forceLock.lock();
+                try {
+                    final var tail = this.mapping.duplicate();
+                    tail.position((int) (snapshotPosition - this.base));
+                    tail.limit((int) this.writePosition);
+                    final var tailRecords = countRecords(tail.duplicate());
+                    writeFully(out, tail);
+                    out.force(true);
+
+                    Files.move(compactPath, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                    this.channel.close();
+                    this.channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    final var logicalEnd = this.base + this.writePosition;
+                    this.writePosition = this.channel.size();
+                    this.base = newBase;
+                    this.compactedEnd = snapshotPosition;
+                    this.durablePosition = logicalEnd;
+                    this.recordCount = snapshot.size() + tailRecords;
+                    this.mapping = this.channel.map(
+                            FileChannel.MapMode.READ_WRITE,
+                            0,
+                            Math.max(this.writePosition * 2, this.options.initialMappingSize())
+                    );
+                    this.durableAdvanced.signalAll();
+                } finally {
+                    this.forceLock.unlock();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.pendingWrites.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+
+        try {
+            this.flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.forceLock.lock();
+        try {
+            this.mapping.force();
+        } finally {
+            this.forceLock.unlock();
+        }
+
+        this.lock.lock();
+        try {
+            this.durablePosition = this.base + this.writePosition;
+            this.durableAdvanced.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        closeQuietly();
+    }
+
+    private void recover(final long replayFrom, final Consumer<Entry> replay) throws IOException {
+        final var buffer = this.mapping.duplicate();
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, 0L).putLong(16, HEADER_SIZE);
+            this.compactedEnd = HEADER_SIZE;
+        } else if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION) {
+            this.base = buffer.getLong(8);
+            this.compactedEnd = buffer.getLong(16);
+        } else {
+            throw new IOException("Not a category log: " + this.path);
+        }
+
+        if (replayFrom >= 0 && replayFrom < this.compactedEnd) {
+            throw new IllegalArgumentException("Cannot replay category log from %d, records before %d were compacted"
+                    .formatted(replayFrom, this.compactedEnd));
+        }
+
+        int position = HEADER_SIZE;
+        long records = 0;
+        while (this.base + position < Math.max(replayFrom, this.base + HEADER_SIZE)) {
+            final var length = buffer.getInt(position);
+            if (length <= 0 || position + FRAME_SIZE + (long) length > buffer.capacity()) {
+                throw new IllegalArgumentException("Cannot replay category log from %d, it ends at %d"
+                        .formatted(replayFrom, this.base + position));
+            }
+            position += FRAME_SIZE + length;
+            records++;
+        }
+        if (replayFrom >= 0 && this.base + position != replayFrom) {
+            throw new IllegalArgumentException("Cannot replay category log from %d, it is not a record boundary"
+                    .formatted(replayFrom));
+        }
+
+        while (position + FRAME_SIZE < buffer.capacity()) {
+            final var length = buffer.getInt(position);
+            if (length <= 0 || position + FRAME_SIZE + (long) length > buffer.capacity()) {
+                break;
+            }
+
+            final var body = buffer.duplicate().position(position + FRAME_SIZE).limit(position + FRAME_SIZE + length);
+            final var type = body.get();
+            final var payload = body.slice();
+            if (checksum(type, payload) != buffer.getInt(position + 4)) {
+                break;
+            }
+
+            replay.accept(new Entry(type, payload.asReadOnlyBuffer()));
+            position += FRAME_SIZE + length;
+            records++;
+        }
+
+        clearTornTail(buffer, position);
+        this.writePosition = position;
+        this.durablePosition = this.base + position;
+        this.recordCount = records;
+    }
+
+    private static void clearTornTail(final ByteBuffer buffer, final int from) {
+        int zeros = 0;
+        for (int i = from; i < buffer.capacity() && zeros < TORN_TAIL_ZERO_RUN; i++) {
+            if (buffer.get(i) == 0) {
+                zeros++;
+            } else {
+                buffer.put(i, (byte) 0);
+                zeros = 0;
+            }
+        }
+    }
+
+    private void flushLoop() {
+        final var interval = this.options.flushInterval().toNanos();
+        while (true) {
+            final long target;
+            this.lock.lock();
+            try {
+                while (!this.closed && this.durablePosition == this.base + this.writePosition) {
+                    this.pendingWrites.awaitNanos(interval);
+                }
+                if (this.closed) {
+                    return;
+                }
+                if (this.options.syncMode() == CategoryLogOptions.SyncMode.ASYNC) {
+                    this.pendingWrites.awaitNanos(interval);
+                }
+                target = this.base + this.writePosition;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                this.lock.unlock();
+            }
+
+            IOException failure = null;
+            this.forceLock.lock();
+            try {
+                this.mapping.force();
+            } catch (final UncheckedIOException ex) {
+                failure = ex.getCause();
+            } finally {
+                this.forceLock.unlock();
+            }
+
+            this.lock.lock();
+            try {
+                this.durableAdvanced.signalAll();
+                if (failure != null) {
+                    // nothing appended from here on can be made durable: fail the waiters and stop retrying
+                    this.flushFailure = failure;
+                    return;
+                }
+                if (target > this.durablePosition) {
+                    this.durablePosition = target;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private void ensureCapacity(final long required) {
+        final var current = this.mapping;
+        if (required <= current.capacity()) {
+            return;
+        }
+        if (required > MAX_MAPPING_SIZE) {
+            throw new IllegalStateException("Category log is full; compact it before appending more records");
+        }
+
+        final var newSize = Math.min(MAX_MAPPING_SIZE, Math.max(required, (long) current.capacity() * 2));
+        this.forceLock.lock();
+        try {
+            current.force();
+            this.mapping = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            this.forceLock.unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("Category log is closed");
+        }
+        if (this.flushFailure != null) {
+            throw new UncheckedIOException("Category log can no longer be flushed", this.flushFailure);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            if (this.channel != null) {
+                this.channel.close();
+            }
+        } catch (final IOException ignored) {
+            // nothing left to release
+        }
+    }
+
+    private static long countRecords(final ByteBuffer records) {
+        long count = 0;
+        while (records.remaining() >= FRAME_SIZE) {
+            final var length = records.getInt();
+            records.position(records.position() + 4 + length);
+            count++;
+        }
+        return count;
+    }
+
+    private static ByteBuffer frame(final byte type, final ByteBuffer payload) {
+        final var length = 1 + payload.remaining();
+        final var frame = ByteBuffer.allocate(FRAME_SIZE + length);
+        frame.putInt(length).putInt(checksum(type, payload)).put(type).put(payload.duplicate());
+        return frame.flip();
+    }
+
+    private static int checksum(final byte type, final ByteBuffer payload) {
+        final var crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    record Entry(byte type, ByteBuffer payload) {
+    }
+}
@@ -0,0 +1,546 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.infrastructure.category.CategoryInMemoryGateway;
+import com.magno.admin.catalogo.infrastructure.category.CategoryIndexSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Durable {@link CategoryGateway} that appends every mutation to a memory-mapped {@link CategoryLog} and serves reads
+ * from a {@link CategoryInMemoryGateway}. On startup the index is restored from the newest usable
+ * {@link CategorySnapshotFile} and only the log records after it are replayed; without one the whole log is replayed.
+ * <p>
+ * A write reaches the index only once the log reports it durable, so readers never see a change that a crash could
+ * still take back. Until then its changes wait in a pending queue, which later writers check together with the index.
+ */
+public class CategoryLogGateway implements CategoryGateway, Closeable {
+
+    static final byte CREATED = 1;
+    static final byte UPDATED = 2;
+    static final byte DEACTIVATED = 3;
+    static final byte DELETED = 4;
+
+    private static final int RETAINED_SNAPSHOTS = 2;
+
+    private final Path file;
+    private final CategoryInMemoryGateway index;
+    private final CategoryLog log;
+    private final CategoryLogOptions options;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ScheduledExecutorService maintenance;
+    private final long restoredFrom;
+    private final ArrayDeque<PendingWrite> pending = new ArrayDeque<>();
+    private final Map<CategoryID, PendingState> latest = new HashMap<>();
+    private long lastSnapshotRecordCount;
+
+    private CategoryLogGateway(
+            final Path file,
+            final CategoryInMemoryGateway index,
+            final CategoryLog log,
+            final long restoredFrom,
+            final CategoryLogOptions options
+    ) {
+        this.file = file;
+        this.index = index;
+        this.log = log;
+        this.restoredFrom = restoredFrom;
+        this.options = options;
+        this.lastSnapshotRecordCount = log.recordCount();
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-log-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final var compactionInterval = options.compactionInterval().toMillis();
+        if (compactionInterval > 0) {
+            this.maintenance.scheduleWithFixedDelay(this::compactIfNeeded, compactionInterval, compactionInterval, TimeUnit.MILLISECONDS);
+        }
+        final var snapshotInterval = options.snapshotInterval().toMillis();
+        if (snapshotInterval > 0) {
+            this.maintenance.scheduleWithFixedDelay(this::snapshotIfNeeded, snapshotInterval, snapshotInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static CategoryLogGateway open(final Path file) {
+        return open(file, CategoryLogOptions.defaults());
+    }
+
+    public static CategoryLogGateway open(final Path file, final CategoryLogOptions options) {
+        final var replayable = CategoryLog.replayableRange(file);
+        if (replayable != null) {
+            for (final var snapshot : snapshotsOf(file)) {
+                final var lsn = lsnOf(snapshot);
+                if (lsn < replayable[0] || lsn > replayable[1]) {
+                    continue;
+                }
+
+                final CategoryInMemoryGateway index;
+                try {
+                    index = CategoryInMemoryGateway.restore(CategorySnapshotFile.read(snapshot).snapshot());
+                } catch (final RuntimeException ex) {
+                    continue;
+                }
+
+                try {
+                    final var log = CategoryLog.open(file, options, lsn, entry -> replay(index, entry));
+                    return new CategoryLogGateway(file, index, log, lsn, options);
+                } catch (final IllegalArgumentException ex) {
+                    // the snapshot does not line up with the log, fall back to an older one or a full replay
+                }
+            }
+        }
+
+        final var index = new CategoryInMemoryGateway();
+        final var log = CategoryLog.open(file, options, entry -> replay(index, entry));
+        return new CategoryLogGateway(file, index, log, -1, options);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var stored = Category.with(category);
+        final PendingWrite write;
+        this.writeLock.lock();
+        try {
+            if (current(stored.getId()) != null) {
+                throw ConflictException.alreadyExists(Category.class, stored.getId());
+            }
+            write = append(
+                    List.of(new CategoryLog.Entry(CREATED, CategoryBinaryCodec.encode(stored))),
+                    List.of(new PendingState(stored.getId(), stored))
+            );
+        } finally {
+            this.writeLock.unlock();
+        }
+        publish(write);
+        return Category.with(stored);
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        final PendingWrite write;
+        this.writeLock.lock();
+        try {
+            if (current(id) == null) {
+                return;
+            }
+            write = append(
+                    List.of(new CategoryLog.Entry(DELETED, CategoryBinaryCodec.encode(id))),
+                    List.of(new PendingState(id, null))
+            );
+        } finally {
+            this.writeLock.unlock();
+        }
+        publish(write);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.index.findById(id);
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        final Category stored;
+        final PendingWrite write;
+        this.writeLock.lock();
+        try {
+            final var previous = current(category.getId());
+            if (previous == null) {
+                return new CategoryUpdateResult.NotFound(category.getId());
+            }
+            if (previous.getVersion() != category.getVersion()) {
+                return new CategoryUpdateResult.Conflict(category.getId(), category.getVersion(), previous.getVersion());
+            }
+
+            stored = Category.with(category, previous.getVersion() + 1);
+            final var type = previous.isActive() && !category.isActive() ? DEACTIVATED : UPDATED;
+            write = append(
+                    List.of(new CategoryLog.Entry(type, CategoryBinaryCodec.encode(stored))),
+                    List.of(new PendingState(stored.getId(), stored))
+            );
+        } finally {
+            this.writeLock.unlock();
+        }
+        publish(write);
+        return new CategoryUpdateResult.Updated(Category.with(stored));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        return this.index.findAll(params);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        return this.index.findAll(params);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        return this.index.findAllById(ids);
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        return this.index.countByStatus();
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        return this.index.histogram(params);
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(categories.size());
+        final PendingWrite write;
+        this.writeLock.lock();
+        try {
+            final var current = currentOf(categories.stream().map(Category::getId).toList());
+            final var entries = new ArrayList<CategoryLog.Entry>(categories.size());
+            final var changes = new ArrayList<PendingState>(categories.size());
+            for (int i = 0; i < categories.size(); i++) {
+                final var stored = Category.with(categories.get(i));
+                if (current.putIfAbsent(stored.getId(), stored) != null) {
+                    results.add(BatchItemResult.failed(i, stored.getId(), BatchItemStatus.ALREADY_EXISTS));
+                    continue;
+                }
+                entries.add(new CategoryLog.Entry(CREATED, CategoryBinaryCodec.encode(stored)));
+                changes.add(new PendingState(stored.getId(), stored));
+                results.add(BatchItemResult.succeeded(i, stored.getId()));
+            }
+            write = append(entries, changes);
+        } finally {
+            this.writeLock.unlock();
+        }
+        publish(write);
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(categories.size());
+        final PendingWrite write;
+        this.writeLock.lock();
+        try {
+            final var current = currentOf(categories.stream().map(Category::getId).toList());
+            final var entries = new ArrayList<CategoryLog.Entry>(categories.size());
+            final var changes = new ArrayList<PendingState>(categories.size());
+            for (int i = 0; i < categories.size(); i++) {
+                final var category = categories.get(i);
+                final var previous = current.get(category.getId());
+                if (previous == null) {
+                    results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.NOT_FOUND));
+                    continue;
+                }
+                if (previous.getVersion() != category.getVersion()) {
+                    results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.CONFLICT));
+                    continue;
+                }
+
+                final var stored = Category.with(category, previous.getVersion() + 1);
+                final var type = previous.isActive() && !category.isActive() ? DEACTIVATED : UPDATED;
+                current.put(stored.getId(), stored);
+                entries.add(new CategoryLog.Entry(type, CategoryBinaryCodec.encode(stored)));
+                changes.add(new PendingState(stored.getId(), stored));
+                results.add(BatchItemResult.succeeded(i, stored.getId()));
+            }
+            write = append(entries, changes);
+        } finally {
+            this.writeLock.unlock();
+        }
+        publish(write);
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(ids.size());
+        final PendingWrite write;
+        this.writeLock.lock();
+        try {
+            final var current = currentOf(ids);
+            final var entries = new ArrayList<CategoryLog.Entry>(ids.size());
+            final var changes = new ArrayList<PendingState>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                final var id = ids.get(i);
+                if (current.remove(id) == null) {
+                    results.add(BatchItemResult.failed(i, id, BatchItemStatus.NOT_FOUND));
+                    continue;
+                }
+                entries.add(new CategoryLog.Entry(DELETED, CategoryBinaryCodec.encode(id)));
+                changes.add(new PendingState(id, null));
+                results.add(BatchItemResult.succeeded(i, id));
+            }
+            write = append(entries, changes);
+        } finally {
+            this.writeLock.unlock();
+        }
+        publish(write);
+        return new BatchResult<>(results);
+    }
+
+    /**
+     * Writes a snapshot of every category and index at the current log position, then drops all but the newest
+     * {@value #RETAINED_SNAPSHOTS} snapshots. Writers only block while the indexes are copied.
+     */
+    public synchronized void snapshot() {
+        final long lsn;
+        final long records;
+        final CategoryIndexSnapshot snapshot;
+        this.writeLock.lock();
+        try {
+            lsn = indexedPosition();
+            records = this.log.recordCount();
+            snapshot = this.index.snapshotIndexes();
+        } finally {
+            this.writeLock.unlock();
+        }
+
+        // a snapshot must never be ahead of what the log can replay after a crash
+        this.log.sync(lsn);
+        CategorySnapshotFile.write(CategorySnapshotFile.pathFor(this.file, lsn), lsn, snapshot);
+        this.lastSnapshotRecordCount = records;
+
+        final var snapshots = snapshotsOf(this.file);
+        for (final var stale : snapshots.subList(Math.min(RETAINED_SNAPSHOTS, snapshots.size()), snapshots.size())) {
+            try {
+                Files.deleteIfExists(stale);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Log position the index was restored from on open, or {@code -1} when the whole log was replayed.
+     */
+    public long restoredFrom() {
+        return this.restoredFrom;
+    }
+
+    public synchronized void compact() {
+        final long snapshotPosition;
+        final List<Category> live;
+        this.writeLock.lock();
+        try {
+            snapshotPosition = indexedPosition();
+            live = this.index.snapshot();
+        } finally {
+            this.writeLock.unlock();
+        }
+
+        final var entries = new ArrayList<CategoryLog.Entry>(live.size());
+        for (final var category : live) {
+            entries.add(new CategoryLog.Entry(CREATED, CategoryBinaryCodec.encode(category)));
+        }
+        this.log.compact(snapshotPosition, entries);
+        snapshot();
+    }
+
+    public int size() {
+        return this.index.size();
+    }
+
+    public long recordCount() {
+        return this.log.recordCount();
+    }
+
+    @Override
+    public void close() {
+        this.maintenance.shutdownNow();
+        try {
+            this.maintenance.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.log.close();
+    }
+
+    /**
+     * State of {@code id} as of the last appended write, pending or not. Callers hold the write lock.
+     */
+    private Category current(final CategoryID id) {
+        final var state = this.latest.get(id);
+        if (state != null) {
+            return state.category();
+        }
+        return this.index.findById(id).orElse(null);
+    }
+
+    /**
+     * {@link #current(CategoryID)} of every id that exists. Callers hold the write lock.
+     */
+    private Map<CategoryID, Category> currentOf(final List<CategoryID> ids) {
+        final var current = new HashMap<CategoryID, Category>(ids.size() * 2);
+        final var unchanged = new ArrayList<CategoryID>(ids.size());
+        for (final var id : ids) {
+            final var state = this.latest.get(id);
+            if (state == null) {
+                unchanged.add(id);
+            } else if (state.category() != null) {
+                current.put(id, state.category());
+            }
+        }
+        for (final var category : this.index.findAllById(unchanged)) {
+            current.put(category.getId(), category);
+        }
+        return current;
+    }
+
+    /**
+     * Appends the records of one write as a unit and queues its changes for the index. Callers hold the write lock.
+     */
+    private PendingWrite append(final List<CategoryLog.Entry> entries, final List<PendingState> changes) {
+        if (entries.isEmpty()) {
+            return null;
+        }
+        final var from = this.log.position();
+        final var write = new PendingWrite(from, this.log.appendAll(entries), changes);
+        this.pending.addLast(write);
+        for (final var change : changes) {
+            this.latest.put(change.id(), change);
+        }
+        return write;
+    }
+
+    /**
+     * Waits until {@code write} is durable, then applies it and every pending write before it to the index, in log
+     * order. When the log cannot make it durable, drops it and every later pending write, which cannot become
+     * durable either, and rethrows.
+     */
+    private void publish(final PendingWrite write) {
+        if (write == null) {
+            return;
+        }
+        try {
+            this.log.awaitDurable(write.to());
+        } catch (final RuntimeException ex) {
+            this.writeLock.lock();
+            try {
+                this.pending.removeIf(other -> other.to() >= write.to());
+                this.latest.clear();
+                for (final var other : this.pending) {
+                    for (final var change : other.changes()) {
+                        this.latest.put(change.id(), change);
+                    }
+                }
+            } finally {
+                this.writeLock.unlock();
+            }
+            throw ex;
+        }
+
+        this.writeLock.lock();
+        try {
+            while (!this.pending.isEmpty() && this.pending.peekFirst().to() <= write.to()) {
+                for (final var change : this.pending.pollFirst().changes()) {
+                    if (change.category() == null) {
+                        this.index.deleteById(change.id());
+                    } else {
+                        this.index.put(change.category());
+                    }
+                    if (this.latest.get(change.id()) == change) {
+                        this.latest.remove(change.id());
+                    }
+                }
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Log position up to which the index holds every record: the start of the oldest pending write, or the end of
+     * the log. Callers hold the write lock.
+     */
+    private long indexedPosition() {
+        return this.pending.isEmpty() ? this.log.position() : this.pending.peekFirst().from();
+    }
+
+    private void compactIfNeeded() {
+        final var records = this.log.recordCount();
+        final var live = this.index.size();
+        if (records >= this.options.compactionMinRecords() && records > live * this.options.compactionRatio()) {
+            compact();
+        }
+    }
+
+    private synchronized void snapshotIfNeeded() {
+        if (this.log.recordCount() - this.lastSnapshotRecordCount >= this.options.snapshotMinRecords()) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Snapshots of {@code file}, newest first.
+     */
+    private static List<Path> snapshotsOf(final Path file) {
+        final var directory = file.toAbsolutePath().getParent();
+        try (final var paths = Files.list(directory)) {
+            return paths.filter(CategorySnapshotFile.isSnapshotOf(file))
+                    .sorted(Comparator.comparingLong(CategoryLogGateway::lsnOf).reversed())
+                    .toList();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static long lsnOf(final Path snapshot) {
+        final var name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(name.lastIndexOf('-') + 1));
+    }
+
+    private static void replay(final CategoryInMemoryGateway index, final CategoryLog.Entry entry) {
+        switch (entry.type()) {
+            case CREATED, UPDATED, DEACTIVATED -> index.put(CategoryBinaryCodec.readCategory(entry.payload().duplicate()));
+            case DELETED -> index.deleteById(CategoryBinaryCodec.readId(entry.payload().duplicate()));
+            default -> throw new IllegalStateException("Unknown category log record type: " + entry.type());
+        }
+    }
+
+    /**
+     * A write in the log but not yet in the index; {@code from} and {@code to} are the log positions around its
+     * records.
+     */
+    private record PendingWrite(long from, long to, List<PendingState> changes) {
+    }
+
+    /**
+     * State a pending write leaves {@code id} in; {@code category} is {@code null} for a deletion.
+     */
+    private record PendingState(CategoryID id, Category category) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public record CategoryLogOptions(
+        SyncMode syncMode,
+        Duration flushInterval,
+        int initialMappingSize,
+        Duration compactionInterval,
+        long compactionMinRecords,
+        double compactionRatio,
+        Duration snapshotInterval,
+        long snapshotMinRecords
+) {
+
+    public enum SyncMode {
+        /**
+         * Writers block until a flush covering their record completes; concurrent writers share one flush.
+         */
+        GROUP_COMMIT,
+        /**
+         * Writers return as soon as the record is in the mapping; it is flushed every {@code flushInterval}.
+         */
+        ASYNC
+    }
+
+    public CategoryLogOptions {
+        Objects.requireNonNull(syncMode);
+        Objects.requireNonNull(flushInterval);
+        Objects.requireNonNull(compactionInterval);
+        Objects.requireNonNull(snapshotInterval);
+        if (initialMappingSize < CategoryLog.HEADER_SIZE) {
+            throw new IllegalArgumentException("'initialMappingSize' is too small");
+        }
+        if (compactionRatio < 1.0) {
+            throw new IllegalArgumentException("'compactionRatio' should be at least 1");
+        }
+    }
+
+    public static CategoryLogOptions defaults() {
+        return new CategoryLogOptions(
+                SyncMode.GROUP_COMMIT,
+                Duration.ofMillis(5),
+                16 * 1024 * 1024,
+                Duration.ofMinutes(1),
+                100_000,
+                2.0,
+                Duration.ofMinutes(5),
+                10_000
+        );
+    }
+
+    public CategoryLogOptions withSyncMode(final SyncMode aSyncMode) {
+        return new CategoryLogOptions(aSyncMode, flushInterval, initialMappingSize, compactionInterval, compactionMinRecords, compactionRatio, snapshotInterval, snapshotMinRecords);
+    }
+
+    public CategoryLogOptions withInitialMappingSize(final int aSize) {
+        return new CategoryLogOptions(syncMode, flushInterval, aSize, compactionInterval, compactionMinRecords, compactionRatio, snapshotInterval, snapshotMinRecords);
+    }
+
+    public CategoryLogOptions withCompaction(final Duration anInterval, final long aMinRecords, final double aRatio) {
+        return new CategoryLogOptions(syncMode, flushInterval, initialMappingSize, anInterval, aMinRecords, aRatio, snapshotInterval, snapshotMinRecords);
+    }
+
+    public CategoryLogOptions withSnapshots(final Duration anInterval, final long aMinRecords) {
+        return new CategoryLogOptions(syncMode, flushInterval, initialMappingSize, compactionInterval, compactionMinRecords, compactionRatio, anInterval, aMinRecords);
+    }
+}
@@ -0,0 +1,324 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.infrastructure.category.CategoryIndexSnapshot;
+import com.magno.admin.catalogo.infrastructure.category.CategorySortField;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Columnar snapshot of a category store taken at a log position ({@code lsn}).
+ * <p>
+ * Layout, all big endian: header {@code [magic][version][lsn][rows]}, then one column per field
+ * (ids, versions, flags, seconds/nanos for each instant, offsets + UTF-8 data for each string), the sort orders and
+ * deactivated order as row ordinals, the term postings as row ordinals, and a trailing CRC32C of everything before
+ * it. Loading maps the file read-only and decodes the columns straight from the mapping.
+ * <p>
+ * A single mapping holds at most {@value #MAX_SIZE} bytes, so that is the largest snapshot this format supports.
+ * {@link #write} refuses to finish a larger one; the store then keeps recovering from the log alone.
+ */
+final class CategorySnapshotFile {
+
+    private static final int MAGIC = 0x43534E50;
+    private static final int VERSION = 1;
+    private static final int TRAILER_SIZE = 4;
+    static final int MAX_SIZE = Integer.MAX_VALUE;
+
+    private CategorySnapshotFile() {
+    }
+
+    record Loaded(long lsn, CategoryIndexSnapshot snapshot) {
+    }
+
+    static void write(final Path target, final long lsn, final CategoryIndexSnapshot snapshot) {
+        final var temp = target.resolveSibling(target.getFileName() + ".tmp");
+        final var rows = snapshot.categories();
+        final var crc = new CRC32C();
+
+        try (final var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final var checked = new CheckedOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), crc);
+            final var out = new DataOutputStream(checked);
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(lsn);
+            out.writeInt(rows.size());
+
+            for (final var category : rows) {
+                out.writeLong(category.getId().getMostSignificantBits());
+                out.writeLong(category.getId().getLeastSignificantBits());
+            }
+            for (final var category : rows) {
+                out.writeLong(category.getVersion());
+            }
+            for (final var category : rows) {
+                out.writeByte(flagsOf(category));
+            }
+            writeInstants(out, rows, Category::getCreatedAt);
+            writeInstants(out, rows, Category::getUpdatedAt);
+            writeInstants(out, rows, Category::getDeletedAt);
+            writeStrings(out, rows, Category::getName);
+            writeStrings(out, rows, Category::getDescription);
+            ensureFits(out, target);
+
+            out.writeInt(snapshot.sortOrders().size());
+            for (final var order : snapshot.sortOrders().entrySet()) {
+                out.writeByte(order.getKey().ordinal());
+                writeInts(out, order.getValue());
+            }
+            writeInts(out, snapshot.deactivatedOrder());
+
+            out.writeInt(snapshot.postings().size());
+            for (final var posting : snapshot.postings().entrySet()) {
+                final var term = posting.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(term.length);
+                out.write(term);
+                writeInts(out, posting.getValue());
+            }
+            ensureFits(out, target);
+
+            out.flush();
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            channel.force(true);
+        } catch (final IOException ex) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(ex);
+        } catch (final RuntimeException ex) {
+            deleteQuietly(temp);
+            throw ex;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static Loaded read(final Path source) {
+        try (final var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_SIZE) {
+                throw new IllegalStateException("Category snapshot larger than %d bytes: %s".formatted(MAX_SIZE, source));
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final var bodyLength = buffer.capacity() - TRAILER_SIZE;
+            if (bodyLength < 20) {
+                throw new IllegalStateException("Truncated category snapshot: " + source);
+            }
+
+            final var crc = new CRC32C();
+            crc.update(buffer.duplicate().limit(bodyLength));
+            if ((int) crc.getValue() != buffer.getInt(bodyLength)) {
+                throw new IllegalStateException("Corrupted category snapshot: " + source);
+            }
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IllegalStateException("Not a category snapshot: " + source);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IllegalStateException("Unsupported category snapshot version %d: %s"
+                        .formatted(buffer.getInt(4), source));
+            }
+
+            final var lsn = buffer.getLong(8);
+            final var rowCount = buffer.getInt(16);
+            int position = 20;
+
+            final var idsAt = position;
+            position += rowCount * 16;
+            final var versionsAt = position;
+            position += rowCount * 8;
+            final var flagsAt = position;
+            position += rowCount;
+            final var createdAt = position;
+            position += rowCount * 12;
+            final var updatedAt = position;
+            position += rowCount * 12;
+            final var deletedAt = position;
+            position += rowCount * 12;
+            final var namesAt = position;
+            position += (rowCount + 1) * 4 + buffer.getInt(position + rowCount * 4);
+            final var descriptionsAt = position;
+            position += (rowCount + 1) * 4 + buffer.getInt(position + rowCount * 4);
+
+            final var rows = new ArrayList<Category>(rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                final int flags = buffer.get(flagsAt + row);
+                final var created = (flags & CategoryBinaryCodec.HAS_CREATED_AT) != 0 ? readInstant(buffer, createdAt, rowCount, row, null) : null;
+                final var updated = (flags & CategoryBinaryCodec.HAS_UPDATED_AT) != 0 ? readInstant(buffer, updatedAt, rowCount, row, created) : null;
+                rows.add(Category.with(
+                        CategoryID.from(buffer.getLong(idsAt + row * 16), buffer.getLong(idsAt + row * 16 + 8)),
+                        (flags & CategoryBinaryCodec.HAS_NAME) != 0 ? readString(buffer, namesAt, rowCount, row) : null,
+                        (flags & CategoryBinaryCodec.HAS_DESCRIPTION) != 0 ? readString(buffer, descriptionsAt, rowCount, row) : null,
+                        (flags & CategoryBinaryCodec.ACTIVE) != 0,
+                        created,
+                        updated,
+                        (flags & CategoryBinaryCodec.HAS_DELETED_AT) != 0 ? readInstant(buffer, deletedAt, rowCount, row, updated) : null,
+                        buffer.getLong(versionsAt + row * 8)
+                ));
+            }
+
+            final var sortOrders = new EnumMap<CategorySortField, int[]>(CategorySortField.class);
+            final var sortOrderCount = buffer.getInt(position);
+            position += 4;
+            for (int i = 0; i < sortOrderCount; i++) {
+                final var field = CategorySortField.values()[buffer.get(position)];
+                final var order = readInts(buffer, position + 1);
+                sortOrders.put(field, order);
+                position += 1 + 4 + order.length * 4;
+            }
+
+            final var deactivatedOrder = readInts(buffer, position);
+            position += 4 + deactivatedOrder.length * 4;
+
+            final var termCount = buffer.getInt(position);
+            position += 4;
+            final var postings = new HashMap<String, int[]>(termCount * 4 / 3 + 1);
+            for (int i = 0; i < termCount; i++) {
+                final var termLength = buffer.getInt(position);
+                final var termBytes = new byte[termLength];
+                buffer.get(position + 4, termBytes);
+                position += 4 + termLength;
+
+                final var rowsOfTerm = readInts(buffer, position);
+                position += 4 + rowsOfTerm.length * 4;
+                postings.put(new String(termBytes, StandardCharsets.UTF_8), rowsOfTerm);
+            }
+
+            return new Loaded(lsn, new CategoryIndexSnapshot(rows, sortOrders, deactivatedOrder, postings));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * {@link DataOutputStream#size()} saturates at {@code Integer.MAX_VALUE}, so it still tells whether the body
+     * plus its trailer would outgrow one mapping.
+     */
+    private static void ensureFits(final DataOutputStream out, final Path target) {
+        if (out.size() > MAX_SIZE - TRAILER_SIZE) {
+            throw new IllegalStateException("Category snapshot would exceed %d bytes: %s".formatted(MAX_SIZE, target));
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+            // the next write truncates it anyway
+        }
+    }
+
+    private static int flagsOf(final Category category) {
+        int flags = category.isActive() ? CategoryBinaryCodec.ACTIVE : 0;
+        flags |= category.getName() != null ? CategoryBinaryCodec.HAS_NAME : 0;
+        flags |= category.getDescription() != null ? CategoryBinaryCodec.HAS_DESCRIPTION : 0;
+        flags |= category.getCreatedAt() != null ? CategoryBinaryCodec.HAS_CREATED_AT : 0;
+        flags |= category.getUpdatedAt() != null ? CategoryBinaryCodec.HAS_UPDATED_AT : 0;
+        flags |= category.getDeletedAt() != null ? CategoryBinaryCodec.HAS_DELETED_AT : 0;
+        return flags;
+    }
+
+    private static void writeInstants(
+            final DataOutputStream out,
+            final Iterable<Category> rows,
+            final Function<Category, Instant> field
+    ) throws IOException {
+        for (final var category : rows) {
+            final var instant = field.apply(category);
+            out.writeLong(instant == null ? 0L : instant.getEpochSecond());
+        }
+        for (final var category : rows) {
+            final var instant = field.apply(category);
+            out.writeInt(instant == null ? 0 : instant.getNano());
+        }
+    }
+
+    private static void writeStrings(
+            final DataOutputStream out,
+            final List<Category> rows,
+            final Function<Category, String> field
+    ) throws IOException {
+        final var encoded = new byte[rows.size()][];
+        int offset = 0;
+        out.writeInt(0);
+        for (int row = 0; row < rows.size(); row++) {
+            final var value = field.apply(rows.get(row));
+            encoded[row] = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            offset += encoded[row].length;
+            out.writeInt(offset);
+        }
+        for (final var bytes : encoded) {
+            out.write(bytes);
+        }
+    }
+
+    private static void writeInts(final DataOutputStream out, final int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (final var value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer, final int columnAt, final int rowCount, final int row) {
+        final var dataAt = columnAt + (rowCount + 1) * 4;
+        final var from = buffer.getInt(columnAt + row * 4);
+        final var to = buffer.getInt(columnAt + (row + 1) * 4);
+        final var bytes = new byte[to - from];
+        buffer.get(dataAt + from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Instant readInstant(
+            final ByteBuffer buffer,
+            final int columnAt,
+            final int rowCount,
+            final int row,
+            final Instant previous
+    ) {
+        final var seconds = buffer.getLong(columnAt + row * 8);
+        final var nanos = buffer.getInt(columnAt + rowCount * 8 + row * 4);
+        return CategoryBinaryCodec.sameInstant(previous, seconds, nanos) ? previous : Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    private static int[] readInts(final ByteBuffer buffer, final int at) {
+        final var values = new int[buffer.getInt(at)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getInt(at + 4 + i * 4);
+        }
+        return values;
+    }
+
+    static Predicate<Path> isSnapshotOf(final Path logFile) {
+        final var prefix = logFile.getFileName() + ".snapshot-";
+        return path -> {
+            final var name = path.getFileName().toString();
+            return name.startsWith(prefix) && !name.endsWith(".tmp");
+        };
+    }
+
+    static Path pathFor(final Path logFile, final long lsn) {
+        return logFile.resolveSibling("%s.snapshot-%020d".formatted(logFile.getFileName(), lsn));
+    }
+}
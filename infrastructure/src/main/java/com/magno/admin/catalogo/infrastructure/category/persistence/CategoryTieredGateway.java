@@ -0,0 +1,357 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.batch.BatchResult;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import com.magno.admin.catalogo.domain.time.DomainClock;
+import com.magno.admin.catalogo.infrastructure.category.CategoryInMemoryGateway;
+import com.magno.admin.catalogo.infrastructure.category.CategorySortField;
+import com.magno.admin.catalogo.infrastructure.category.search.CategoryTermIndex;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps categories deactivated for longer than {@link CategoryTieringOptions#coldAfter()} out of the hot store, in a
+ * {@link CategoryColdSegment}. Listings only see the hot store unless a caller opts in through
+ * {@link #findAll(CategorySearchParams, boolean)}; lookups by id, counts and histograms cover both tiers.
+ * <p>
+ * Any update of a cold category, {@code activate} included, promotes it back to the hot store first. Writes are
+ * serialized and a category moving between tiers is copied before it is removed. Lookups read the hot store, then the
+ * cold segment, then the hot store again, so a promotion landing between the first two reads is not missed.
+ * <p>
+ * The maintenance thread only exists when {@link CategoryTieringOptions#checkInterval()} is positive; otherwise
+ * callers move categories themselves through {@link #moveColdCategories()}.
+ */
+public class CategoryTieredGateway implements CategoryGateway, AutoCloseable {
+
+    private final CategoryInMemoryGateway hot;
+    private final CategoryColdSegment cold;
+    private final CategoryTieringOptions options;
+    private final DomainClock clock;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ScheduledExecutorService maintenance;  // null when tiering is driven by the caller
+
+    public CategoryTieredGateway(final CategoryInMemoryGateway hot) {
+        this(hot, CategoryTieringOptions.defaults(), DomainClock.system());
+    }
+
+    public CategoryTieredGateway(
+            final CategoryInMemoryGateway hot,
+            final CategoryTieringOptions options,
+            final DomainClock clock
+    ) {
+        this.hot = Objects.requireNonNull(hot);
+        this.options = Objects.requireNonNull(options);
+        this.clock = Objects.requireNonNull(clock);
+        this.cold = new CategoryColdSegment(options.blockSize());
+
+        final var checkInterval = options.checkInterval().toMillis();
+        if (checkInterval > 0) {
+            this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "category-tiering");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.maintenance.scheduleWithFixedDelay(this::moveColdCategories, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.maintenance = null;
+        }
+    }
+
+    /**
+     * Moves every category deactivated before {@code now - coldAfter} to the cold segment and returns how many moved.
+     */
+    public int moveColdCategories() {
+        final var cutoff = this.clock.now().minus(this.options.coldAfter());
+        this.writeLock.lock();
+        try {
+            final var ids = this.hot.findDeactivatedBefore(cutoff);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            this.cold.addAll(this.hot.findAllById(ids));
+            this.hot.deleteAllById(ids);
+            return ids.size();
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    public int coldSize() {
+        return this.cold.size();
+    }
+
+    public long coldBytes() {
+        return this.cold.compressedBytes();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        this.writeLock.lock();
+        try {
+            if (this.cold.contains(category.getId())) {
+                throw ConflictException.alreadyExists(Category.class, category.getId());
+            }
+            return this.hot.create(category);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.writeLock.lock();
+        try {
+            this.cold.remove(id);
+            this.hot.deleteById(id);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        final var stored = this.hot.findById(id);
+        if (stored.isPresent()) {
+            return stored;
+        }
+        final var cold = this.cold.find(id);
+        return cold.isPresent() ? cold : this.hot.findById(id);
+    }
+
+    @Override
+    public CategoryUpdateResult update(final Category category) {
+        this.writeLock.lock();
+        try {
+            promote(category.getId());
+            return this.hot.update(category);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchParams params) {
+        return this.hot.findAll(params);
+    }
+
+    /**
+     * Same as {@link #findAll(CategorySearchParams)}, with cold categories merged in when {@code includeCold} is set.
+     * That scans the whole cold segment, so it is meant for audits and restores rather than listings.
+     */
+    public Pagination<Category> findAll(final CategorySearchParams params, final boolean includeCold) {
+        if (!includeCold) {
+            return findAll(params);
+        }
+
+        final var page = Math.max(params.page(), 0);
+        final var perPage = Math.max(params.perPage(), 0);
+        final var offset = (long) page * perPage;
+        final var end = (int) Math.min(offset + perPage, Integer.MAX_VALUE);
+        final var order = CategorySortField.of(params.sort()).comparator("desc".equalsIgnoreCase(params.direction()));
+
+        final var queryTokens = CategoryTermIndex.tokenize(params.terms());
+        final var coldMatches = new ArrayList<Category>();
+        this.cold.forEach(category -> {
+            if (queryTokens.length == 0 || CategoryTermIndex.matches(tokensOf(category), queryTokens)) {
+                coldMatches.add(category);
+            }
+        });
+        coldMatches.sort(order);
+
+        final var hotPage = this.hot.findAll(
+                new CategorySearchParams(0, end, params.terms(), params.sort(), params.direction()));
+
+        final var items = new ArrayList<Category>(Math.min(perPage, 64));
+        var h = 0;
+        var c = 0;
+        for (long position = 0; position < end; position++) {
+            final Category next;
+            if (h < hotPage.items().size()
+                    && (c == coldMatches.size() || order.compare(hotPage.items().get(h), coldMatches.get(c)) <= 0)) {
+                next = hotPage.items().get(h++);
+            } else if (c < coldMatches.size()) {
+                next = coldMatches.get(c++);
+            } else {
+                break;
+            }
+            if (position >= offset) {
+                items.add(next);
+            }
+        }
+        return new Pagination<>(page, perPage, hotPage.total() + coldMatches.size(), items);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+        return this.hot.findAll(params);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<CategoryID> ids) {
+        final var found = new HashMap<CategoryID, Category>(ids.size() * 2);
+        for (final var category : this.hot.findAllById(ids)) {
+            found.put(category.getId(), category);
+        }
+
+        final var missing = new ArrayList<CategoryID>();
+        for (final var id : ids) {
+            if (!found.containsKey(id)) {
+                this.cold.find(id).ifPresentOrElse(category -> found.put(id, category), () -> missing.add(id));
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (final var category : this.hot.findAllById(missing)) {
+                found.put(category.getId(), category);
+            }
+        }
+
+        final var categories = new ArrayList<Category>(ids.size());
+        for (final var id : ids) {
+            final var category = found.get(id);
+            if (category != null) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    @Override
+    public CategoryStatusCounts countByStatus() {
+        final var hotCounts = this.hot.countByStatus();
+        return CategoryStatusCounts.of(hotCounts.total() + this.cold.size(), hotCounts.active());
+    }
+
+    @Override
+    public List<CategoryHistogramBucket> histogram(final CategoryHistogramParams params) {
+        final var counts = new TreeMap<Instant, Long>();
+        for (final var bucket : this.hot.histogram(params)) {
+            counts.merge(bucket.start(), bucket.count(), Long::sum);
+        }
+        for (final var bucket : this.cold.histogram(params)) {
+            counts.merge(bucket.start(), bucket.count(), Long::sum);
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new CategoryHistogramBucket(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public BatchResult<CategoryID> createAll(final List<Category> categories) {
+        final var results = new ArrayList<BatchItemResult<CategoryID>>(categories.size());
+        this.writeLock.lock();
+        try {
+            final var accepted = new ArrayList<Category>(categories.size());
+            final var acceptedIndexes = new ArrayList<Integer>(categories.size());
+            for (int i = 0; i < categories.size(); i++) {
+                final var category = categories.get(i);
+                if (this.cold.contains(category.getId())) {
+                    results.add(BatchItemResult.failed(i, category.getId(), BatchItemStatus.ALREADY_EXISTS));
+                } else {
+                    accepted.add(category);
+                    acceptedIndexes.add(i);
+                }
+            }
+            for (final var item : this.hot.createAll(accepted).items()) {
+                results.add(item.withIndex(acceptedIndexes.get(item.index())));
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+        results.sort((left, right) -> Integer.compare(left.index(), right.index()));
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    public BatchResult<CategoryID> updateAll(final List<Category> categories) {
+        this.writeLock.lock();
+        try {
+            for (final var category : categories) {
+                promote(category.getId());
+            }
+            return this.hot.updateAll(categories);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public BatchResult<CategoryID> deleteAllById(final List<CategoryID> ids) {
+        this.writeLock.lock();
+        try {
+            final var removedCold = new LinkedHashSet<CategoryID>();
+            for (final var id : ids) {
+                if (this.cold.remove(id) != null) {
+                    removedCold.add(id);
+                }
+            }
+
+            final var hotResults = this.hot.deleteAllById(ids);
+            if (removedCold.isEmpty()) {
+                return hotResults;
+            }
+            final var results = new ArrayList<BatchItemResult<CategoryID>>(ids.size());
+            for (final var item : hotResults.items()) {
+                results.add(removedCold.remove(item.id()) ? BatchItemResult.succeeded(item.index(), item.id()) : item);
+            }
+            return new BatchResult<>(results);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.maintenance == null) {
+            return;
+        }
+        this.maintenance.shutdownNow();
+        try {
+            this.maintenance.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Copies a cold category back to the hot store, then drops it from the cold segment. Callers hold the write lock.
+     */
+    private void promote(final CategoryID id) {
+        final var stored = this.cold.find(id);
+        if (stored.isPresent()) {
+            this.hot.put(stored.get());
+            this.cold.remove(id);
+        }
+    }
+
+    private static String[] tokensOf(final Category category) {
+        final var tokens = new LinkedHashSet<String>();
+        tokens.addAll(List.of(CategoryTermIndex.tokenize(category.getName())));
+        tokens.addAll(List.of(CategoryTermIndex.tokenize(category.getDescription())));
+        return tokens.toArray(new String[0]);
+    }
+}
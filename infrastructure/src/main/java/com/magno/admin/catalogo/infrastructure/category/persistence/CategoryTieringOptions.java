@@ -0,0 +1,43 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * @param coldAfter     how long a category stays deactivated before it moves to the cold segment
+ * @param checkInterval how often the background check runs; zero disables it
+ * @param blockSize     categories per compressed cold block
+ */
+public record CategoryTieringOptions(
+        Duration coldAfter,
+        Duration checkInterval,
+        int blockSize
+) {
+
+    public CategoryTieringOptions {
+        Objects.requireNonNull(coldAfter);
+        Objects.requireNonNull(checkInterval);
+        if (coldAfter.isNegative()) {
+            throw new IllegalArgumentException("'coldAfter' should not be negative");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("'blockSize' should be greater than zero");
+        }
+    }
+
+    public static CategoryTieringOptions defaults() {
+        return new CategoryTieringOptions(Duration.ofDays(30), Duration.ofHours(1), 1024);
+    }
+
+    public CategoryTieringOptions withColdAfter(final Duration aPeriod) {
+        return new CategoryTieringOptions(aPeriod, checkInterval, blockSize);
+    }
+
+    public CategoryTieringOptions withCheckInterval(final Duration anInterval) {
+        return new CategoryTieringOptions(coldAfter, anInterval, blockSize);
+    }
+
+    public CategoryTieringOptions withBlockSize(final int aSize) {
+        return new CategoryTieringOptions(coldAfter, checkInterval, aSize);
+    }
+}
@@ -0,0 +1,197 @@
+package com.magno.admin.catalogo.infrastructure.category.search;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over category name and description tokens.
+ * <p>
+ * Not thread-safe: callers are expected to guard it with the same lock that guards the owning store.
+ */
+public class CategoryTermIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String[] NO_TOKENS = new String[0];
+
+    private final NavigableMap<String, Set<CategoryID>> postings = new TreeMap<>();
+    private final Map<CategoryID, String[]> tokensById = new HashMap<>();
+
+    public static String[] tokenize(final String text) {
+        if (text == null || text.isBlank()) {
+            return NO_TOKENS;
+        }
+
+        final var normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        final var tokens = new LinkedHashSet<String>();
+        for (final var token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens.toArray(NO_TOKENS);
+    }
+
+    public void add(final Category category) {
+        final var id = category.getId();
+        remove(id);
+
+        final var tokens = new LinkedHashSet<String>();
+        tokens.addAll(List.of(tokenize(category.getName())));
+        tokens.addAll(List.of(tokenize(category.getDescription())));
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        final var indexed = tokens.toArray(NO_TOKENS);
+        for (final var token : indexed) {
+            this.postings.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+        }
+        this.tokensById.put(id, indexed);
+    }
+
+    public void remove(final CategoryID id) {
+        final var indexed = this.tokensById.remove(id);
+        if (indexed == null) {
+            return;
+        }
+
+        for (final var token : indexed) {
+            final var ids = this.postings.get(token);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                this.postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids whose tokens start with every token of {@code terms}, or {@code null} when
+     * {@code terms} has no searchable token and therefore matches the whole catalog.
+     */
+    public Set<CategoryID> search(final String terms) {
+        final var queryTokens = tokenize(terms);
+        if (queryTokens.length == 0) {
+            return null;
+        }
+
+        final var perToken = new ArrayList<Collection<Set<CategoryID>>>(queryTokens.length);
+        for (final var token : queryTokens) {
+            final var matches = this.postings.subMap(token, true, token + Character.MAX_VALUE, false).values();
+            if (matches.isEmpty()) {
+                return Set.of();
+            }
+            perToken.add(matches);
+        }
+        perToken.sort(Comparator.comparingLong(CategoryTermIndex::estimatedSize));
+
+        Set<CategoryID> result = union(perToken.get(0));
+        for (int i = 1; i < perToken.size() && !result.isEmpty(); i++) {
+            result = retainMatching(result, perToken.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Whether every query token is a prefix of one of {@code tokens}; the rule {@link #search(String)} applies to
+     * the index, for callers holding tokens of their own.
+     */
+    public static boolean matches(final String[] tokens, final String[] queryTokens) {
+        for (final var queryToken : queryTokens) {
+            var found = false;
+            for (final var token : tokens) {
+                if (token.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static CategoryTermIndex restore(final Map<String, ? extends Collection<CategoryID>> postings) {
+        final var index = new CategoryTermIndex();
+        final var tokens = new HashMap<CategoryID, List<String>>();
+
+        for (final var posting : postings.entrySet()) {
+            final var ids = new HashSet<CategoryID>(posting.getValue());
+            if (ids.isEmpty()) {
+                continue;
+            }
+            index.postings.put(posting.getKey(), ids);
+            for (final var id : ids) {
+                tokens.computeIfAbsent(id, key -> new ArrayList<>(4)).add(posting.getKey());
+            }
+        }
+
+        for (final var entry : tokens.entrySet()) {
+            index.tokensById.put(entry.getKey(), entry.getValue().toArray(NO_TOKENS));
+        }
+        return index;
+    }
+
+    public void forEachPosting(final BiConsumer<String, Set<CategoryID>> consumer) {
+        for (final var posting : this.postings.entrySet()) {
+            consumer.accept(posting.getKey(), Collections.unmodifiableSet(posting.getValue()));
+        }
+    }
+
+    public int termCount() {
+        return this.postings.size();
+    }
+
+    private static long estimatedSize(final Collection<Set<CategoryID>> postingLists) {
+        long size = 0;
+        for (final var ids : postingLists) {
+            size += ids.size();
+        }
+        return size;
+    }
+
+    private static Set<CategoryID> union(final Collection<Set<CategoryID>> postingLists) {
+        if (postingLists.size() == 1) {
+            return new HashSet<>(postingLists.iterator().next());
+        }
+
+        final var result = new HashSet<CategoryID>();
+        for (final var ids : postingLists) {
+            result.addAll(ids);
+        }
+        return result;
+    }
+
+    private static Set<CategoryID> retainMatching(final Set<CategoryID> candidates, final Collection<Set<CategoryID>> postingLists) {
+        final var result = new HashSet<CategoryID>();
+        for (final var id : candidates) {
+            for (final var ids : postingLists) {
+                if (ids.contains(id)) {
+                    result.add(id);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,239 @@
+package com.magno.admin.catalogo.infrastructure.collection;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable sorted set backed by a treap with subtree sizes. {@link #with} and {@link #without} return a new set that
+ * shares every untouched node with this one, copying only the O(log n) nodes on the changed path, so old versions
+ * stay valid and readable from any thread while new ones are built.
+ * <p>
+ * Besides ordered iteration in both directions, it can start iterating at a rank or right after a probe element in
+ * O(log n), which is what offset and cursor pagination need.
+ */
+public final class PersistentSortedSet<T> implements Iterable<T> {
+
+    private static final int LEVEL_WIDTH = 1 << 26;
+
+    private final Comparator<? super T> comparator;
+    private final Node<T> root;
+
+    private PersistentSortedSet(final Comparator<? super T> comparator, final Node<T> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    public static <T> PersistentSortedSet<T> empty(final Comparator<? super T> comparator) {
+        return new PersistentSortedSet<>(Objects.requireNonNull(comparator), null);
+    }
+
+    /**
+     * A set of {@code sorted}, which must be strictly ascending under {@code comparator}, built in O(n) without
+     * comparing elements. Priorities come from bands that shrink with depth, so the balanced shape is a valid treap
+     * and later writes keep working on it as usual.
+     */
+    public static <T> PersistentSortedSet<T> ofSorted(final List<? extends T> sorted, final Comparator<? super T> comparator) {
+        return new PersistentSortedSet<>(Objects.requireNonNull(comparator), build(sorted, 0, sorted.size(), 0));
+    }
+
+    public int size() {
+        return sizeOf(this.root);
+    }
+
+    public boolean isEmpty() {
+        return this.root == null;
+    }
+
+    /**
+     * The element comparing equal to {@code probe}, or {@code null}.
+     */
+    public T get(final T probe) {
+        var node = this.root;
+        while (node != null) {
+            final var cmp = this.comparator.compare(probe, node.value);
+            if (cmp == 0) {
+                return node.value;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * A set holding {@code value}, replacing the element comparing equal to it if there is one.
+     */
+    public PersistentSortedSet<T> with(final T value) {
+        final var less = splitBefore(this.root, value, false);
+        final var greater = splitBefore(less[1], value, true);
+        final var node = new Node<>(value, ThreadLocalRandom.current().nextInt(), null, null);
+        return new PersistentSortedSet<>(this.comparator, merge(merge(less[0], node), greater[1]));
+    }
+
+    public PersistentSortedSet<T> without(final T probe) {
+        if (get(probe) == null) {
+            return this;
+        }
+        final var less = splitBefore(this.root, probe, false);
+        final var greater = splitBefore(less[1], probe, true);
+        return new PersistentSortedSet<>(this.comparator, merge(less[0], greater[1]));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return iterator(false);
+    }
+
+    public Iterator<T> iterator(final boolean descending) {
+        return fromRank(0, descending);
+    }
+
+    /**
+     * Iterates from the {@code rank}-th element of the given direction on.
+     */
+    public Iterator<T> fromRank(final long rank, final boolean descending) {
+        final var cursor = new Cursor<T>(descending);
+        var node = this.root;
+        var remaining = rank;
+        while (node != null) {
+            final var before = sizeOf(cursor.first(node));
+            if (remaining < before) {
+                cursor.path.push(node);
+                node = cursor.first(node);
+            } else if (remaining == before) {
+                cursor.path.push(node);
+                break;
+            } else {
+                remaining -= before + 1;
+                node = cursor.second(node);
+            }
+        }
+        return cursor;
+    }
+
+    /**
+     * Iterates over the elements strictly after {@code probe} in the given direction.
+     */
+    public Iterator<T> after(final T probe, final boolean descending) {
+        final var cursor = new Cursor<T>(descending);
+        var node = this.root;
+        while (node != null) {
+            final var cmp = this.comparator.compare(node.value, probe);
+            if (descending ? cmp < 0 : cmp > 0) {
+                cursor.path.push(node);
+                node = cursor.first(node);
+            } else {
+                node = cursor.second(node);
+            }
+        }
+        return cursor;
+    }
+
+    /**
+     * Splits {@code node} into the elements ordered before {@code key} and the rest; with {@code inclusive} the
+     * elements equal to {@code key} go to the first half.
+     */
+    private Node<T>[] splitBefore(final Node<T> node, final T key, final boolean inclusive) {
+        if (node == null) {
+            return pair(null, null);
+        }
+        final var cmp = this.comparator.compare(node.value, key);
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            final var split = splitBefore(node.right, key, inclusive);
+            return pair(new Node<>(node.value, node.priority, node.left, split[0]), split[1]);
+        }
+        final var split = splitBefore(node.left, key, inclusive);
+        return pair(split[0], new Node<>(node.value, node.priority, split[1], node.right));
+    }
+
+    private static <T> Node<T> build(final List<? extends T> sorted, final int from, final int to, final int depth) {
+        if (from >= to) {
+            return null;
+        }
+        final var mid = (from + to) >>> 1;
+        final var priority = Integer.MAX_VALUE - (depth + 1) * LEVEL_WIDTH + ThreadLocalRandom.current().nextInt(LEVEL_WIDTH);
+        return new Node<T>(sorted.get(mid), priority, build(sorted, from, mid, depth + 1), build(sorted, mid + 1, to, depth + 1));
+    }
+
+    private static <T> Node<T> merge(final Node<T> left, final Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            return new Node<>(left.value, left.priority, left.left, merge(left.right, right));
+        }
+        return new Node<>(right.value, right.priority, merge(left, right.left), right.right);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] pair(final Node<T> first, final Node<T> second) {
+        return (Node<T>[]) new Node<?>[]{first, second};
+    }
+
+    private static int sizeOf(final Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+
+        private final T value;
+        private final int priority;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+
+        Node(final T value, final int priority, final Node<T> left, final Node<T> right) {
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+
+    /**
+     * In-order walk over an explicit stack; {@code first}/{@code second} are the left/right children, swapped when
+     * descending.
+     */
+    private static final class Cursor<T> implements Iterator<T> {
+
+        private final boolean descending;
+        private final ArrayDeque<Node<T>> path = new ArrayDeque<>();
+
+        Cursor(final boolean descending) {
+            this.descending = descending;
+        }
+
+        Node<T> first(final Node<T> node) {
+            return this.descending ? node.right : node.left;
+        }
+
+        Node<T> second(final Node<T> node) {
+            return this.descending ? node.left : node.right;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            final var node = this.path.poll();
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            for (var next = second(node); next != null; next = first(next)) {
+                this.path.push(next);
+            }
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.magno.admin.catalogo.infrastructure.event;
+
+import com.magno.admin.catalogo.domain.event.DomainEvent;
+import com.magno.admin.catalogo.domain.event.DomainEventPublisher;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Asynchronous {@link DomainEventPublisher} that queues events and hands them to a downstream publisher in batches,
+ * from a single thread so that events keep the order they were published in.
+ * <p>
+ * The queue is bounded: when the downstream falls behind, {@link #publish(List)} blocks until there is room, which
+ * slows writers down instead of buffering without limit. A batch the downstream rejects is retried a few times
+ * with backoff and then counted as failed.
+ * <p>
+ * {@link #close()} lets the worker drain the queue. Events published after that are not refused, since their writes
+ * already happened: they are delivered on the publishing thread once the queued ones are out.
+ */
+public class DomainEventDispatcher implements DomainEventPublisher, Closeable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 10;
+    private static final long POLL_MILLIS = 50;
+
+    private final DomainEventPublisher downstream;
+    private final BlockingQueue<DomainEvent> queue;
+    private final int maxBatchSize;
+    private final Thread worker;
+
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final ReentrantLock progressLock = new ReentrantLock();
+    private final Condition progressed = progressLock.newCondition();
+    private long enqueued;
+    private long published;
+    private long failed;
+    private RuntimeException lastFailure;
+    private volatile boolean closed;
+
+    public DomainEventDispatcher(final DomainEventPublisher downstream) {
+        this(downstream, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public DomainEventDispatcher(final DomainEventPublisher downstream, final int capacity, final int maxBatchSize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("'capacity' should be greater than zero");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("'maxBatchSize' should be greater than zero");
+        }
+        this.downstream = Objects.requireNonNull(downstream);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.worker = new Thread(this::dispatchLoop, "domain-event-dispatcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queues the events, blocking while the queue is full. Once the dispatcher is closed, delivers them on the calling
+     * thread instead.
+     */
+    @Override
+    public void publish(final List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        this.closeLock.readLock().lock();
+        try {
+            if (!this.closed) {
+                enqueue(events);
+                return;
+            }
+        } finally {
+            this.closeLock.readLock().unlock();
+        }
+        deliverAfterClose(events);
+    }
+
+    /**
+     * Blocks until every event queued before this call was delivered or counted as failed.
+     */
+    public void flush() {
+        this.progressLock.lock();
+        try {
+            final var target = this.enqueued;
+            while (this.published + this.failed < target && this.worker.isAlive()) {
+                this.progressed.awaitUninterruptibly();
+            }
+        } finally {
+            this.progressLock.unlock();
+        }
+    }
+
+    public long published() {
+        this.progressLock.lock();
+        try {
+            return this.published;
+        } finally {
+            this.progressLock.unlock();
+        }
+    }
+
+    public long failed() {
+        this.progressLock.lock();
+        try {
+            return this.failed;
+        } finally {
+            this.progressLock.unlock();
+        }
+    }
+
+    public RuntimeException lastFailure() {
+        this.progressLock.lock();
+        try {
+            return this.lastFailure;
+        } finally {
+            this.progressLock.unlock();
+        }
+    }
+
+    public int pending() {
+        return this.queue.size();
+    }
+
+    /**
+     * Stops queueing events and waits for the queued ones to be delivered.
+     */
+    @Override
+    public void close() {
+        this.closeLock.writeLock().lock();
+        try {
+            this.closed = true;
+        } finally {
+            this.closeLock.writeLock().unlock();
+        }
+        try {
+            this.worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(final List<DomainEvent> events) {
+        for (final var event : events) {
+            try {
+                this.queue.put(event);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while queueing domain events", ex);
+            }
+        }
+
+        this.progressLock.lock();
+        try {
+            this.enqueued += events.size();
+        } finally {
+            this.progressLock.unlock();
+        }
+    }
+
+    /**
+     * Closing takes the write side of {@link #closeLock}, so no publisher is still between its check of
+     * {@link #closed} and its last {@code put}; the worker's final empty poll therefore means the queue is drained.
+     * Waiting for the worker keeps these events behind the queued ones.
+     */
+    private void deliverAfterClose(final List<DomainEvent> events) {
+        var interrupted = false;
+        while (this.worker.isAlive()) {
+            try {
+                this.worker.join();
+            } catch (final InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+
+        this.progressLock.lock();
+        try {
+            this.enqueued += events.size();
+        } finally {
+            this.progressLock.unlock();
+        }
+        try {
+            deliver(List.copyOf(events));
+        } catch (final InterruptedException ex) {
+            interrupted = true;
+            countFailed(events.size(), new IllegalStateException("Interrupted while delivering domain events", ex));
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void dispatchLoop() {
+        final var batch = new ArrayList<DomainEvent>(this.maxBatchSize);
+        try {
+            while (true) {
+                final var first = this.queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (this.closed && this.queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+
+                batch.add(first);
+                this.queue.drainTo(batch, this.maxBatchSize - 1);
+                deliver(List.copyOf(batch));
+                batch.clear();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.progressLock.lock();
+            try {
+                this.progressed.signalAll();
+            } finally {
+                this.progressLock.unlock();
+            }
+        }
+    }
+
+    private void deliver(final List<DomainEvent> batch) throws InterruptedException {
+        RuntimeException failure = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+            }
+            try {
+                this.downstream.publish(batch);
+                failure = null;
+                break;
+            } catch (final RuntimeException ex) {
+                failure = ex;
+            }
+        }
+
+        if (failure != null) {
+            countFailed(batch.size(), failure);
+            return;
+        }
+        this.progressLock.lock();
+        try {
+            this.published += batch.size();
+            this.progressed.signalAll();
+        } finally {
+            this.progressLock.unlock();
+        }
+    }
+
+    private void countFailed(final int events, final RuntimeException failure) {
+        this.progressLock.lock();
+        try {
+            this.failed += events;
+            this.lastFailure = failure;
+            this.progressed.signalAll();
+        } finally {
+            this.progressLock.unlock();
+        }
+    }
+}
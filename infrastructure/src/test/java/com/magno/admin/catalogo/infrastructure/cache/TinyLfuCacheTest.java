@@ -0,0 +1,85 @@
+package com.magno.admin.catalogo.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TinyLfuCacheTest {
+
+    @Test
+    public void givenACachedKey_whenCallGetAgain_thenShouldNotCallLoader() {
+        final var cache = new TinyLfuCache<String, String>(10, Duration.ZERO);
+        final var loads = new AtomicInteger();
+
+        cache.get("a", key -> key + loads.incrementAndGet());
+        final var actualValue = cache.get("a", key -> key + loads.incrementAndGet());
+
+        Assertions.assertEquals("a1", actualValue);
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, cache.stats().hits());
+        Assertions.assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    public void givenAMissingKey_whenNegativeTtlIsSet_thenShouldCacheTheMiss() {
+        final var cache = new TinyLfuCache<String, String>(10, Duration.ofMinutes(1));
+        final var loads = new AtomicInteger();
+
+        cache.get("missing", key -> { loads.incrementAndGet(); return null; });
+        final var actualValue = cache.get("missing", key -> { loads.incrementAndGet(); return null; });
+
+        Assertions.assertNull(actualValue);
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, cache.stats().negativeHits());
+    }
+
+    @Test
+    public void givenAnInvalidatedKey_whenCallGet_thenShouldReload() {
+        final var cache = new TinyLfuCache<String, String>(10, Duration.ofMinutes(1));
+        cache.get("a", key -> "old");
+
+        cache.invalidate("a");
+
+        Assertions.assertEquals("new", cache.get("a", key -> "new"));
+        Assertions.assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    public void givenAStaleValue_whenCallGet_thenShouldCountAMissAndOverwriteIt() {
+        final var cache = new TinyLfuCache<String, String>(1, Duration.ZERO);
+        cache.get("a", key -> "v1");
+
+        final var actualValue = cache.get("a", key -> "v2", value -> value.equals("v2"));
+
+        Assertions.assertEquals("v2", actualValue);
+        Assertions.assertEquals("v2", cache.get("a", key -> "v3", value -> value.equals("v2")));
+        Assertions.assertEquals(2, cache.stats().misses());
+        Assertions.assertEquals(1, cache.stats().hits());
+        Assertions.assertEquals(0, cache.stats().rejections());
+        Assertions.assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    public void givenAFullCache_whenLoadingColdKeys_thenShouldKeepTheHotOnes() {
+        final var cache = new TinyLfuCache<Integer, Integer>(1, Duration.ZERO);
+        for (int i = 0; i < 5; i++) {
+            cache.get(1, key -> key);
+        }
+
+        cache.get(2, key -> key);
+
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(1, cache.stats().rejections());
+        final var loads = new AtomicInteger();
+        cache.get(1, key -> { loads.incrementAndGet(); return key; });
+        Assertions.assertEquals(0, loads.get());
+
+        for (int i = 0; i < 10; i++) {
+            cache.get(3, key -> key);
+        }
+        Assertions.assertEquals(1, cache.stats().evictions());
+        Assertions.assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,50 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+public class CategoryCachingGatewayTest {
+
+    @Test
+    public void givenACachedCategory_whenCallUpdate_thenShouldServeTheNewVersion() {
+        final var gateway = new CategoryCachingGateway(new CategoryInMemoryGateway());
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.findById(aCategory.getId());
+        gateway.findById(aCategory.getId()).orElseThrow().update("Alterado fora do gateway", null, true);
+        gateway.update(aCategory.update("Séries", null, true));
+
+        Assertions.assertEquals("Séries", gateway.findById(aCategory.getId()).orElseThrow().getName());
+        Assertions.assertEquals(1, gateway.stats().hits());
+        Assertions.assertEquals(2, gateway.stats().misses());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenItIsCreatedLater_thenShouldDropTheNegativeEntry() {
+        final var gateway = new CategoryCachingGateway(new CategoryInMemoryGateway(), 100, Duration.ofMinutes(5));
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+
+        gateway.createAll(List.of(aCategory));
+
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isPresent());
+        Assertions.assertEquals(1, gateway.stats().negativeHits());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallDeleteById_thenShouldNotFindIt() {
+        final var gateway = new CategoryCachingGateway(new CategoryInMemoryGateway());
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.findById(aCategory.getId());
+
+        gateway.deleteById(aCategory.getId());
+
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+    }
+}
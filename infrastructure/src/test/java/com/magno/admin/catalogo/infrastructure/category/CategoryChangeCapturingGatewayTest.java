@@ -0,0 +1,141 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryChange;
+import com.magno.admin.catalogo.domain.category.CategoryChangeBatch;
+import com.magno.admin.catalogo.domain.category.CategoryChangeGapException;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class CategoryChangeCapturingGatewayTest {
+
+    @Test
+    public void givenMutations_whenReadTheFeed_thenShouldSeeThemInOrderWithIncreasingPositions() {
+        final var gateway = new CategoryChangeCapturingGateway(new CategoryInMemoryGateway(), new CategoryInProcessChangeFeed());
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.update(Category.with(filmes).deactivate());
+        gateway.update(Category.with(filmes));
+        gateway.createAll(List.of(Category.newCategory("Séries", null, true), Category.with(filmes)));
+        gateway.deleteById(filmes.getId());
+
+        final var batch = gateway.feed().read(0, 10, Duration.ZERO);
+
+        Assertions.assertEquals(
+                List.of(CategoryChange.Type.CREATED, CategoryChange.Type.UPDATED, CategoryChange.Type.CREATED, CategoryChange.Type.DELETED),
+                batch.changes().stream().map(CategoryChange::type).toList()
+        );
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), batch.changes().stream().map(CategoryChange::lsn).toList());
+        Assertions.assertEquals(4, batch.position());
+        Assertions.assertEquals(1, batch.changes().get(1).state().version());
+        Assertions.assertFalse(batch.changes().get(1).state().active());
+        Assertions.assertNull(batch.changes().get(3).state());
+    }
+
+    @Test
+    public void givenManyChanges_whenReadInBatches_thenShouldResumeFromThePosition() {
+        final var gateway = new CategoryChangeCapturingGateway(new CategoryInMemoryGateway(), new CategoryInProcessChangeFeed());
+        for (int i = 0; i < 5; i++) {
+            gateway.create(Category.newCategory("Categoria " + i, null, true));
+        }
+
+        final var first = gateway.feed().read(0, 2, Duration.ZERO);
+        final var second = gateway.feed().read(first.position(), 2, Duration.ZERO);
+        final var third = gateway.feed().read(second.position(), 2, Duration.ZERO);
+        final var empty = gateway.feed().read(third.position(), 2, Duration.ZERO);
+
+        Assertions.assertEquals(List.of(2, 2, 1), List.of(first.changes().size(), second.changes().size(), third.changes().size()));
+        Assertions.assertEquals(5, third.position());
+        Assertions.assertTrue(empty.isEmpty());
+        Assertions.assertEquals(5, empty.position());
+    }
+
+    @Test
+    public void givenReaderAtTheHead_whenChangeArrives_thenShouldWakeUpBeforeTheTimeout() throws Exception {
+        final var gateway = new CategoryChangeCapturingGateway(new CategoryInMemoryGateway(), new CategoryInProcessChangeFeed());
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var started = System.nanoTime();
+            final var pending = executor.submit(() -> gateway.feed().read(0, 10, Duration.ofSeconds(10)));
+            Thread.sleep(50);
+            gateway.create(Category.newCategory("Filmes", null, true));
+
+            final CategoryChangeBatch batch = pending.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(1, batch.changes().size());
+            Assertions.assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(5));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenReaderBehindTheRetainedChanges_whenRead_thenShouldReportTheGap() {
+        final var gateway = new CategoryChangeCapturingGateway(new CategoryInMemoryGateway(), new CategoryInProcessChangeFeed(3));
+        for (int i = 0; i < 5; i++) {
+            gateway.create(Category.newCategory("Categoria " + i, null, true));
+        }
+
+        final var gap = Assertions.assertThrows(CategoryChangeGapException.class, () -> gateway.feed().read(1, 10, Duration.ZERO));
+        Assertions.assertEquals(3, gap.getOldestLsn());
+        Assertions.assertEquals(3, gateway.feed().read(2, 10, Duration.ZERO).changes().size());
+    }
+
+    @Test
+    public void givenRejectedWrites_whenReadTheFeed_thenShouldNotRecordThem() {
+        final var gateway = new CategoryChangeCapturingGateway(new CategoryInMemoryGateway(), new CategoryInProcessChangeFeed());
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.update(Category.with(filmes));
+
+        gateway.update(Category.with(filmes).deactivate());
+        gateway.updateAll(List.of(Category.newCategory("Séries", null, true)));
+        gateway.deleteAllById(List.of(CategoryID.unique()));
+        gateway.deleteById(CategoryID.unique());
+
+        Assertions.assertEquals(2, gateway.feed().headLsn());
+    }
+
+    @Test
+    public void givenReplicaCopiedAtAPosition_whenTailingTheFeed_thenShouldConvergeWithTheSource() {
+        final var source = new CategoryChangeCapturingGateway(new CategoryInMemoryGateway(), new CategoryInProcessChangeFeed());
+        final var filmes = source.create(Category.newCategory("Filmes", null, true));
+        final var series = source.create(Category.newCategory("Séries", null, true));
+
+        final var replica = new CategoryInMemoryGateway();
+        var position = source.feed().headLsn();
+        source.findAllById(List.of(filmes.getId(), series.getId())).forEach(replica::put);
+
+        source.update(Category.with(filmes).update("Filmes e Séries", null, false));
+        source.deleteById(series.getId());
+        source.create(Category.newCategory("Kids", null, true));
+
+        for (var batch = source.feed().read(position, 2, Duration.ZERO); !batch.isEmpty();
+             batch = source.feed().read(position, 2, Duration.ZERO)) {
+            batch.changes().forEach(change -> apply(replica, change));
+            position = batch.position();
+        }
+
+        final var params = new CategorySearchParams(0, 10, "", "name", "asc");
+        Assertions.assertEquals(
+                source.findAll(params).items().stream().map(CategoryChangeCapturingGatewayTest::stateOf).toList(),
+                replica.findAll(params).items().stream().map(CategoryChangeCapturingGatewayTest::stateOf).toList()
+        );
+    }
+
+    private static void apply(final CategoryInMemoryGateway replica, final CategoryChange change) {
+        if (change.type() == CategoryChange.Type.DELETED) {
+            replica.deleteById(change.id());
+        } else {
+            replica.put(change.state().toCategory());
+        }
+    }
+
+    private static String stateOf(final Category category) {
+        return category.getId().getValue() + ":" + category.getName() + ":" + category.isActive() + ":" + category.getVersion();
+    }
+}
@@ -0,0 +1,148 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryTimeBucket;
+import com.magno.admin.catalogo.domain.category.CategoryTimeField;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CategoryCopyOnWriteGatewayTest {
+
+    @Test
+    public void givenTheSameWrites_whenSearch_thenShouldMatchTheLockingStore() {
+        final var locking = new CategoryInMemoryGateway();
+        final var gateway = new CategoryCopyOnWriteGateway();
+        final var base = Instant.parse("2024-01-01T00:00:00Z");
+        final var batch = new ArrayList<Category>();
+        for (int i = 0; i < 150; i++) {
+            final var at = base.plusSeconds(i % 13);
+            final var name = (i % 3 == 0 ? "Filmes de " : "Séries de ") + (i % 4 == 0 ? "ação " : "drama ") + i;
+            batch.add(new Category(CategoryID.from(i * 17L, i), name, i % 5 == 0 ? "Clássicos" : null, i % 7 != 0, at, at, null));
+        }
+        locking.createAll(batch);
+        gateway.createAll(batch);
+        for (int i = 0; i < 150; i += 10) {
+            locking.update(locking.findById(batch.get(i).getId()).orElseThrow().update("Renomeada " + i, null, true));
+            gateway.update(gateway.findById(batch.get(i).getId()).orElseThrow().update("Renomeada " + i, null, true));
+        }
+        locking.deleteById(batch.get(3).getId());
+        gateway.deleteById(batch.get(3).getId());
+
+        Assertions.assertEquals(locking.countByStatus(), gateway.countByStatus());
+        for (final var field : CategoryTimeField.values()) {
+            for (final var bucket : CategoryTimeBucket.values()) {
+                final var params = CategoryHistogramParams.of(field, bucket);
+                Assertions.assertEquals(locking.histogram(params), gateway.histogram(params));
+            }
+        }
+        for (final var sort : List.of("name", "createdAt", "updatedAt")) {
+            for (final var direction : List.of("asc", "desc")) {
+                for (final var terms : List.of("", "filmes", "sér aç", "classicos", "nada", "renom", "dram 1")) {
+                    for (int page = 0; page < 5; page++) {
+                        final var params = new CategorySearchParams(page, 40, terms, sort, direction);
+                        final var expected = locking.findAll(params);
+                        final var actual = gateway.findAll(params);
+                        Assertions.assertEquals(expected.total(), actual.total());
+                        Assertions.assertEquals(ids(expected.items()), ids(actual.items()));
+                    }
+
+                    final var first = new CategoryCursorSearchParams(null, 9, terms, sort, direction, true);
+                    Assertions.assertEquals(walk(locking, first), walk(gateway, first));
+                    Assertions.assertEquals(locking.findAll(first).total(), gateway.findAll(first).total());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void givenAnExistingId_whenCallCreate_thenShouldThrowAndKeepTheSnapshot() {
+        final var gateway = new CategoryCopyOnWriteGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+        Assertions.assertThrows(ConflictException.class, () -> gateway.create(Category.with(filmes).update("Séries", null, false)));
+        Assertions.assertEquals("Filmes", gateway.findById(filmes.getId()).orElseThrow().getName());
+        Assertions.assertEquals(1, gateway.countByStatus().active());
+    }
+
+    @Test
+    public void givenASnapshot_whenWritesFollow_thenShouldKeepSeeingItsVersion() {
+        final var gateway = new CategoryCopyOnWriteGateway();
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        final var before = gateway.snapshot();
+
+        final var result = gateway.update(aCategory.update("Séries", null, true));
+        gateway.create(Category.newCategory("Kids", null, true));
+
+        Assertions.assertEquals(1, before.size());
+        Assertions.assertEquals("Filmes", before.findById(aCategory.getId()).orElseThrow().name());
+        Assertions.assertEquals(2, gateway.snapshot().size());
+        Assertions.assertEquals(1, ((CategoryUpdateResult.Updated) result).category().getVersion());
+        Assertions.assertInstanceOf(CategoryUpdateResult.Conflict.class, gateway.update(aCategory));
+
+        final var deleted = gateway.deleteAllById(List.of(aCategory.getId(), aCategory.getId()));
+        Assertions.assertEquals(BatchItemStatus.SUCCEEDED, deleted.items().get(0).status());
+        Assertions.assertEquals(BatchItemStatus.NOT_FOUND, deleted.items().get(1).status());
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenReadersList_thenShouldOnlySeeWholeBatches() throws InterruptedException {
+        final var gateway = new CategoryCopyOnWriteGateway();
+        final var failure = new AtomicReference<Throwable>();
+        final var done = new CountDownLatch(1);
+
+        final var reader = new Thread(() -> {
+            final var params = new CategorySearchParams(0, 5, "", "name", "asc");
+            try {
+                while (done.getCount() > 0) {
+                    final var total = gateway.findAll(params).total();
+                    Assertions.assertTrue(total % 10 == 0, "saw a partial batch: " + total);
+                }
+            } catch (final Throwable ex) {
+                failure.set(ex);
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < 200; i++) {
+            final var batch = new ArrayList<Category>();
+            for (int j = 0; j < 10; j++) {
+                batch.add(Category.newCategory("Categoria " + i + "-" + j, null, true));
+            }
+            gateway.createAll(batch);
+        }
+        done.countDown();
+        reader.join();
+
+        Assertions.assertNull(failure.get());
+        Assertions.assertEquals(2_000, gateway.snapshot().size());
+    }
+
+    private static List<CategoryID> walk(final CategoryGateway gateway, final CategoryCursorSearchParams first) {
+        final var ids = new ArrayList<CategoryID>();
+        var page = gateway.findAll(first);
+        ids.addAll(ids(page.items()));
+        while (page.hasNext()) {
+            page = gateway.findAll(first.next(page.nextCursor()));
+            ids.addAll(ids(page.items()));
+        }
+        return ids;
+    }
+
+    private static List<CategoryID> ids(final List<Category> categories) {
+        return categories.stream().map(Category::getId).toList();
+    }
+}
@@ -0,0 +1,95 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CategoryCursorTest {
+
+    @Test
+    public void givenACursor_whenEncodeAndDecode_thenShouldKeepSortPosition() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedCursor = CategoryCursor.after(CategorySortField.CREATED_AT, true, aCategory);
+
+        final var actualCursor = CategoryCursor.decode(expectedCursor.encode());
+
+        Assertions.assertEquals(CategorySortField.CREATED_AT, actualCursor.sortField());
+        Assertions.assertTrue(actualCursor.descending());
+        Assertions.assertEquals(aCategory.getId(), actualCursor.position().getId());
+        Assertions.assertEquals(aCategory.getCreatedAt(), actualCursor.position().getCreatedAt());
+    }
+
+    @Test
+    public void givenAnInvalidToken_whenCallDecode_thenShouldThrowIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    public void givenPersistedCategories_whenWalkingWithCursor_thenShouldVisitEveryCategoryOnce() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var expectedNames = List.of("Animes", "Curtas", "Documentários", "Filmes", "Kids", "Séries", "Talk shows");
+        for (final var name : expectedNames) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+
+        final var actualNames = new ArrayList<String>();
+        var params = CategoryCursorSearchParams.first(3, "", "name", "asc");
+        var pages = 0;
+        while (true) {
+            final var page = gateway.findAll(params);
+            pages++;
+            page.items().forEach(category -> actualNames.add(category.getName()));
+            if (!page.hasNext()) {
+                break;
+            }
+            if (pages == 1) {
+                gateway.create(Category.newCategory("Aventura", null, true));
+            }
+            params = params.next(page.nextCursor());
+        }
+
+        Assertions.assertEquals(expectedNames, actualNames);
+        Assertions.assertEquals(3, pages);
+    }
+
+    @Test
+    public void givenACursorForAnotherSort_whenCallFindAll_thenShouldReject() {
+        final var gateway = new CategoryInMemoryGateway();
+        for (final var name : List.of("Animes", "Filmes", "Séries")) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+        final var firstPage = gateway.findAll(CategoryCursorSearchParams.first(1, null, "name", "asc"));
+
+        final var params = new CategoryCursorSearchParams(firstPage.nextCursor(), 1, null, "name", "desc", false);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> gateway.findAll(params));
+    }
+
+    @Test
+    public void givenTerms_whenCallFindAllWithCursorAndTotal_thenShouldPageOverMatches() {
+        final var gateway = new CategoryInMemoryGateway();
+        gateway.create(Category.newCategory("Filmes de ação", null, true));
+        gateway.create(Category.newCategory("Filmes de terror", null, true));
+        gateway.create(Category.newCategory("Filmes nacionais", null, true));
+        gateway.create(Category.newCategory("Séries", null, true));
+
+        final var params = new CategoryCursorSearchParams(null, 2, "filmes", "name", "desc", true);
+        final var firstPage = gateway.findAll(params);
+        final var secondPage = gateway.findAll(params.next(firstPage.nextCursor()));
+
+        Assertions.assertEquals(3L, firstPage.total());
+        Assertions.assertEquals(
+                List.of("Filmes nacionais", "Filmes de terror"),
+                firstPage.items().stream().map(Category::getName).toList()
+        );
+        Assertions.assertEquals(
+                List.of("Filmes de ação"),
+                secondPage.items().stream().map(Category::getName).toList()
+        );
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+}
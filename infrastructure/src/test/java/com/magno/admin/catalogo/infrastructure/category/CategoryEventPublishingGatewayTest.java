@@ -0,0 +1,135 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCreated;
+import com.magno.admin.catalogo.domain.category.CategoryDeactivated;
+import com.magno.admin.catalogo.domain.category.CategoryDeleted;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.category.CategoryUpdated;
+import com.magno.admin.catalogo.domain.event.DomainEvent;
+import com.magno.admin.catalogo.domain.time.DomainClock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class CategoryEventPublishingGatewayTest {
+
+    private final List<DomainEvent> published = new ArrayList<>();
+    private final CategoryEventPublishingGateway gateway =
+            new CategoryEventPublishingGateway(new CategoryInMemoryGateway(), published::addAll);
+
+    @Test
+    public void givenMutations_whenCallGateway_thenShouldPublishRecordedEvents() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        gateway.create(filmes);
+        gateway.update(gateway.findById(filmes.getId()).orElseThrow().update("Séries", null, false));
+        gateway.deleteById(filmes.getId());
+
+        Assertions.assertEquals(4, published.size());
+        Assertions.assertInstanceOf(CategoryCreated.class, published.get(0));
+        Assertions.assertInstanceOf(CategoryDeactivated.class, published.get(1));
+        Assertions.assertInstanceOf(CategoryUpdated.class, published.get(2));
+        Assertions.assertEquals(filmes.getId(), ((CategoryDeleted) published.get(3)).id());
+        Assertions.assertTrue(filmes.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenABatchWithRejectedItems_whenCallCreateAll_thenShouldPublishOnlySucceededEvents() {
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        published.clear();
+
+        final var duplicated = Category.with(filmes).update("Outro nome", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var actualResult = gateway.createAll(List.of(duplicated, series));
+
+        Assertions.assertEquals(BatchItemStatus.ALREADY_EXISTS, actualResult.items().get(0).status());
+        Assertions.assertEquals(1, published.size());
+        Assertions.assertEquals(series.getId(), ((CategoryCreated) published.get(0)).id());
+        Assertions.assertTrue(duplicated.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenMissingIds_whenCallDeleteAllById_thenShouldPublishOnlyDeletedOnes() {
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        published.clear();
+
+        gateway.deleteAllById(List.of(filmes.getId(), CategoryID.unique()));
+
+        Assertions.assertEquals(List.of(filmes.getId()), published.stream().map(event -> ((CategoryDeleted) event).id()).toList());
+    }
+
+    @Test
+    public void givenAMissingId_whenCallDeleteById_thenShouldPublishNothing() {
+        gateway.deleteById(CategoryID.unique());
+
+        Assertions.assertTrue(published.isEmpty());
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenUpdating_thenShouldPublishInTheOrderWritesWereApplied() throws Exception {
+        final var applied = Collections.synchronizedList(new ArrayList<String>());
+        final var events = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final var concurrent = new CategoryEventPublishingGateway(new CategoryInMemoryGateway() {
+            @Override
+            public CategoryUpdateResult update(final Category category) {
+                final var result = super.update(category);
+                if (result.isUpdated()) {
+                    applied.add(category.getName());
+                    LockSupport.parkNanos(100_000);
+                }
+                return result;
+            }
+        }, events::addAll);
+        final var filmes = concurrent.create(Category.newCategory("Filmes", null, true));
+        events.clear();
+
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (int writer = 0; writer < 4; writer++) {
+                final var prefix = "Writer " + writer + " ";
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        while (!concurrent.update(concurrent.findById(filmes.getId()).orElseThrow().update(prefix + i, null, true)).isUpdated()) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(400, applied.size());
+        Assertions.assertEquals(applied, events.stream().map(event -> ((CategoryUpdated) event).name()).toList());
+    }
+
+    @Test
+    public void givenAFixedDomainClock_whenDeleting_thenShouldStampTheEventWithIt() {
+        final var now = Instant.parse("2024-01-02T03:04:05Z");
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        published.clear();
+        try {
+            Category.useClock(DomainClock.fixed(now));
+            gateway.deleteById(filmes.getId());
+        } finally {
+            Category.useClock(DomainClock.system());
+        }
+
+        Assertions.assertEquals(now, ((CategoryDeleted) published.get(0)).occurredOn());
+    }
+}
@@ -0,0 +1,292 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemResult;
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryTimeBucket;
+import com.magno.admin.catalogo.domain.category.CategoryTimeField;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class CategoryInMemoryGatewayTest {
+
+    @Test
+    public void givenAValidCategory_whenCallCreate_thenShouldPersistACopy() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        final var actualCategory = gateway.create(aCategory);
+        aCategory.update("Séries", "Outra descrição", false);
+
+        final var persistedCategory = gateway.findById(aCategory.getId()).orElseThrow();
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
+        Assertions.assertEquals("Filmes", persistedCategory.getName());
+        Assertions.assertEquals("A categoria mais assistida", persistedCategory.getDescription());
+        Assertions.assertTrue(persistedCategory.isActive());
+        Assertions.assertEquals(1, gateway.activeCount());
+    }
+
+    @Test
+    public void givenAnExistingId_whenCallCreate_thenShouldThrowAndKeepTheStoredCategory() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+        final var actualException = Assertions.assertThrows(
+                ConflictException.class,
+                () -> gateway.create(Category.with(filmes).update("Séries", null, false))
+        );
+
+        Assertions.assertEquals("Category with ID %s already exists".formatted(filmes.getId().getValue()), actualException.getMessage());
+        Assertions.assertEquals("Filmes", gateway.findById(filmes.getId()).orElseThrow().getName());
+        Assertions.assertEquals(new CategoryStatusCounts(1, 1, 0), gateway.countByStatus());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallUpdate_thenShouldReindexIt() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Documentários", null, true));
+
+        gateway.update(aCategory.update("Animes", null, false));
+
+        final var actualPage = gateway.findAll(new CategorySearchParams(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals("Animes", actualPage.items().get(0).getName());
+        Assertions.assertEquals("Documentários", actualPage.items().get(1).getName());
+        Assertions.assertEquals(1, gateway.activeCount());
+        Assertions.assertEquals(1, gateway.inactiveCount());
+        Assertions.assertEquals(List.of(aCategory.getId()), gateway.findDeactivatedBefore(Instant.MAX));
+    }
+
+    @Test
+    public void givenAStaleCategory_whenCallUpdate_thenShouldReturnConflictAndKeepTheStoredState() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        final var firstEditor = gateway.findById(aCategory.getId()).orElseThrow();
+        final var secondEditor = gateway.findById(aCategory.getId()).orElseThrow();
+
+        final var firstResult = gateway.update(firstEditor.update("Séries", null, true));
+        final var secondResult = gateway.update(secondEditor.update("Animes", null, true));
+
+        Assertions.assertEquals(1, ((CategoryUpdateResult.Updated) firstResult).category().getVersion());
+        Assertions.assertEquals(new CategoryUpdateResult.Conflict(aCategory.getId(), 0, 1), secondResult);
+        Assertions.assertEquals("Séries", gateway.findById(aCategory.getId()).orElseThrow().getName());
+        Assertions.assertEquals(
+                new CategoryUpdateResult.NotFound(CategoryID.from(0, 1)),
+                gateway.update(new Category(CategoryID.from(0, 1), "Kids", null, true, null, null, null))
+        );
+    }
+
+    @Test
+    public void givenAStaleItem_whenCallUpdateAll_thenShouldReportConflict() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Séries", null, true));
+        gateway.update(Category.with(series).update("Séries e Novelas", null, true));
+
+        final var actualResult = gateway.updateAll(List.of(
+                Category.with(filmes).update("Filmes e Documentários", null, true),
+                Category.with(series).update("Novelas", null, true)
+        ));
+
+        Assertions.assertEquals(BatchItemStatus.SUCCEEDED, actualResult.items().get(0).status());
+        Assertions.assertEquals(BatchItemStatus.CONFLICT, actualResult.items().get(1).status());
+        Assertions.assertEquals(1, gateway.findById(filmes.getId()).orElseThrow().getVersion());
+        Assertions.assertEquals("Séries e Novelas", gateway.findById(series.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenManyCategories_whenCallStreamAll_thenShouldWalkEveryCursorPageInOrder() {
+        final var gateway = new CategoryInMemoryGateway();
+        for (final var name : List.of("Kids", "Filmes", "Animes", "Séries", "Documentários")) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+
+        try (final var actualStream = gateway.streamAll(CategoryCursorSearchParams.first(2, "", "name", "desc"))) {
+            Assertions.assertEquals(
+                    List.of("Séries", "Kids", "Filmes", "Documentários", "Animes"),
+                    actualStream.map(Category::getName).toList()
+            );
+        }
+    }
+
+    @Test
+    public void givenManyWrites_whenCallFindAllOnDeepPages_thenShouldMatchTheSortedCatalog() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var expected = new ArrayList<String>();
+        for (int i = 0; i < 600; i++) {
+            final var category = gateway.create(Category.newCategory("Categoria %04d".formatted(i), null, true));
+            if (i % 5 == 0) {
+                gateway.deleteById(category.getId());
+            } else if (i % 7 == 0) {
+                gateway.update(category.update("Renomeada %04d".formatted(i), null, true));
+                expected.add("Renomeada %04d".formatted(i));
+            } else {
+                expected.add(category.getName());
+            }
+        }
+        expected.sort(Comparator.naturalOrder());
+        final var reversed = new ArrayList<>(expected);
+        reversed.sort(Comparator.reverseOrder());
+
+        final var ascending = gateway.findAll(new CategorySearchParams(53, 7, "", "name", "asc"));
+        final var descending = gateway.findAll(new CategorySearchParams(53, 7, "", "name", "desc"));
+        final var filtered = gateway.findAll(new CategorySearchParams(5, 7, "renomeada", "name", "asc"));
+        final var pastTheEnd = gateway.findAll(new CategorySearchParams(100, 7, "", "name", "asc"));
+
+        Assertions.assertEquals(expected.size(), ascending.total());
+        Assertions.assertEquals(expected.subList(371, 378), ascending.items().stream().map(Category::getName).toList());
+        Assertions.assertEquals(
+                reversed.subList(371, 378),
+                descending.items().stream().map(Category::getName).toList()
+        );
+        final var renamed = expected.stream().filter(name -> name.startsWith("Renomeada")).toList();
+        Assertions.assertEquals(renamed.size(), filtered.total());
+        Assertions.assertEquals(renamed.subList(35, 42), filtered.items().stream().map(Category::getName).toList());
+        Assertions.assertTrue(pastTheEnd.items().isEmpty());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallDeleteById_thenShouldRemoveIt() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.deleteById(aCategory.getId());
+
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+        Assertions.assertEquals(0, gateway.findAll(new CategorySearchParams(0, 10, "", "name", "asc")).total());
+        Assertions.assertEquals(0, gateway.activeCount());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallFindAllSortedByNameDesc_thenShouldReturnRequestedPage() {
+        final var gateway = new CategoryInMemoryGateway();
+        for (final var name : List.of("Filmes", "Séries", "Animes", "Documentários", "Kids")) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+
+        final var actualPage = gateway.findAll(new CategorySearchParams(1, 2, "", "name", "DESC"));
+
+        Assertions.assertEquals(1, actualPage.currentPage());
+        Assertions.assertEquals(2, actualPage.perPage());
+        Assertions.assertEquals(5, actualPage.total());
+        Assertions.assertEquals(
+                List.of("Filmes", "Documentários"),
+                actualPage.items().stream().map(Category::getName).toList()
+        );
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallFindAllSortedByCreatedAt_thenShouldReturnInsertionOrder() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var first = Category.newCategory("Filmes", null, true);
+        final var second = Category.newCategory("Animes", null, true);
+        final var third = Category.newCategory("Séries", null, true);
+        gateway.create(new Category(first.getId(), first.getName(), null, true, Instant.ofEpochSecond(10), Instant.ofEpochSecond(10), null));
+        gateway.create(new Category(second.getId(), second.getName(), null, true, Instant.ofEpochSecond(20), Instant.ofEpochSecond(20), null));
+        gateway.create(new Category(third.getId(), third.getName(), null, true, Instant.ofEpochSecond(30), Instant.ofEpochSecond(30), null));
+
+        final var actualPage = gateway.findAll(new CategorySearchParams(0, 10, null, "createdAt", "asc"));
+
+        Assertions.assertEquals(
+                List.of("Filmes", "Animes", "Séries"),
+                actualPage.items().stream().map(Category::getName).toList()
+        );
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallFindAllWithTerms_thenShouldFilterByNameOrDescription() {
+        final var gateway = new CategoryInMemoryGateway();
+        gateway.create(Category.newCategory("Filmes", "Longas metragens", true));
+        gateway.create(Category.newCategory("Séries", "Episódios semanais", true));
+        gateway.create(Category.newCategory("Curtas", "Filmes com menos de 40 minutos", true));
+
+        final var actualPage = gateway.findAll(new CategorySearchParams(0, 10, "filmes", "name", "asc"));
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(
+                List.of("Curtas", "Filmes"),
+                actualPage.items().stream().map(Category::getName).toList()
+        );
+    }
+
+    @Test
+    public void givenABatch_whenCallCreateUpdateAndDeleteAll_thenShouldReportPerItemStatus() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        gateway.create(filmes);
+
+        final var created = gateway.createAll(List.of(filmes, series));
+        final var updated = gateway.updateAll(List.of(
+                Category.with(series).update("Séries e novelas", null, true),
+                Category.newCategory("Kids", null, true)
+        ));
+        final var deleted = gateway.deleteAllById(List.of(filmes.getId(), filmes.getId()));
+
+        Assertions.assertEquals(
+                List.of(BatchItemStatus.ALREADY_EXISTS, BatchItemStatus.SUCCEEDED),
+                created.items().stream().map(BatchItemResult::status).toList()
+        );
+        Assertions.assertEquals(
+                List.of(BatchItemStatus.SUCCEEDED, BatchItemStatus.NOT_FOUND),
+                updated.items().stream().map(BatchItemResult::status).toList()
+        );
+        Assertions.assertEquals(
+                List.of(BatchItemStatus.SUCCEEDED, BatchItemStatus.NOT_FOUND),
+                deleted.items().stream().map(BatchItemResult::status).toList()
+        );
+        Assertions.assertEquals(
+                List.of("Séries e novelas"),
+                gateway.findAllById(List.of(filmes.getId(), series.getId())).stream().map(Category::getName).toList()
+        );
+    }
+
+    @Test
+    public void givenMutations_whenCallAggregations_thenShouldKeepCountersAndHistogramsInStep() {
+        final var gateway = new CategoryInMemoryGateway();
+        final var day1 = Instant.parse("2024-03-01T10:00:00Z");
+        final var day2 = Instant.parse("2024-03-02T10:00:00Z");
+        final var first = gateway.create(new Category(CategoryID.from(0, 1), "Filmes", null, true, day1, day1, null));
+        gateway.createAll(List.of(
+                new Category(CategoryID.from(0, 2), "Séries", null, true, day1, day1, null),
+                new Category(CategoryID.from(0, 3), "Kids", null, false, day2, day2, day2)
+        ));
+
+        gateway.update(first.update("Filmes", null, false));
+        gateway.deleteById(CategoryID.from(0, 2));
+
+        Assertions.assertEquals(new CategoryStatusCounts(2, 0, 2), gateway.countByStatus());
+        final var byCreation = CategoryHistogramParams.of(CategoryTimeField.CREATED_AT, CategoryTimeBucket.DAY);
+        Assertions.assertEquals(List.of(
+                new CategoryHistogramBucket(Instant.parse("2024-03-01T00:00:00Z"), 1),
+                new CategoryHistogramBucket(Instant.parse("2024-03-02T00:00:00Z"), 1)
+        ), gateway.histogram(byCreation));
+
+        final var byUpdateThisMonth = new CategoryHistogramParams(
+                CategoryTimeField.UPDATED_AT,
+                CategoryTimeBucket.MONTH,
+                Instant.parse("2024-03-01T00:00:00Z"),
+                Instant.parse("2024-04-01T00:00:00Z")
+        );
+        Assertions.assertEquals(
+                List.of(new CategoryHistogramBucket(Instant.parse("2024-03-01T00:00:00Z"), 1)),
+                gateway.histogram(byUpdateThisMonth)
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.application.metrics.InMemoryMetricsRegistry;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CategoryMetricsGatewayTest {
+
+    @Test
+    public void givenGatewayCalls_whenInstrumented_thenShouldRecordLatencyMissesConflictsAndRejectedItems() {
+        final var registry = new InMemoryMetricsRegistry();
+        final var gateway = new CategoryMetricsGateway(new CategoryInMemoryGateway(), registry);
+
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.findById(filmes.getId());
+        gateway.findById(CategoryID.unique());
+        gateway.update(Category.with(filmes).update("Séries", null, true));
+        gateway.update(Category.with(filmes).update("Animes", null, true));
+        gateway.deleteAllById(List.of(filmes.getId(), CategoryID.unique()));
+
+        Assertions.assertEquals(1, registry.latency("category.gateway.create.latency").snapshot().count());
+        Assertions.assertEquals(2, registry.latency("category.gateway.findById.latency").snapshot().count());
+        Assertions.assertEquals(1, registry.counter("category.gateway.findById.misses").count());
+        Assertions.assertEquals(1, registry.counter("category.gateway.update.conflicts").count());
+        Assertions.assertEquals(1, registry.counter("category.gateway.deleteAllById.rejectedItems").count());
+        Assertions.assertEquals(0, registry.counter("category.gateway.update.failures").count());
+    }
+
+    @Test
+    public void givenAFailingDelegate_whenInstrumented_thenShouldCountTheFailureAndRethrow() {
+        final var registry = new InMemoryMetricsRegistry();
+        final var gateway = new CategoryMetricsGateway(new CategoryInMemoryGateway() {
+            @Override
+            public Category create(final Category category) {
+                throw new IllegalStateException("disk full");
+            }
+        }, registry);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.create(Category.newCategory("Filmes", null, true)));
+
+        Assertions.assertEquals(1, registry.counter("category.gateway.create.failures").count());
+        Assertions.assertEquals(1, registry.latency("category.gateway.create.latency").snapshot().count());
+    }
+}
@@ -0,0 +1,120 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CategoryQueryCachingGatewayTest {
+
+    @Test
+    public void givenEquivalentParams_whenCallFindAll_thenShouldHitTheSameEntry() {
+        final var backend = new CountingGateway();
+        final var gateway = new CategoryQueryCachingGateway(backend);
+        gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.findAll(new CategorySearchParams(0, 10, null, null, null));
+        gateway.findAll(new CategorySearchParams(0, 10, "  ", "name", "ASC"));
+        final var actualPage = gateway.findAll(new CategorySearchParams(0, 10, "", " NAME ", "asc"));
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(1, backend.findAllCalls.get());
+        Assertions.assertEquals(2, gateway.stats().hits());
+    }
+
+    @Test
+    public void givenACachedPage_whenAWriteHappens_thenShouldQueryTheBackendAgain() {
+        final var backend = new CountingGateway();
+        final var gateway = new CategoryQueryCachingGateway(backend);
+        final var params = new CategorySearchParams(0, 10, "", "name", "asc");
+        gateway.findAll(params);
+
+        gateway.create(Category.newCategory("Filmes", null, true));
+        final var actualPage = gateway.findAll(params);
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(2, backend.findAllCalls.get());
+    }
+
+    @Test
+    public void givenAHotQuerySet_whenAWriteHappens_thenShouldReadmitEveryQueryAfterOneMiss() {
+        final var gateway = new CategoryQueryCachingGateway(new CountingGateway(), 64);
+        final var queries = new ArrayList<CategorySearchParams>();
+        for (int i = 0; i < 40; i++) {
+            queries.add(new CategorySearchParams(i, 10, "", "name", "asc"));
+        }
+        for (int round = 0; round < 3; round++) {
+            queries.forEach(gateway::findAll);
+        }
+
+        final var cached = gateway.stats();
+        gateway.create(Category.newCategory("Filmes", null, true));
+        Assertions.assertEquals(cached, gateway.stats());
+
+        queries.forEach(gateway::findAll);
+        final var before = gateway.stats();
+        queries.forEach(gateway::findAll);
+        final var after = gateway.stats();
+
+        Assertions.assertEquals(queries.size(), before.misses() - cached.misses());
+        Assertions.assertEquals(cached.size(), before.size());
+        Assertions.assertEquals(0, after.rejections() - before.rejections());
+        Assertions.assertEquals(queries.size(), after.hits() - before.hits());
+    }
+
+    @Test
+    public void givenConcurrentIdenticalMisses_whenCallFindAll_thenShouldQueryTheBackendOnce() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var backend = new CountingGateway() {
+            @Override
+            public Pagination<Category> findAll(final CategorySearchParams params) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findAll(params);
+            }
+        };
+        final var gateway = new CategoryQueryCachingGateway(backend);
+        final var params = new CategorySearchParams(0, 10, "", "name", "asc");
+
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var futures = new ArrayList<Future<Pagination<Category>>>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> gateway.findAll(params)));
+            }
+            while (gateway.collapsedQueries() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (final var future : futures) {
+                Assertions.assertEquals(0, future.get(5, TimeUnit.SECONDS).total());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, backend.findAllCalls.get());
+    }
+
+    private static class CountingGateway extends CategoryInMemoryGateway {
+
+        final AtomicInteger findAllCalls = new AtomicInteger();
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchParams params) {
+            findAllCalls.incrementAndGet();
+            return super.findAll(params);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryCursorSearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryGateway;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryTimeBucket;
+import com.magno.admin.catalogo.domain.category.CategoryTimeField;
+import com.magno.admin.catalogo.domain.pagination.CursorPagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CategoryShardedGatewayTest {
+
+    @Test
+    public void givenCategories_whenCallSingleIdMethods_thenShouldRouteToExactlyOneShard() {
+        final var shards = List.<CategoryInMemoryGateway>of(new CategoryInMemoryGateway(), new CategoryInMemoryGateway(), new CategoryInMemoryGateway());
+        final var gateway = new CategoryShardedGateway(List.copyOf(shards));
+        final var categories = populate(gateway, new CategoryInMemoryGateway(), 300);
+
+        for (final var category : categories) {
+            final var owner = gateway.shardOf(category.getId());
+            for (int i = 0; i < shards.size(); i++) {
+                Assertions.assertEquals(i == owner, shards.get(i).findById(category.getId()).isPresent());
+            }
+        }
+        for (final var shard : shards) {
+            Assertions.assertTrue(shard.size() > 50);
+        }
+
+        final var aCategory = gateway.findById(categories.get(0).getId()).orElseThrow();
+        Assertions.assertTrue(gateway.update(aCategory.update("Renomeada", null, true)).isUpdated());
+        Assertions.assertEquals("Renomeada", gateway.findById(aCategory.getId()).orElseThrow().getName());
+
+        gateway.deleteById(aCategory.getId());
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+        Assertions.assertEquals(299, shards.stream().mapToInt(CategoryInMemoryGateway::size).sum());
+    }
+
+    @Test
+    public void givenShardedCategories_whenSearch_thenShouldMatchASingleStore() {
+        final var single = new CategoryInMemoryGateway();
+        final var gateway = new CategoryShardedGateway(List.of(new CategoryInMemoryGateway(), new CategoryInMemoryGateway(), new CategoryInMemoryGateway(), new CategoryInMemoryGateway()));
+        populate(gateway, single, 120);
+
+        for (final var sort : List.of("name", "createdAt", "updatedAt")) {
+            for (final var direction : List.of("asc", "desc")) {
+                for (final var terms : List.of("", "filmes")) {
+                    for (int page = 0; page < 6; page++) {
+                        final var params = new CategorySearchParams(page, 25, terms, sort, direction);
+                        final var expected = single.findAll(params);
+                        final var actual = gateway.findAll(params);
+                        Assertions.assertEquals(expected.total(), actual.total());
+                        Assertions.assertEquals(ids(expected.items()), ids(actual.items()));
+                    }
+
+                    final var first = new CategoryCursorSearchParams(null, 7, terms, sort, direction, true);
+                    Assertions.assertEquals(walk(single, first), walk(gateway, first));
+                    Assertions.assertEquals(single.findAll(first).total(), gateway.findAll(first).total());
+                    try (final var expected = single.streamAll(first); final var actual = gateway.streamAll(first)) {
+                        Assertions.assertEquals(ids(expected.toList()), ids(actual.toList()));
+                    }
+                }
+            }
+        }
+
+        Assertions.assertEquals(single.countByStatus(), gateway.countByStatus());
+        final var byDay = CategoryHistogramParams.of(CategoryTimeField.UPDATED_AT, CategoryTimeBucket.DAY);
+        Assertions.assertEquals(single.histogram(byDay), gateway.histogram(byDay));
+    }
+
+    @Test
+    public void givenAnEarlyPage_whenSearch_thenShouldNotReadWholeShards() {
+        final var read = new AtomicLong();
+        final var shards = new ArrayList<CategoryGateway>();
+        for (int i = 0; i < 4; i++) {
+            shards.add(new CategoryInMemoryGateway() {
+                @Override
+                public CursorPagination<Category> findAll(final CategoryCursorSearchParams params) {
+                    final var page = super.findAll(params);
+                    read.addAndGet(page.items().size());
+                    return page;
+                }
+            });
+        }
+        final var gateway = new CategoryShardedGateway(shards);
+        populate(gateway, new CategoryInMemoryGateway(), 4_000);
+
+        final var actualPage = gateway.findAll(new CategorySearchParams(1, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(4_000, actualPage.total());
+        Assertions.assertEquals(10, actualPage.items().size());
+        Assertions.assertTrue(read.get() <= 4 * 20, "read " + read.get() + " rows");
+    }
+
+    @Test
+    public void givenABatchSpanningShards_whenCallBatchMethods_thenShouldKeepInputIndexes() {
+        final var gateway = new CategoryShardedGateway(List.of(new CategoryInMemoryGateway(), new CategoryInMemoryGateway()));
+        final var existing = gateway.create(Category.newCategory("Existente", null, true));
+        final var batch = new ArrayList<Category>();
+        for (int i = 0; i < 20; i++) {
+            batch.add(Category.newCategory("Categoria " + i, null, true));
+        }
+        batch.add(7, existing);
+
+        final var created = gateway.createAll(batch);
+
+        Assertions.assertEquals(21, created.items().size());
+        for (int i = 0; i < batch.size(); i++) {
+            Assertions.assertEquals(i, created.items().get(i).index());
+            Assertions.assertEquals(batch.get(i).getId(), created.items().get(i).id());
+        }
+        Assertions.assertEquals(BatchItemStatus.ALREADY_EXISTS, created.items().get(7).status());
+        Assertions.assertEquals(20, created.succeeded());
+
+        final var ids = new ArrayList<>(ids(batch));
+        ids.add(0, CategoryID.unique());
+        final var found = gateway.findAllById(ids);
+        Assertions.assertEquals(ids.subList(1, ids.size()), ids(found));
+
+        final var deleted = gateway.deleteAllById(ids);
+        Assertions.assertEquals(BatchItemStatus.NOT_FOUND, deleted.items().get(0).status());
+        Assertions.assertEquals(21, deleted.succeeded());
+    }
+
+    @Test
+    public void givenAnAddedShard_whenRouting_thenShouldMoveOnlyItsShareOfIds() {
+        final var before = new CategoryShardRing(4, CategoryShardedGateway.DEFAULT_VIRTUAL_NODES);
+        final var after = new CategoryShardRing(5, CategoryShardedGateway.DEFAULT_VIRTUAL_NODES);
+
+        var moved = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final var id = CategoryID.from(0, i);
+            final var newShard = after.shardOf(id);
+            if (newShard != before.shardOf(id)) {
+                moved++;
+                Assertions.assertEquals(4, newShard);
+            }
+        }
+        Assertions.assertTrue(moved > 1_000 && moved < 3_000, "moved " + moved + " ids");
+    }
+
+    @Test
+    public void givenAnAddedShard_whenRebalance_thenShouldMoveMisplacedCategoriesToTheirOwner() {
+        final var shards = new ArrayList<CategoryGateway>(List.of(new CategoryInMemoryGateway(), new CategoryInMemoryGateway(), new CategoryInMemoryGateway()));
+        final var single = new CategoryInMemoryGateway();
+        final var categories = populate(new CategoryShardedGateway(shards), single, 1_200);
+
+        shards.add(new CategoryInMemoryGateway());
+        final var gateway = new CategoryShardedGateway(shards);
+        final var moved = gateway.rebalance();
+
+        Assertions.assertEquals(shards.get(3).countByStatus().total(), moved);
+        Assertions.assertTrue(moved > 150 && moved < 450, "moved " + moved + " categories");
+        Assertions.assertEquals(0, gateway.rebalance());
+        Assertions.assertEquals(single.countByStatus(), gateway.countByStatus());
+        for (final var category : categories) {
+            Assertions.assertEquals(category.getName(), gateway.findById(category.getId()).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void givenMoreMisplacedCategoriesThanABatch_whenRebalance_thenShouldMoveThemAllWhileWalkingTheShard() {
+        final var shards = new ArrayList<CategoryGateway>(List.of(new CategoryInMemoryGateway()));
+        final var single = new CategoryInMemoryGateway();
+        final var categories = populate(new CategoryShardedGateway(shards), single, 3_000);
+
+        shards.add(new CategoryInMemoryGateway());
+        final var gateway = new CategoryShardedGateway(shards);
+        final var moved = gateway.rebalance();
+
+        Assertions.assertTrue(moved > 2L * CategoryShardedGateway.REBALANCE_BATCH_SIZE, "moved " + moved + " categories");
+        Assertions.assertEquals(shards.get(1).countByStatus().total(), moved);
+        Assertions.assertEquals(3_000 - moved, shards.get(0).countByStatus().total());
+        Assertions.assertEquals(0, gateway.rebalance());
+        for (final var category : categories) {
+            Assertions.assertEquals(category.getName(), gateway.findById(category.getId()).orElseThrow().getName());
+        }
+    }
+
+    private static List<Category> populate(final CategoryGateway gateway, final CategoryGateway single, final int count) {
+        final var categories = new ArrayList<Category>(count);
+        final var base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < count; i++) {
+            final var at = base.plusSeconds(i % 17);
+            final var name = (i % 3 == 0 ? "Filmes " : "Séries ") + (i % 11);
+            final var category = new Category(CategoryID.from(i * 31L, i), name, null, true, at, at.plusSeconds(i % 5), null);
+            categories.add(category);
+            gateway.create(category);
+            single.create(category);
+        }
+        return categories;
+    }
+
+    private static List<CategoryID> walk(final CategoryGateway gateway, final CategoryCursorSearchParams first) {
+        final var ids = new ArrayList<CategoryID>();
+        var page = gateway.findAll(first);
+        ids.addAll(ids(page.items()));
+        while (page.hasNext()) {
+            page = gateway.findAll(first.next(page.nextCursor()));
+            ids.addAll(ids(page.items()));
+        }
+        return ids;
+    }
+
+    private static List<CategoryID> ids(final List<Category> categories) {
+        return categories.stream().map(Category::getId).toList();
+    }
+}
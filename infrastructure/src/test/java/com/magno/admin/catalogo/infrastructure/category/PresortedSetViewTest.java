@@ -0,0 +1,43 @@
+package com.magno.admin.catalogo.infrastructure.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+public class PresortedSetViewTest {
+
+    @Test
+    public void givenAnOrderOverRows_whenTakeRangeViews_thenShouldMatchATreeSet() {
+        final var rows = List.of(40, 10, 30, 0, 20, 50);
+        final var view = new PresortedSetView<>(rows, new int[]{3, 1, 4, 2, 0, 5}, Comparator.<Integer>naturalOrder());
+        final var expected = new TreeSet<>(rows);
+
+        Assertions.assertEquals(List.copyOf(expected), List.copyOf(view));
+        Assertions.assertEquals(List.copyOf(expected.subSet(10, 40)), List.copyOf(view.subSet(10, 40)));
+        Assertions.assertEquals(List.copyOf(expected.subSet(15, 35)), List.copyOf(view.subSet(15, 35)));
+        Assertions.assertEquals(List.copyOf(expected.headSet(30)), List.copyOf(view.headSet(30)));
+        Assertions.assertEquals(List.copyOf(expected.tailSet(25)), List.copyOf(view.tailSet(25)));
+        Assertions.assertEquals(List.of(20), List.copyOf(view.tailSet(10).subSet(15, 30).headSet(25)));
+        Assertions.assertEquals(10, view.subSet(10, 40).first());
+        Assertions.assertEquals(30, view.subSet(10, 40).last());
+        Assertions.assertTrue(view.subSet(21, 29).isEmpty());
+
+        Assertions.assertTrue(view.contains(30));
+        Assertions.assertFalse(view.contains(35));
+        Assertions.assertFalse(view.headSet(30).contains(30));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.subSet(40, 10));
+    }
+
+    @Test
+    public void givenARangeView_whenBuildATreeSetFromIt_thenShouldHoldOnlyThatRange() {
+        final var rows = List.of("c", "a", "d", "b");
+        final var view = new PresortedSetView<>(rows, new int[]{1, 3, 0, 2}, Comparator.<String>naturalOrder());
+
+        final var actual = new TreeSet<>(view.tailSet("b"));
+
+        Assertions.assertEquals(List.of("b", "c", "d"), List.copyOf(actual));
+    }
+}
@@ -0,0 +1,144 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CategoryBinaryCodecTest {
+
+    private static final String[] SAMPLES = {"", "Filmes", "Séries e Animações", "日本のアニメ", "🎬🍿 Cinema", "a\u0000b", "x".repeat(300)};
+
+    @Test
+    public void givenRandomCategories_whenRoundTrip_thenShouldDecodeTheSameState() {
+        final var random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            final var category = randomCategory(random);
+            final var buffer = i % 2 == 0
+                    ? ByteBuffer.allocate(CategoryBinaryCodec.sizeOf(category))
+                    : ByteBuffer.allocateDirect(CategoryBinaryCodec.sizeOf(category));
+
+            CategoryBinaryCodec.write(buffer, category);
+            Assertions.assertEquals(0, buffer.remaining(), "sizeOf should be exact");
+
+            final var decoded = CategoryBinaryCodec.readCategory(buffer.flip());
+            Assertions.assertEquals(stateOf(category), stateOf(decoded));
+            Assertions.assertEquals(0, buffer.remaining());
+        }
+    }
+
+    @Test
+    public void givenRandomPages_whenRoundTrip_thenShouldDecodeTheSamePage() {
+        final var random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            final var items = new ArrayList<Category>();
+            final var count = random.nextInt(30);
+            for (int j = 0; j < count; j++) {
+                items.add(randomCategory(random));
+            }
+            final var page = new Pagination<>(random.nextInt(1_000), random.nextInt(100), random.nextLong() & Long.MAX_VALUE, items);
+
+            final var decoded = CategoryBinaryCodec.readPagination(CategoryBinaryCodec.encode(page));
+
+            Assertions.assertEquals(page.currentPage(), decoded.currentPage());
+            Assertions.assertEquals(page.perPage(), decoded.perPage());
+            Assertions.assertEquals(page.total(), decoded.total());
+            Assertions.assertEquals(
+                    items.stream().map(CategoryBinaryCodecTest::stateOf).toList(),
+                    decoded.items().stream().map(CategoryBinaryCodecTest::stateOf).toList()
+            );
+        }
+    }
+
+    @Test
+    public void givenCategoriesWrittenBackToBack_whenRead_thenShouldStopAtEachBoundary() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var buffer = ByteBuffer.allocate(CategoryBinaryCodec.sizeOf(filmes) + CategoryBinaryCodec.sizeOf(series) + 3);
+        buffer.position(3);
+        CategoryBinaryCodec.write(buffer, filmes);
+        CategoryBinaryCodec.write(buffer, series);
+        buffer.position(3);
+
+        Assertions.assertEquals(stateOf(filmes), stateOf(CategoryBinaryCodec.readCategory(buffer.slice())));
+        Assertions.assertEquals(stateOf(filmes), stateOf(CategoryBinaryCodec.readCategory(buffer)));
+        Assertions.assertEquals(stateOf(series), stateOf(CategoryBinaryCodec.readCategory(buffer)));
+    }
+
+    @Test
+    public void givenTimestampsOfOneMutation_whenEncode_thenShouldShareThemAndStayCompact() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        final var encoded = CategoryBinaryCodec.encode(category);
+        final var decoded = CategoryBinaryCodec.readCategory(encoded.duplicate());
+
+        Assertions.assertSame(decoded.getCreatedAt(), decoded.getUpdatedAt());
+        // fixed-width id, timestamps and version alone would take 16 + 2 * 12 + 8 bytes
+        Assertions.assertTrue(encoded.remaining() < 48, "encoded " + encoded.remaining() + " bytes");
+    }
+
+    @Test
+    public void givenUnknownFormatVersion_whenRead_thenShouldFail() {
+        final var encoded = CategoryBinaryCodec.encode(Category.newCategory("Filmes", null, true));
+        encoded.put(0, (byte) 99);
+
+        final var error = Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryBinaryCodec.readCategory(encoded));
+        Assertions.assertEquals("Unsupported category format version 99", error.getMessage());
+    }
+
+    @Test
+    public void givenVarints_whenRoundTrip_thenShouldUseTheComputedSize() {
+        final var values = List.of(0L, 1L, 127L, 128L, 16_383L, 16_384L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE, -1L, Long.MIN_VALUE);
+        for (final var value : values) {
+            final var buffer = ByteBuffer.allocate(CategoryBinaryCodec.varLongSize(value));
+            CategoryBinaryCodec.writeVarLong(buffer, value);
+            Assertions.assertEquals(0, buffer.remaining(), "size of " + value);
+            Assertions.assertEquals(value, CategoryBinaryCodec.readVarLong(buffer.flip()));
+        }
+    }
+
+    private static Category randomCategory(final Random random) {
+        final var createdAt = random.nextInt(10) == 0 ? null : randomInstant(random);
+        final var updatedAt = random.nextInt(10) == 0 ? null
+                : random.nextBoolean() && createdAt != null ? createdAt : randomInstant(random);
+        final var deletedAt = random.nextBoolean() ? null : randomInstant(random);
+        return Category.with(
+                CategoryID.from(random.nextLong(), random.nextLong()),
+                random.nextInt(10) == 0 ? null : SAMPLES[random.nextInt(SAMPLES.length)] + random.nextInt(),
+                random.nextInt(3) == 0 ? null : SAMPLES[random.nextInt(SAMPLES.length)],
+                random.nextBoolean(),
+                createdAt,
+                updatedAt,
+                deletedAt,
+                random.nextInt(4) == 0 ? random.nextLong() & Long.MAX_VALUE : random.nextInt(100)
+        );
+    }
+
+    private static Instant randomInstant(final Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> Instant.MIN;
+            case 1 -> Instant.MAX;
+            default -> Instant.ofEpochSecond(random.nextInt() * 10L, random.nextInt(1_000_000_000));
+        };
+    }
+
+    private static String stateOf(final Category category) {
+        return String.join("|",
+                category.getId().getValue(),
+                String.valueOf(category.getName()),
+                String.valueOf(category.getDescription()),
+                String.valueOf(category.isActive()),
+                String.valueOf(category.getCreatedAt()),
+                String.valueOf(category.getUpdatedAt()),
+                String.valueOf(category.getDeletedAt()),
+                String.valueOf(category.getVersion())
+        );
+    }
+}
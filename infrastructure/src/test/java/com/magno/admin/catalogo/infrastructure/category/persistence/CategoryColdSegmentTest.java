@@ -0,0 +1,49 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CategoryColdSegmentTest {
+
+    @Test
+    public void givenHalfEmptyBlocks_whenCallAddAll_thenShouldRewriteThemWithoutLeavingHoles() {
+        final var segment = new CategoryColdSegment(4);
+        final var stored = new ArrayList<Category>();
+        for (int round = 0; round < 10; round++) {
+            final var batch = categories(round * 4, 4);
+            segment.addAll(batch);
+            stored.addAll(batch);
+
+            for (final var category : List.copyOf(stored.subList(0, Math.min(3, stored.size() - 1)))) {
+                Assertions.assertEquals(category.getName(), segment.remove(category.getId()).getName());
+                stored.remove(category);
+            }
+        }
+        segment.addAll(List.of());
+
+        Assertions.assertEquals(stored.size(), segment.size());
+        Assertions.assertTrue(segment.blockCount() <= stored.size(), "blocks " + segment.blockCount());
+        for (final var category : stored) {
+            Assertions.assertEquals(category.getName(), segment.find(category.getId()).orElseThrow().getName());
+        }
+        final var visited = new ArrayList<CategoryID>();
+        segment.forEach(category -> visited.add(category.getId()));
+        Assertions.assertEquals(stored.size(), visited.size());
+        Assertions.assertFalse(segment.contains(CategoryID.from(0, 0)));
+    }
+
+    private static List<Category> categories(final int first, final int count) {
+        final var at = Instant.parse("2024-01-01T00:00:00Z");
+        final var categories = new ArrayList<Category>(count);
+        for (int i = first; i < first + count; i++) {
+            categories.add(new Category(CategoryID.from(0, i), "Categoria " + i, null, false, at, at, at));
+        }
+        return categories;
+    }
+}
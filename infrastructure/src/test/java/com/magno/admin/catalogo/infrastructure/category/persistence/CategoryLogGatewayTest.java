@@ -0,0 +1,392 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramBucket;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryTimeBucket;
+import com.magno.admin.catalogo.domain.category.CategoryTimeField;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class CategoryLogGatewayTest {
+
+    private static final CategoryLogOptions OPTIONS = CategoryLogOptions.defaults()
+            .withInitialMappingSize(64 * 1024)
+            .withCompaction(Duration.ZERO, 0, 2.0);
+
+    private Path directory;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("category-log");
+        this.file = this.directory.resolve("categories.log");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (final Stream<Path> paths = Files.walk(this.directory)) {
+            for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    public void givenMutations_whenReopenTheLog_thenShouldRebuildTheSameState() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var kids = Category.newCategory("Kids", null, true);
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            gateway.create(filmes);
+            gateway.createAll(List.of(series, kids));
+            gateway.update(Category.with(series).deactivate());
+            gateway.deleteById(kids.getId());
+        }
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            final var actualFilmes = gateway.findById(filmes.getId()).orElseThrow();
+            final var actualSeries = gateway.findById(series.getId()).orElseThrow();
+
+            Assertions.assertEquals("Filmes", actualFilmes.getName());
+            Assertions.assertEquals("A categoria mais assistida", actualFilmes.getDescription());
+            Assertions.assertEquals(filmes.getCreatedAt(), actualFilmes.getCreatedAt());
+            Assertions.assertTrue(actualFilmes.isActive());
+            Assertions.assertFalse(actualSeries.isActive());
+            Assertions.assertNotNull(actualSeries.getDeletedAt());
+            Assertions.assertTrue(gateway.findById(kids.getId()).isEmpty());
+            Assertions.assertEquals(5, gateway.recordCount());
+            Assertions.assertEquals(2, gateway.findAll(new CategorySearchParams(0, 10, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    public void givenAFailingAppend_whenWriting_thenShouldLeaveTheIndexUnchanged() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        final var gateway = CategoryLogGateway.open(this.file, OPTIONS);
+        gateway.createAll(List.of(filmes, series));
+        gateway.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.update(Category.with(filmes).update("Kids", null, true)));
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.createAll(List.of(Category.newCategory("Kids", null, true))));
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.updateAll(List.of(Category.with(series).deactivate())));
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.deleteAllById(List.of(filmes.getId())));
+
+        Assertions.assertEquals(2, gateway.size());
+        Assertions.assertEquals("Filmes", gateway.findById(filmes.getId()).orElseThrow().getName());
+        Assertions.assertEquals(0, gateway.findById(filmes.getId()).orElseThrow().getVersion());
+        Assertions.assertTrue(gateway.findById(series.getId()).orElseThrow().isActive());
+
+        try (final var reopened = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals(2, reopened.size());
+            Assertions.assertEquals("Filmes", reopened.findById(filmes.getId()).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void givenAnExistingId_whenCallCreate_thenShouldThrowWithoutAppending() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            gateway.create(filmes);
+
+            Assertions.assertThrows(ConflictException.class, () -> gateway.create(Category.with(filmes).update("Séries", null, true)));
+            Assertions.assertEquals(1, gateway.recordCount());
+        }
+
+        try (final var reopened = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals("Filmes", reopened.findById(filmes.getId()).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void givenRepeatedIdsInABatch_whenReopenTheLog_thenShouldRebuildWhatTheIndexStored() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            gateway.createAll(List.of(filmes, Category.with(filmes).update("Kids", null, true)));
+            final var result = gateway.updateAll(List.of(
+                    Category.with(filmes).update("Filmes e curtas", null, true),
+                    Category.with(filmes).update("Séries", null, true)
+            ));
+            Assertions.assertEquals(1, result.succeeded());
+        }
+
+        try (final var reopened = CategoryLogGateway.open(this.file, OPTIONS)) {
+            final var actual = reopened.findById(filmes.getId()).orElseThrow();
+            Assertions.assertEquals("Filmes e curtas", actual.getName());
+            Assertions.assertEquals(1, actual.getVersion());
+            Assertions.assertEquals(2, reopened.recordCount());
+        }
+    }
+
+    @Test
+    public void givenATornLastRecord_whenReopenTheLog_thenShouldDropOnlyThatRecord() throws IOException {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            gateway.create(filmes);
+            gateway.create(series);
+        }
+        corruptLastRecord();
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertTrue(gateway.findById(filmes.getId()).isPresent());
+            Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+
+            gateway.create(Category.newCategory("Kids", null, true));
+        }
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals(2, gateway.recordCount());
+        }
+    }
+
+    @Test
+    public void givenManyUpdates_whenCallCompact_thenShouldKeepOnlyLiveRecords() {
+        final var categories = new ArrayList<Category>();
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            for (int i = 0; i < 10; i++) {
+                categories.add(gateway.create(Category.newCategory("Categoria " + i, null, true)));
+            }
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < categories.size(); i++) {
+                    final var category = categories.get(i);
+                    final var result = gateway.update(category.update(category.getName(), "round " + round, true));
+                    categories.set(i, ((CategoryUpdateResult.Updated) result).category());
+                }
+            }
+            Assertions.assertEquals(60, gateway.recordCount());
+
+            gateway.compact();
+            gateway.update(categories.get(0).update("Renomeada", null, false));
+
+            Assertions.assertEquals(11, gateway.recordCount());
+        }
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals(11, gateway.recordCount());
+            Assertions.assertEquals("Renomeada", gateway.findById(categories.get(0).getId()).orElseThrow().getName());
+            Assertions.assertEquals(6, gateway.findById(categories.get(0).getId()).orElseThrow().getVersion());
+            Assertions.assertEquals(5, gateway.findById(categories.get(9).getId()).orElseThrow().getVersion());
+            Assertions.assertEquals("round 4", gateway.findById(categories.get(9).getId()).orElseThrow().getDescription());
+        }
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenUsingGroupCommit_thenShouldPersistEveryWrite() throws Exception {
+        final var executor = Executors.newFixedThreadPool(8);
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 8; t++) {
+                final var thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        gateway.create(Category.newCategory("Categoria " + thread + "-" + i, null, true));
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals(800, gateway.findAll(new CategorySearchParams(0, 1, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    public void givenConcurrentUpdatesOfOneCategory_whenUsingGroupCommit_thenShouldApplyEachOnceAndReadTheirOwnWrites() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var executor = Executors.newFixedThreadPool(4);
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            gateway.create(filmes);
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 4; t++) {
+                final var thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        CategoryUpdateResult result;
+                        do {
+                            final var current = gateway.findById(filmes.getId()).orElseThrow();
+                            result = gateway.update(current.update("Filmes " + thread + "-" + i, null, true));
+                        } while (!result.isUpdated());
+
+                        final var written = ((CategoryUpdateResult.Updated) result).category().getVersion();
+                        Assertions.assertTrue(gateway.findById(filmes.getId()).orElseThrow().getVersion() >= written);
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            Assertions.assertEquals(200, gateway.findById(filmes.getId()).orElseThrow().getVersion());
+            Assertions.assertEquals(201, gateway.recordCount());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (final var reopened = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals(200, reopened.findById(filmes.getId()).orElseThrow().getVersion());
+        }
+    }
+
+    @Test
+    public void givenAMissingId_whenCallDeleteById_thenShouldNotAppend() {
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+            gateway.deleteById(CategoryID.unique());
+            gateway.deleteById(filmes.getId());
+            gateway.deleteById(filmes.getId());
+
+            Assertions.assertEquals(2, gateway.recordCount());
+            Assertions.assertEquals(0, gateway.size());
+        }
+    }
+
+    @Test
+    public void givenASnapshot_whenReopenTheLog_thenShouldRestoreItAndReplayOnlyLaterRecords() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var kids = Category.newCategory("Kids", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final long snapshotPosition;
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            gateway.createAll(List.of(filmes, series, kids));
+            gateway.update(Category.with(series).deactivate());
+            gateway.snapshot();
+            snapshotPosition = latestSnapshotLsn();
+
+            gateway.create(documentarios);
+            gateway.deleteById(kids.getId());
+        }
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals(snapshotPosition, gateway.restoredFrom());
+            Assertions.assertEquals(6, gateway.recordCount());
+            Assertions.assertEquals(3, gateway.size());
+
+            final var actualFilmes = gateway.findById(filmes.getId()).orElseThrow();
+            Assertions.assertEquals("A categoria mais assistida", actualFilmes.getDescription());
+            Assertions.assertEquals(filmes.getCreatedAt(), actualFilmes.getCreatedAt());
+            Assertions.assertFalse(gateway.findById(series.getId()).orElseThrow().isActive());
+            Assertions.assertTrue(gateway.findById(kids.getId()).isEmpty());
+            Assertions.assertEquals(new CategoryStatusCounts(3, 2, 1), gateway.countByStatus());
+            final var createdByDay = CategoryHistogramParams.of(CategoryTimeField.CREATED_AT, CategoryTimeBucket.DAY);
+            Assertions.assertEquals(3, gateway.histogram(createdByDay).stream().mapToLong(CategoryHistogramBucket::count).sum());
+
+            final var byName = gateway.findAll(new CategorySearchParams(0, 10, "", "name", "desc")).items();
+            Assertions.assertEquals(List.of("Séries", "Filmes", "Documentários"), byName.stream().map(Category::getName).toList());
+
+            final var bySerie = gateway.findAll(new CategorySearchParams(0, 10, "serie", "name", "asc")).items();
+            Assertions.assertEquals(List.of(series.getId()), bySerie.stream().map(Category::getId).toList());
+
+            final var byDocumentario = gateway.findAll(new CategorySearchParams(0, 10, "documentario", "name", "asc")).items();
+            Assertions.assertEquals(List.of(documentarios.getId()), byDocumentario.stream().map(Category::getId).toList());
+
+            gateway.update(Category.with(actualFilmes).update("Filmes e Séries", null, true));
+            Assertions.assertEquals(2, gateway.findAll(new CategorySearchParams(0, 10, "series", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    public void givenACorruptedSnapshot_whenReopenTheLog_thenShouldReplayTheWholeLog() throws IOException {
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            gateway.create(filmes);
+            gateway.snapshot();
+        }
+        try (final var raf = new RandomAccessFile(CategorySnapshotFile.pathFor(this.file, latestSnapshotLsn()).toFile(), "rw")) {
+            raf.seek(24);
+            final var original = raf.read();
+            raf.seek(24);
+            raf.write(original ^ 0xFF);
+        }
+
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals(-1, gateway.restoredFrom());
+            Assertions.assertEquals(filmes.getId(), gateway.findById(filmes.getId()).orElseThrow().getId());
+        }
+    }
+
+    @Test
+    public void givenManySnapshots_whenCallSnapshot_thenShouldKeepOnlyTheNewestTwo() throws IOException {
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            for (int i = 0; i < 4; i++) {
+                gateway.create(Category.newCategory("Categoria " + i, null, true));
+                gateway.snapshot();
+            }
+        }
+
+        try (final Stream<Path> paths = Files.list(this.directory)) {
+            Assertions.assertEquals(2, paths.filter(CategorySnapshotFile.isSnapshotOf(this.file)).count());
+        }
+        try (final var gateway = CategoryLogGateway.open(this.file, OPTIONS)) {
+            Assertions.assertEquals(latestSnapshotLsn(), gateway.restoredFrom());
+            Assertions.assertEquals(4, gateway.size());
+        }
+    }
+
+    private long latestSnapshotLsn() {
+        try (final Stream<Path> paths = Files.list(this.directory)) {
+            return paths.filter(CategorySnapshotFile.isSnapshotOf(this.file))
+                    .map(path -> path.getFileName().toString())
+                    .mapToLong(name -> Long.parseLong(name.substring(name.lastIndexOf('-') + 1)))
+                    .max()
+                    .orElseThrow();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void corruptLastRecord() throws IOException {
+        try (final var raf = new RandomAccessFile(this.file.toFile(), "rw")) {
+            long position = CategoryLog.HEADER_SIZE;
+            long last = -1;
+            while (true) {
+                raf.seek(position);
+                final var length = raf.readInt();
+                if (length == 0) {
+                    break;
+                }
+                last = position;
+                position += 8 + length;
+            }
+            raf.seek(last + 12);
+            final var original = raf.read();
+            raf.seek(last + 12);
+            raf.write(original ^ 0xFF);
+        }
+    }
+}
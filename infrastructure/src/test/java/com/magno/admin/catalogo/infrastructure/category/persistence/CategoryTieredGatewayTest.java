@@ -0,0 +1,229 @@
+package com.magno.admin.catalogo.infrastructure.category.persistence;
+
+import com.magno.admin.catalogo.domain.batch.BatchItemStatus;
+import com.magno.admin.catalogo.domain.category.Category;
+import com.magno.admin.catalogo.domain.category.CategoryHistogramParams;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.category.CategorySearchParams;
+import com.magno.admin.catalogo.domain.category.CategoryStatusCounts;
+import com.magno.admin.catalogo.domain.category.CategoryTimeBucket;
+import com.magno.admin.catalogo.domain.category.CategoryTimeField;
+import com.magno.admin.catalogo.domain.category.CategoryUpdateResult;
+import com.magno.admin.catalogo.domain.exceptions.ConflictException;
+import com.magno.admin.catalogo.infrastructure.category.CategoryInMemoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CategoryTieredGatewayTest {
+
+    private static final CategoryTieringOptions OPTIONS = CategoryTieringOptions.defaults()
+            .withCheckInterval(Duration.ZERO)
+            .withBlockSize(4);
+
+    private static CategoryTieredGateway tieredGateway() {
+        return new CategoryTieredGateway(
+                new CategoryInMemoryGateway(),
+                OPTIONS,
+                () -> Instant.now().plus(OPTIONS.coldAfter()).plusSeconds(60)
+        );
+    }
+
+    @Test
+    public void givenLongDeactivatedCategories_whenMoveColdCategories_thenShouldLeaveListingsButStayReachable() {
+        try (final var gateway = tieredGateway()) {
+            final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+            final var series = gateway.create(Category.newCategory("Séries", null, false));
+            final var kids = gateway.create(Category.newCategory("Kids", null, false));
+            final var countsBefore = gateway.countByStatus();
+
+            Assertions.assertEquals(2, gateway.moveColdCategories());
+            Assertions.assertEquals(2, gateway.coldSize());
+            Assertions.assertTrue(gateway.coldBytes() > 0);
+
+            final var hotPage = gateway.findAll(new CategorySearchParams(0, 10, "", "name", "asc"));
+            Assertions.assertEquals(1, hotPage.total());
+            Assertions.assertEquals(filmes.getId(), hotPage.items().get(0).getId());
+
+            final var cold = gateway.findById(series.getId()).orElseThrow();
+            Assertions.assertEquals("Séries", cold.getName());
+            Assertions.assertEquals(series.getDeletedAt(), cold.getDeletedAt());
+            Assertions.assertEquals(series.getVersion(), cold.getVersion());
+            Assertions.assertEquals(3, gateway.findAllById(List.of(kids.getId(), filmes.getId(), series.getId())).size());
+
+            Assertions.assertEquals(countsBefore, gateway.countByStatus());
+            Assertions.assertEquals(new CategoryStatusCounts(3, 1, 2), gateway.countByStatus());
+            final var histogram = gateway.histogram(CategoryHistogramParams.of(CategoryTimeField.CREATED_AT, CategoryTimeBucket.DAY));
+            Assertions.assertEquals(3, histogram.stream().mapToLong(bucket -> bucket.count()).sum());
+        }
+    }
+
+    @Test
+    public void givenAColdCategory_whenCreateWithItsId_thenShouldThrowAndKeepItCold() {
+        try (final var gateway = tieredGateway()) {
+            final var series = gateway.create(Category.newCategory("Séries", null, false));
+            Assertions.assertEquals(1, gateway.moveColdCategories());
+
+            Assertions.assertThrows(ConflictException.class, () -> gateway.create(Category.with(series)));
+            Assertions.assertEquals(1, gateway.coldSize());
+            Assertions.assertEquals(new CategoryStatusCounts(1, 0, 1), gateway.countByStatus());
+        }
+    }
+
+    @Test
+    public void givenColdCategories_whenFindAllIncludingCold_thenShouldMergeBothTiersInOrder() {
+        try (final var gateway = tieredGateway()) {
+            gateway.create(Category.newCategory("Bravo", null, true));
+            gateway.create(Category.newCategory("Delta", null, true));
+            gateway.create(Category.newCategory("Alpha", null, false));
+            gateway.create(Category.newCategory("Charlie", null, false));
+            gateway.create(Category.newCategory("Echo", "alpha", false));
+            gateway.moveColdCategories();
+
+            final var firstPage = gateway.findAll(new CategorySearchParams(0, 3, "", "name", "asc"), true);
+            Assertions.assertEquals(5, firstPage.total());
+            Assertions.assertEquals(List.of("Alpha", "Bravo", "Charlie"), names(firstPage.items()));
+
+            final var secondPage = gateway.findAll(new CategorySearchParams(1, 3, "", "name", "asc"), true);
+            Assertions.assertEquals(List.of("Delta", "Echo"), names(secondPage.items()));
+
+            final var matching = gateway.findAll(new CategorySearchParams(0, 10, "alp", "name", "desc"), true);
+            Assertions.assertEquals(List.of("Echo", "Alpha"), names(matching.items()));
+
+            Assertions.assertEquals(2, gateway.findAll(new CategorySearchParams(0, 10, "", "name", "asc"), false).total());
+        }
+    }
+
+    @Test
+    public void givenColdCategory_whenActivateAndUpdate_thenShouldPromoteItBack() {
+        try (final var gateway = tieredGateway()) {
+            final var series = gateway.create(Category.newCategory("Séries", null, false));
+            gateway.moveColdCategories();
+
+            final var reactivated = gateway.findById(series.getId()).orElseThrow().activate();
+            final var result = gateway.update(reactivated);
+
+            Assertions.assertInstanceOf(CategoryUpdateResult.Updated.class, result);
+            Assertions.assertEquals(0, gateway.coldSize());
+            Assertions.assertTrue(gateway.findById(series.getId()).orElseThrow().isActive());
+            Assertions.assertEquals(1, gateway.findAll(new CategorySearchParams(0, 10, "", "name", "asc")).total());
+            Assertions.assertEquals(0, gateway.moveColdCategories());
+        }
+    }
+
+    @Test
+    public void givenAPromotionBetweenTierReads_whenFindById_thenShouldStillFindTheCategory() {
+        final var afterHotMiss = new AtomicReference<Runnable>();
+        final var hot = new CategoryInMemoryGateway() {
+            @Override
+            public Optional<Category> findById(final CategoryID id) {
+                final var stored = super.findById(id);
+                runOnce(afterHotMiss);
+                return stored;
+            }
+
+            @Override
+            public List<Category> findAllById(final Collection<CategoryID> ids) {
+                final var stored = super.findAllById(ids);
+                runOnce(afterHotMiss);
+                return stored;
+            }
+        };
+        try (final var gateway = new CategoryTieredGateway(hot, OPTIONS,
+                () -> Instant.now().plus(OPTIONS.coldAfter()).plusSeconds(60))) {
+            final var series = gateway.create(Category.newCategory("Séries", null, false));
+            gateway.moveColdCategories();
+            final var reactivated = Category.with(series).activate();
+
+            afterHotMiss.set(() -> gateway.update(reactivated));
+            Assertions.assertTrue(gateway.findById(series.getId()).orElseThrow().isActive());
+
+            gateway.update(Category.with(gateway.findById(series.getId()).orElseThrow()).deactivate());
+            gateway.moveColdCategories();
+            final var again = Category.with(gateway.findById(series.getId()).orElseThrow()).activate();
+
+            afterHotMiss.set(() -> gateway.update(again));
+            Assertions.assertEquals(1, gateway.findAllById(List.of(series.getId())).size());
+        }
+    }
+
+    private static void runOnce(final AtomicReference<Runnable> action) {
+        final var next = action.getAndSet(null);
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    @Test
+    public void givenColdCategory_whenStaleUpdate_thenShouldReportConflict() {
+        try (final var gateway = tieredGateway()) {
+            final var series = gateway.create(Category.newCategory("Séries", null, false));
+            gateway.update(Category.with(series));
+            gateway.moveColdCategories();
+
+            final var result = gateway.update(Category.with(series).activate());
+
+            Assertions.assertInstanceOf(CategoryUpdateResult.Conflict.class, result);
+            Assertions.assertFalse(gateway.findById(series.getId()).orElseThrow().isActive());
+        }
+    }
+
+    @Test
+    public void givenColdCategories_whenBatchWrites_thenShouldSeeBothTiers() {
+        try (final var gateway = tieredGateway()) {
+            final var series = gateway.create(Category.newCategory("Séries", null, false));
+            gateway.moveColdCategories();
+
+            final var created = gateway.createAll(List.of(Category.with(series), Category.newCategory("Filmes", null, true)));
+            Assertions.assertEquals(BatchItemStatus.ALREADY_EXISTS, created.items().get(0).status());
+            Assertions.assertEquals(BatchItemStatus.SUCCEEDED, created.items().get(1).status());
+            Assertions.assertEquals(1, created.items().get(1).index());
+
+            final var deleted = gateway.deleteAllById(List.of(series.getId(), CategoryID.unique()));
+            Assertions.assertEquals(BatchItemStatus.SUCCEEDED, deleted.items().get(0).status());
+            Assertions.assertEquals(BatchItemStatus.NOT_FOUND, deleted.items().get(1).status());
+            Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+            Assertions.assertEquals(0, gateway.coldSize());
+        }
+    }
+
+    @Test
+    public void givenManyColdBlocks_whenRemovingAndAddingAgain_thenShouldKeepEveryCategoryReachable() {
+        try (final var gateway = tieredGateway()) {
+            final var categories = new ArrayList<Category>();
+            for (int i = 0; i < 30; i++) {
+                categories.add(gateway.create(Category.newCategory("Categoria " + i, "descrição " + i, false)));
+            }
+            Assertions.assertEquals(30, gateway.moveColdCategories());
+
+            for (int i = 0; i < 30; i += 2) {
+                gateway.deleteById(categories.get(i).getId());
+            }
+            for (int i = 30; i < 40; i++) {
+                categories.add(gateway.create(Category.newCategory("Categoria " + i, null, false)));
+            }
+            Assertions.assertEquals(10, gateway.moveColdCategories());
+            Assertions.assertEquals(25, gateway.coldSize());
+
+            for (int i = 0; i < categories.size(); i++) {
+                final var found = gateway.findById(categories.get(i).getId());
+                if (i < 30 && i % 2 == 0) {
+                    Assertions.assertTrue(found.isEmpty(), "category " + i + " should be gone");
+                } else {
+                    Assertions.assertEquals(categories.get(i).getName(), found.orElseThrow().getName());
+                }
+            }
+        }
+    }
+
+    private static List<String> names(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.magno.admin.catalogo.infrastructure.category.search;
+
+import com.magno.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+public class CategoryTermIndexTest {
+
+    @Test
+    public void givenATextWithAccentsAndPunctuation_whenCallTokenize_thenShouldNormalizeTokens() {
+        final var actualTokens = CategoryTermIndex.tokenize("Séries, Animações & FILMES-clássicos");
+
+        Assertions.assertArrayEquals(
+                new String[]{"series", "animacoes", "filmes", "classicos"},
+                actualTokens
+        );
+    }
+
+    @Test
+    public void givenIndexedCategories_whenCallSearchWithPrefix_thenShouldMatchNameAndDescription() {
+        final var index = new CategoryTermIndex();
+        final var filmes = Category.newCategory("Filmes", "Longas metragens", true);
+        final var series = Category.newCategory("Séries", "Episódios semanais", true);
+        final var curtas = Category.newCategory("Curtas", "Filmes com menos de 40 minutos", true);
+        index.add(filmes);
+        index.add(series);
+        index.add(curtas);
+
+        Assertions.assertEquals(Set.of(filmes.getId(), curtas.getId()), index.search("FIL"));
+        Assertions.assertEquals(Set.of(series.getId()), index.search("serie"));
+        Assertions.assertEquals(Set.of(series.getId()), index.search("episodios sem"));
+        Assertions.assertEquals(Set.of(), index.search("filmes episodios"));
+        Assertions.assertNull(index.search("   "));
+    }
+
+    @Test
+    public void givenAnIndexedCategory_whenReindexedAndRemoved_thenShouldDropStaleTerms() {
+        final var index = new CategoryTermIndex();
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        index.add(aCategory);
+
+        index.add(aCategory.update("Documentários", null, true));
+
+        Assertions.assertEquals(Set.of(), index.search("filmes"));
+        Assertions.assertEquals(Set.of(aCategory.getId()), index.search("docu"));
+
+        index.remove(aCategory.getId());
+
+        Assertions.assertEquals(Set.of(), index.search("docu"));
+        Assertions.assertEquals(0, index.termCount());
+    }
+}
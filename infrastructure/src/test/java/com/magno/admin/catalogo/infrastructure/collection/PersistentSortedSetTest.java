@@ -0,0 +1,111 @@
+package com.magno.admin.catalogo.infrastructure.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+public class PersistentSortedSetTest {
+
+    @Test
+    public void givenRandomWrites_whenIterate_thenShouldMatchATreeSetAndKeepOldVersions() {
+        final var random = new SplittableRandom(7);
+        final var expected = new TreeSet<Integer>();
+        var actual = PersistentSortedSet.<Integer>empty(Comparator.naturalOrder());
+        final var versions = new ArrayList<PersistentSortedSet<Integer>>();
+        final var expectedVersions = new ArrayList<List<Integer>>();
+
+        for (int i = 0; i < 5_000; i++) {
+            final var value = random.nextInt(1_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                actual = actual.without(value);
+            } else {
+                expected.add(value);
+                actual = actual.with(value);
+            }
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(List.copyOf(expected));
+            }
+        }
+
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(List.copyOf(expected), toList(actual.iterator()));
+        Assertions.assertEquals(List.copyOf(expected.descendingSet()), toList(actual.iterator(true)));
+        for (int i = 0; i < versions.size(); i++) {
+            Assertions.assertEquals(expectedVersions.get(i), toList(versions.get(i).iterator()));
+        }
+    }
+
+    @Test
+    public void givenASet_whenIterateFromRankOrAfterProbe_thenShouldStartAtThatPosition() {
+        var set = PersistentSortedSet.<Integer>empty(Comparator.naturalOrder());
+        for (int i = 0; i < 100; i += 2) {
+            set = set.with(i);
+        }
+
+        Assertions.assertEquals(List.of(20, 22, 24), toList(set.fromRank(10, false)).subList(0, 3));
+        Assertions.assertEquals(List.of(78, 76), toList(set.fromRank(10, true)).subList(0, 2));
+        Assertions.assertFalse(set.fromRank(50, false).hasNext());
+
+        Assertions.assertEquals(List.of(22, 24), toList(set.after(20, false)).subList(0, 2));
+        Assertions.assertEquals(List.of(22, 24), toList(set.after(21, false)).subList(0, 2));
+        Assertions.assertEquals(List.of(18, 16), toList(set.after(20, true)).subList(0, 2));
+        Assertions.assertEquals(List.of(), toList(set.after(98, false)));
+        Assertions.assertEquals(Integer.valueOf(40), set.get(40));
+        Assertions.assertNull(set.get(41));
+    }
+
+    @Test
+    public void givenASortedList_whenCallOfSorted_thenShouldBehaveLikeASetBuiltByWrites() {
+        final var random = new SplittableRandom(11);
+        final var sorted = new ArrayList<Integer>();
+        for (int i = 0; i < 1_000; i++) {
+            sorted.add(i * 2);
+        }
+        final var expected = new TreeSet<>(sorted);
+        var actual = PersistentSortedSet.<Integer>ofSorted(sorted, Comparator.naturalOrder());
+
+        Assertions.assertEquals(sorted, toList(actual.iterator()));
+        Assertions.assertEquals(List.of(500, 502), toList(actual.fromRank(250, false)).subList(0, 2));
+
+        for (int i = 0; i < 2_000; i++) {
+            final var value = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                expected.remove(value);
+                actual = actual.without(value);
+            } else {
+                expected.add(value);
+                actual = actual.with(value);
+            }
+        }
+
+        Assertions.assertEquals(List.copyOf(expected), toList(actual.iterator()));
+        Assertions.assertEquals(List.copyOf(expected.descendingSet()), toList(actual.iterator(true)));
+        Assertions.assertTrue(PersistentSortedSet.<Integer>ofSorted(List.of(), Comparator.naturalOrder()).isEmpty());
+    }
+
+    @Test
+    public void givenAnEqualElement_whenCallWith_thenShouldReplaceIt() {
+        final var byLength = PersistentSortedSet.<String>empty(Comparator.comparingInt(String::length));
+
+        final var actual = byLength.with("abc").with("xyz");
+
+        Assertions.assertEquals(1, actual.size());
+        Assertions.assertEquals("xyz", actual.get("123"));
+        Assertions.assertSame(actual, actual.without("12"));
+        Assertions.assertTrue(actual.without("123").isEmpty());
+    }
+
+    private static <T> List<T> toList(final Iterator<T> iterator) {
+        final var list = new ArrayList<T>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,142 @@
+package com.magno.admin.catalogo.infrastructure.event;
+
+import com.magno.admin.catalogo.domain.category.CategoryDeleted;
+import com.magno.admin.catalogo.domain.category.CategoryID;
+import com.magno.admin.catalogo.domain.event.DomainEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DomainEventDispatcherTest {
+
+    @Test
+    public void givenManyEvents_whenPublish_thenShouldDeliverThemInOrderAndInBatches() {
+        final var batches = Collections.synchronizedList(new ArrayList<List<DomainEvent>>());
+        final var expectedEvents = events(1_000);
+
+        try (final var dispatcher = new DomainEventDispatcher(batches::add, 128, 64)) {
+            for (int i = 0; i < expectedEvents.size(); i += 10) {
+                dispatcher.publish(expectedEvents.subList(i, i + 10));
+            }
+            dispatcher.flush();
+
+            Assertions.assertEquals(1_000, dispatcher.published());
+        }
+
+        final var actualEvents = batches.stream().flatMap(List::stream).toList();
+        Assertions.assertEquals(expectedEvents, actualEvents);
+        Assertions.assertTrue(batches.stream().allMatch(batch -> batch.size() <= 64));
+    }
+
+    @Test
+    public void givenASlowDownstream_whenQueueIsFull_thenPublishShouldBlock() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var dispatcher = new DomainEventDispatcher(batch -> {
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }, 4, 1);
+
+        final var publisher = new Thread(() -> dispatcher.publish(events(10)));
+        publisher.start();
+        publisher.join(200);
+
+        Assertions.assertTrue(publisher.isAlive());
+        Assertions.assertEquals(4, dispatcher.pending());
+
+        release.countDown();
+        publisher.join(TimeUnit.SECONDS.toMillis(5));
+        dispatcher.close();
+
+        Assertions.assertFalse(publisher.isAlive());
+        Assertions.assertEquals(10, dispatcher.published());
+    }
+
+    @Test
+    public void givenAFailingDownstream_whenPublish_thenShouldRetryAndThenCountAsFailed() {
+        final var attempts = new AtomicInteger();
+        final var expectedFailure = new IllegalStateException("broker unavailable");
+
+        try (final var dispatcher = new DomainEventDispatcher(batch -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw expectedFailure;
+            }
+        })) {
+            dispatcher.publish(events(1));
+            dispatcher.flush();
+            Assertions.assertEquals(1, dispatcher.published());
+
+            attempts.set(-100);
+            dispatcher.publish(events(2));
+            dispatcher.flush();
+
+            Assertions.assertEquals(2, dispatcher.failed());
+            Assertions.assertSame(expectedFailure, dispatcher.lastFailure());
+        }
+    }
+
+    @Test
+    public void givenAClosedDispatcher_whenPublish_thenShouldDeliverOnTheCallingThread() {
+        final var threads = Collections.synchronizedList(new ArrayList<Thread>());
+        final var dispatcher = new DomainEventDispatcher(batch -> threads.add(Thread.currentThread()));
+        dispatcher.close();
+
+        dispatcher.publish(events(3));
+        dispatcher.flush();
+
+        Assertions.assertEquals(List.of(Thread.currentThread()), threads);
+        Assertions.assertEquals(3, dispatcher.published());
+    }
+
+    @Test
+    public void givenConcurrentPublishers_whenClose_thenShouldDeliverEveryEventInPublishOrder() throws Exception {
+        final var delivered = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final var dispatcher = new DomainEventDispatcher(delivered::addAll, 16, 4);
+        final var published = new ArrayList<List<DomainEvent>>();
+        final var start = new CountDownLatch(1);
+        final var publishers = new ArrayList<Thread>();
+        for (int i = 0; i < 4; i++) {
+            final var events = events(500);
+            published.add(events);
+            publishers.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                for (final var event : events) {
+                    dispatcher.publish(List.of(event));
+                }
+            }));
+        }
+        publishers.forEach(Thread::start);
+
+        start.countDown();
+        dispatcher.close();
+        for (final var publisher : publishers) {
+            publisher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        Assertions.assertEquals(2_000, dispatcher.published());
+        for (final var events : published) {
+            Assertions.assertEquals(events, delivered.stream().filter(events::contains).toList());
+        }
+    }
+
+    private static List<DomainEvent> events(final int count) {
+        final var events = new ArrayList<DomainEvent>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(new CategoryDeleted(CategoryID.unique(), Instant.now()));
+        }
+        return events;
+    }
+}